@@ -0,0 +1,56 @@
+package com.creditrefinancing.simulation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honours the time the caller has left, sent by the BFF in {@code X-Request-Timeout-Ms}. A request
+ * that arrives with no time left is answered 504 without doing any work; otherwise the handling is
+ * cancelled when the time runs out, which also stops a re-pricing pass in progress.
+ */
+@Component
+@Slf4j
+public class RequestDeadlineWebFilter implements WebFilter {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (header == null) {
+            return chain.filter(exchange);
+        }
+        
+        long remainingMillis;
+        try {
+            remainingMillis = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring invalid {} header: {}", HEADER, header);
+            return chain.filter(exchange);
+        }
+        if (remainingMillis <= 0) {
+            return deadlineExceeded(exchange);
+        }
+        
+        return chain.filter(exchange)
+                .timeout(Duration.ofMillis(remainingMillis))
+                .onErrorResume(TimeoutException.class, e -> deadlineExceeded(exchange));
+    }
+
+    private Mono<Void> deadlineExceeded(ServerWebExchange exchange) {
+        log.warn("Request deadline exceeded: {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath());
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.empty();
+        }
+        exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+        return exchange.getResponse().setComplete();
+    }
+}
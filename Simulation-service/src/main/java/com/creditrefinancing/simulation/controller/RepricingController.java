@@ -0,0 +1,36 @@
+package com.creditrefinancing.simulation.controller;
+
+import com.creditrefinancing.simulation.dto.RepricingRequestDTO;
+import com.creditrefinancing.simulation.dto.RepricingResultDTO;
+import com.creditrefinancing.simulation.repricing.RepricingService;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.validation.Valid;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/simulations")
+@Tag(name = "Re-pricing", description = "Mass re-pricing of stored simulations")
+@RequiredArgsConstructor
+@Slf4j
+public class RepricingController {
+
+    private final RepricingService repricingService;
+
+    @PostMapping("/repricing")
+    @Operation(summary = "Find the stored simulations that pay less or newly qualify at a new base rate")
+    @ApiResponse(responseCode = "200", description = "Simulations re-priced successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    public Mono<ResponseEntity<RepricingResultDTO>> reprice(@Valid @RequestBody RepricingRequestDTO request) {
+        log.info("Received re-pricing request for base rate: {}", request.getBaseInterestRate());
+        
+        return repricingService.reprice(request)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,29 @@
+package com.creditrefinancing.simulation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "New base rate to re-price every outstanding simulation with")
+public class RepricingRequestDTO {
+    
+    @NotNull(message = "Base interest rate is required")
+    @DecimalMin(value = "0.00", message = "Base interest rate cannot be negative")
+    @DecimalMax(value = "30.00", message = "Base interest rate cannot exceed 30%")
+    @JsonProperty("base_interest_rate")
+    @Schema(description = "New annual base interest rate in percent", example = "3.75")
+    private BigDecimal baseInterestRate;
+    
+    @DecimalMin(value = "0.00", message = "Minimum payment reduction cannot be negative")
+    @JsonProperty("min_payment_reduction")
+    @Schema(description = "Smallest monthly payment reduction reported as a saving (default 0.01)", example = "10.00")
+    private BigDecimal minPaymentReduction;
+}
@@ -0,0 +1,47 @@
+package com.creditrefinancing.simulation.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Simulations whose payment drops or that newly fit the debt-to-income limit at a new base rate")
+public class RepricingResultDTO {
+    
+    @JsonProperty("base_interest_rate")
+    @Schema(description = "Base interest rate the simulations were re-priced with", example = "3.75")
+    private BigDecimal baseInterestRate;
+    
+    @JsonProperty("simulations_scanned")
+    @Schema(description = "Simulations in the columnar store", example = "4000000")
+    private Integer simulationsScanned;
+    
+    @JsonProperty("simulations_skipped")
+    @Schema(description = "Expired, deleted or incomplete simulations that were not re-priced", example = "120345")
+    private Long simulationsSkipped;
+    
+    @JsonProperty("lower_payment")
+    @Schema(description = "Simulations whose monthly payment drops by at least the minimum reduction", example = "2815002")
+    private Long lowerPayment;
+    
+    @JsonProperty("newly_qualifying")
+    @Schema(description = "Simulations above the maximum debt-to-income ratio before and within it now", example = "40211")
+    private Long newlyQualifying;
+    
+    @JsonProperty("affected_simulation_ids")
+    @Schema(description = "Simulation IDs with a lower payment or that newly qualify, in store order")
+    private List<String> affectedSimulationIds;
+    
+    @JsonProperty("processing_time_ms")
+    @Schema(description = "Time taken to re-price the simulations in milliseconds", example = "850")
+    private Long processingTimeMs;
+}
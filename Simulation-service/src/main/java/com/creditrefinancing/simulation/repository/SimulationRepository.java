@@ -0,0 +1,9 @@
+package com.creditrefinancing.simulation.repository;
+
+import com.creditrefinancing.simulation.model.Simulation;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SimulationRepository extends ReactiveCrudRepository<Simulation, Long> {
+}
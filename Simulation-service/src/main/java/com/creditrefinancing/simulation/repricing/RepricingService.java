@@ -0,0 +1,215 @@
+package com.creditrefinancing.simulation.repricing;
+
+import com.creditrefinancing.simulation.dto.RepricingRequestDTO;
+import com.creditrefinancing.simulation.dto.RepricingResultDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Re-prices every outstanding simulation at a new base rate in one pass over
+ * {@link SimulationColumns}.
+ * <p>
+ * The rate depends only on the loan type and the credit score tier, so the annuity factor of
+ * every (type, tier, term) is computed once per pass and each row costs a table lookup, one
+ * multiplication and a few comparisons on primitive columns. A row is affected when its monthly
+ * payment drops by at least the minimum reduction, or when its debt-to-income ratio was above the
+ * maximum and now fits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RepricingService {
+
+    private static final int CREDIT_TIERS = 4;
+    private static final int LOAN_TYPES = SimulationColumns.LOAN_TYPES.length + 1;
+    private static final BigDecimal DEFAULT_MIN_PAYMENT_REDUCTION = new BigDecimal("0.01");
+    // Rows between two cancellation checks, minus one
+    private static final int CANCELLATION_CHECK_MASK = (1 << 16) - 1;
+
+    private final SimulationColumns simulationColumns;
+    
+    @Value("${simulation.min-interest-rate:2.0}")
+    private double minInterestRate;
+    
+    @Value("${simulation.max-debt-to-income-ratio:0.43}")
+    private double maxDebtToIncomeRatio;
+    
+    @Value("${simulation.max-term-months:360}")
+    private int maxTermMonths;
+    
+    @Value("${simulation.credit-score.excellent-threshold:750}")
+    private int excellentThreshold;
+    
+    @Value("${simulation.credit-score.good-threshold:700}")
+    private int goodThreshold;
+    
+    @Value("${simulation.credit-score.fair-threshold:650}")
+    private int fairThreshold;
+    
+    @Value("${simulation.credit-score.excellent-discount:0.5}")
+    private double excellentDiscount;
+    
+    @Value("${simulation.credit-score.good-discount:0.25}")
+    private double goodDiscount;
+    
+    @Value("${simulation.credit-score.poor-penalty:1.0}")
+    private double poorPenalty;
+    
+    @Value("${simulation.loan-type.mortgage-discount:0.5}")
+    private double mortgageDiscount;
+    
+    @Value("${simulation.loan-type.auto-adjustment:0.0}")
+    private double autoAdjustment;
+    
+    @Value("${simulation.loan-type.personal-penalty:1.5}")
+    private double personalPenalty;
+
+    public Mono<RepricingResultDTO> reprice(RepricingRequestDTO repricing) {
+        log.info("Re-pricing simulations at base rate: {}", repricing.getBaseInterestRate());
+        
+        // A pass over millions of rows holds a CPU for a while, so keep it off the event loop. The
+        // pass checks for cancellation (deadline passed, caller gone) and stops early
+        return Mono.defer(() -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            return Mono.fromCallable(() -> computeRepricing(repricing, cancelled::get))
+                    .onErrorResume(CancellationException.class, e -> {
+                        log.info("{}", e.getMessage());
+                        return Mono.empty();
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnCancel(() -> cancelled.set(true));
+        });
+    }
+
+    RepricingResultDTO computeRepricing(RepricingRequestDTO repricing, BooleanSupplier cancelled) {
+        long startTime = System.currentTimeMillis();
+        
+        double[][] factors = annuityFactors(repricing.getBaseInterestRate().doubleValue());
+        BigDecimal minReduction = repricing.getMinPaymentReduction() != null
+                ? repricing.getMinPaymentReduction() : DEFAULT_MIN_PAYMENT_REDUCTION;
+        long minReductionCents = minReduction.movePointRight(2).longValue();
+        // Expiry is stored as a LocalDateTime, so compare against local time taken as UTC
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        
+        RepricingResultDTO result = simulationColumns.read(() -> scan(factors, minReductionCents, now, cancelled));
+        result.setBaseInterestRate(repricing.getBaseInterestRate());
+        result.setProcessingTimeMs(System.currentTimeMillis() - startTime);
+        
+        log.info("Re-priced {} simulations: {} lower payments, {} newly qualifying in {} ms",
+                result.getSimulationsScanned(), result.getLowerPayment(), result.getNewlyQualifying(),
+                result.getProcessingTimeMs());
+        return result;
+    }
+
+    /**
+     * The pass itself; runs under the store's read lock.
+     */
+    private RepricingResultDTO scan(double[][] factors, long minReductionCents, long now, BooleanSupplier cancelled) {
+        SimulationColumns columns = simulationColumns;
+        int size = columns.size;
+        int[] affectedRows = new int[1024];
+        int affected = 0;
+        long skipped = 0;
+        long lowerPayment = 0;
+        long newlyQualifying = 0;
+        
+        for (int row = 0; row < size; row++) {
+            if ((row & CANCELLATION_CHECK_MASK) == 0 && cancelled.getAsBoolean()) {
+                throw new CancellationException("Re-pricing cancelled after " + row + " of " + size + " rows");
+            }
+            int term = columns.termMonths[row];
+            long amount = columns.requestedAmountCents[row];
+            if (columns.expiresAtSeconds[row] <= now || term < 1 || term > maxTermMonths || amount <= 0) {
+                skipped++;
+                continue;
+            }
+            
+            double factor = factors[pricingClass(columns.loanTypes[row], columns.creditScores[row])][term];
+            long newPayment = Math.round(amount * factor);
+            long oldPayment = columns.monthlyPaymentCents[row];
+            double maxPayment = maxDebtToIncomeRatio * columns.monthlyIncomeCents[row];
+            
+            boolean lower = newPayment <= oldPayment - minReductionCents;
+            boolean qualifying = maxPayment > 0 && oldPayment > maxPayment && newPayment <= maxPayment;
+            if (lower) {
+                lowerPayment++;
+            }
+            if (qualifying) {
+                newlyQualifying++;
+            }
+            if (lower || qualifying) {
+                if (affected == affectedRows.length) {
+                    affectedRows = Arrays.copyOf(affectedRows, affected * 2);
+                }
+                affectedRows[affected++] = row;
+            }
+        }
+        
+        List<String> affectedIds = new ArrayList<>(affected);
+        for (int i = 0; i < affected; i++) {
+            affectedIds.add(columns.simulationIds[affectedRows[i]]);
+        }
+        return RepricingResultDTO.builder()
+                .simulationsScanned(size)
+                .simulationsSkipped(skipped)
+                .lowerPayment(lowerPayment)
+                .newlyQualifying(newlyQualifying)
+                .affectedSimulationIds(affectedIds)
+                .build();
+    }
+
+    private int pricingClass(byte loanType, short creditScore) {
+        int tier;
+        if (creditScore >= excellentThreshold) {
+            tier = 0;
+        } else if (creditScore >= goodThreshold) {
+            tier = 1;
+        } else if (creditScore >= fairThreshold || creditScore == 0) {
+            // Unknown scores get the fair tier, which has no adjustment
+            tier = 2;
+        } else {
+            tier = 3;
+        }
+        return loanType * CREDIT_TIERS + tier;
+    }
+
+    /**
+     * Payment per unit of principal, r / (1 - (1 + r)^-n), indexed by pricing class and term.
+     */
+    private double[][] annuityFactors(double baseRate) {
+        double[] tierAdjustments = {-excellentDiscount, -goodDiscount, 0, poorPenalty};
+        double[] typeAdjustments = new double[LOAN_TYPES];
+        typeAdjustments[Arrays.asList(SimulationColumns.LOAN_TYPES).indexOf("MORTGAGE")] = -mortgageDiscount;
+        typeAdjustments[Arrays.asList(SimulationColumns.LOAN_TYPES).indexOf("AUTO")] = autoAdjustment;
+        typeAdjustments[Arrays.asList(SimulationColumns.LOAN_TYPES).indexOf("PERSONAL")] = personalPenalty;
+        
+        double[][] factors = new double[LOAN_TYPES * CREDIT_TIERS][maxTermMonths + 1];
+        for (int loanType = 0; loanType < LOAN_TYPES; loanType++) {
+            for (int tier = 0; tier < CREDIT_TIERS; tier++) {
+                double rate = Math.max(minInterestRate, baseRate + typeAdjustments[loanType] + tierAdjustments[tier]);
+                double monthlyRate = rate / 1200;
+                double[] byTerm = factors[loanType * CREDIT_TIERS + tier];
+                for (int term = 1; term <= maxTermMonths; term++) {
+                    byTerm[term] = monthlyRate == 0
+                            ? 1.0 / term
+                            : monthlyRate / -Math.expm1(-term * Math.log1p(monthlyRate));
+                }
+            }
+        }
+        return factors;
+    }
+}
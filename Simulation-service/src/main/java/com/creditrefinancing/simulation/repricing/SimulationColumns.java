@@ -0,0 +1,158 @@
+package com.creditrefinancing.simulation.repricing;
+
+import com.creditrefinancing.simulation.model.Simulation;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Column-oriented copy of the stored simulations for mass re-pricing: one primitive array per
+ * field instead of one {@link Simulation} with a dozen BigDecimals per row. Amounts are cents,
+ * expiry epoch seconds and last update epoch nanoseconds (both UTC), and loan types
+ * {@link #LOAN_TYPES} ordinals.
+ * <p>
+ * Rows are appended on first sight of a database id and updated in place afterwards, so a row
+ * index never changes. Writers take the write lock; a scan holds the read lock for its whole
+ * pass and reads the package-private columns directly.
+ */
+@Component
+public class SimulationColumns {
+
+    static final String[] LOAN_TYPES = {"PERSONAL", "MORTGAGE", "AUTO", "BUSINESS", "STUDENT"};
+    static final byte UNKNOWN_LOAN_TYPE = (byte) LOAN_TYPES.length;
+    static final long REMOVED = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowById = new LongIntHashMap(INITIAL_CAPACITY);
+
+    int size;
+    String[] simulationIds = new String[INITIAL_CAPACITY];
+    long[] requestedAmountCents = new long[INITIAL_CAPACITY];
+    short[] termMonths = new short[INITIAL_CAPACITY];
+    byte[] loanTypes = new byte[INITIAL_CAPACITY];
+    short[] creditScores = new short[INITIAL_CAPACITY];        // 0 when unknown
+    long[] monthlyIncomeCents = new long[INITIAL_CAPACITY];    // 0 when unknown
+    long[] monthlyPaymentCents = new long[INITIAL_CAPACITY];
+    long[] expiresAtSeconds = new long[INITIAL_CAPACITY];      // Long.MAX_VALUE when it never expires, REMOVED when deleted
+    private long[] updatedAtNanos = new long[INITIAL_CAPACITY];
+
+    /**
+     * Adds or updates the row of a stored simulation. A copy older than the row (by updatedAt, to
+     * the nanosecond) is ignored, so the initial load can run while simulations are being saved.
+     */
+    public void upsert(Simulation simulation) {
+        if (simulation.getId() == null) {
+            return;
+        }
+        long updatedAt = epochNanos(simulation.getUpdatedAt(), Long.MIN_VALUE);
+        
+        lock.writeLock().lock();
+        try {
+            int row = rowById.get(simulation.getId());
+            if (row == LongIntHashMap.MISSING) {
+                row = size++;
+                ensureCapacity(size);
+                rowById.put(simulation.getId(), row);
+            } else if (updatedAt < updatedAtNanos[row]) {
+                return;
+            }
+            
+            simulationIds[row] = simulation.getSimulationId();
+            requestedAmountCents[row] = cents(simulation.getRequestedAmount());
+            termMonths[row] = simulation.getTermInMonths() != null ? simulation.getTermInMonths().shortValue() : 0;
+            loanTypes[row] = loanType(simulation.getLoanType());
+            creditScores[row] = simulation.getCreditScore() != null ? simulation.getCreditScore().shortValue() : 0;
+            monthlyIncomeCents[row] = cents(simulation.getMonthlyIncome());
+            monthlyPaymentCents[row] = cents(simulation.getMonthlyPayment());
+            expiresAtSeconds[row] = epochSeconds(simulation.getExpiresAt(), Long.MAX_VALUE);
+            updatedAtNanos[row] = updatedAt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Excludes a deleted simulation from every later scan. R2DBC has no after-delete callback,
+     * so code that deletes simulations calls this itself.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowById.get(id);
+            if (row != LongIntHashMap.MISSING) {
+                expiresAtSeconds[row] = REMOVED;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a scan over the columns; no row is added or changed until it returns.
+     */
+    <T> T read(Supplier<T> scan) {
+        lock.readLock().lock();
+        try {
+            return scan.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= simulationIds.length) {
+            return;
+        }
+        int capacity = simulationIds.length * 2;
+        simulationIds = Arrays.copyOf(simulationIds, capacity);
+        requestedAmountCents = Arrays.copyOf(requestedAmountCents, capacity);
+        termMonths = Arrays.copyOf(termMonths, capacity);
+        loanTypes = Arrays.copyOf(loanTypes, capacity);
+        creditScores = Arrays.copyOf(creditScores, capacity);
+        monthlyIncomeCents = Arrays.copyOf(monthlyIncomeCents, capacity);
+        monthlyPaymentCents = Arrays.copyOf(monthlyPaymentCents, capacity);
+        expiresAtSeconds = Arrays.copyOf(expiresAtSeconds, capacity);
+        updatedAtNanos = Arrays.copyOf(updatedAtNanos, capacity);
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount != null ? amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0;
+    }
+
+    private static long epochSeconds(LocalDateTime dateTime, long absent) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : absent;
+    }
+
+    private static long epochNanos(LocalDateTime dateTime, long absent) {
+        return dateTime != null
+                ? TimeUnit.SECONDS.toNanos(dateTime.toEpochSecond(ZoneOffset.UTC)) + dateTime.getNano()
+                : absent;
+    }
+
+    private static byte loanType(String loanType) {
+        for (byte ordinal = 0; ordinal < LOAN_TYPES.length; ordinal++) {
+            if (LOAN_TYPES[ordinal].equals(loanType)) {
+                return ordinal;
+            }
+        }
+        return UNKNOWN_LOAN_TYPE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.creditrefinancing.simulation.repricing;
+
+import com.creditrefinancing.simulation.model.Simulation;
+import com.creditrefinancing.simulation.repository.SimulationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps {@link SimulationColumns} in step with the simulations table: every saved simulation is
+ * copied in by the R2DBC after-save callback, and the existing rows are streamed in once the
+ * application is ready.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationColumnsSynchronizer implements AfterSaveCallback<Simulation> {
+
+    private final SimulationRepository simulationRepository;
+    private final SimulationColumns simulationColumns;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadColumns() {
+        long startTime = System.currentTimeMillis();
+        
+        // Rows are copied as they arrive, so the entities never pile up on the heap
+        simulationRepository.findAll()
+                .doOnNext(simulationColumns::upsert)
+                .count()
+                .subscribe(
+                        count -> log.info("Loaded {} simulations into columns in {} ms",
+                                count, System.currentTimeMillis() - startTime),
+                        error -> log.error("Error loading simulations into columns", error));
+    }
+
+    @Override
+    public Publisher<Simulation> onAfterSave(Simulation simulation, OutboundRow outboundRow, SqlIdentifier table) {
+        simulationColumns.upsert(simulation);
+        return Mono.just(simulation);
+    }
+}
@@ -0,0 +1,54 @@
+package com.creditrefinancing.simulation.repricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Long Int Hash Map Tests")
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("Should return the stored value, the latest one after an update, and MISSING for unknown keys")
+    void shouldPutAndGet() {
+        LongIntHashMap map = new LongIntHashMap(8);
+
+        map.put(42L, 1);
+        map.put(-7L, 2);
+        map.put(0L, 3);
+        map.put(42L, 4);
+
+        assertEquals(4, map.get(42L));
+        assertEquals(2, map.get(-7L));
+        assertEquals(3, map.get(0L));
+        assertEquals(LongIntHashMap.MISSING, map.get(43L));
+        assertEquals(LongIntHashMap.MISSING, map.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should keep every entry when it grows far past its expected size")
+    void shouldKeepEntriesAcrossResizes() {
+        LongIntHashMap map = new LongIntHashMap(8);
+
+        // Database ids are sequential; a stride of 1024 also puts many keys near the same slots
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * 1024L + 1, i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, map.get(i * 1024L + 1));
+        }
+        assertEquals(LongIntHashMap.MISSING, map.get(100_000 * 1024L + 1));
+        assertEquals(LongIntHashMap.MISSING, map.get(2L));
+    }
+
+    @Test
+    @DisplayName("Should reject the key reserved for empty slots")
+    void shouldRejectReservedKey() {
+        LongIntHashMap map = new LongIntHashMap(8);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+        assertEquals(LongIntHashMap.MISSING, map.get(Long.MIN_VALUE));
+    }
+}
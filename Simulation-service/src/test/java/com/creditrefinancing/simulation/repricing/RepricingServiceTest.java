@@ -0,0 +1,104 @@
+package com.creditrefinancing.simulation.repricing;
+
+import com.creditrefinancing.simulation.dto.RepricingRequestDTO;
+import com.creditrefinancing.simulation.dto.RepricingResultDTO;
+import com.creditrefinancing.simulation.model.Simulation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Repricing Service Tests")
+class RepricingServiceTest {
+
+    private SimulationColumns columns;
+    private RepricingService repricingService;
+
+    @BeforeEach
+    void setUp() {
+        columns = new SimulationColumns();
+        repricingService = new RepricingService(columns);
+        // The defaults of application.yml
+        ReflectionTestUtils.setField(repricingService, "minInterestRate", 2.0);
+        ReflectionTestUtils.setField(repricingService, "maxDebtToIncomeRatio", 0.43);
+        ReflectionTestUtils.setField(repricingService, "maxTermMonths", 360);
+        ReflectionTestUtils.setField(repricingService, "excellentThreshold", 750);
+        ReflectionTestUtils.setField(repricingService, "goodThreshold", 700);
+        ReflectionTestUtils.setField(repricingService, "fairThreshold", 650);
+        ReflectionTestUtils.setField(repricingService, "excellentDiscount", 0.5);
+        ReflectionTestUtils.setField(repricingService, "goodDiscount", 0.25);
+        ReflectionTestUtils.setField(repricingService, "poorPenalty", 1.0);
+        ReflectionTestUtils.setField(repricingService, "mortgageDiscount", 0.5);
+        ReflectionTestUtils.setField(repricingService, "autoAdjustment", 0.0);
+        ReflectionTestUtils.setField(repricingService, "personalPenalty", 1.5);
+    }
+
+    @Test
+    @DisplayName("Should report the simulations whose payment drops or that newly qualify, in store order")
+    void shouldFindAffectedSimulations() {
+        // At a 5% base rate an excellent-score mortgage is priced at 4%: 477.42 a month per 100,000 over 30 years
+        columns.upsert(mortgage(1L, "SIM-LOWER", "700.00", null, LocalDateTime.now().plusDays(30)));
+        columns.upsert(mortgage(2L, "SIM-UNCHANGED", "500.00", null, LocalDateTime.now().plusDays(30)));
+        // 520.00 is above 43% of 1,200.00 (516.00), 477.42 is within it
+        columns.upsert(mortgage(3L, "SIM-QUALIFYING", "520.00", "1200.00", LocalDateTime.now().plusDays(30)));
+        columns.upsert(mortgage(4L, "SIM-EXPIRED", "700.00", null, LocalDateTime.now().minusDays(1)));
+        columns.upsert(mortgage(5L, "SIM-REMOVED", "700.00", null, LocalDateTime.now().plusDays(30)));
+        columns.remove(5L);
+
+        RepricingResultDTO result = repricingService.computeRepricing(
+                new RepricingRequestDTO(new BigDecimal("5.00"), new BigDecimal("100.00")), () -> false);
+
+        assertEquals(5, result.getSimulationsScanned());
+        assertEquals(2L, result.getSimulationsSkipped());
+        assertEquals(1L, result.getLowerPayment());
+        assertEquals(1L, result.getNewlyQualifying());
+        assertEquals(List.of("SIM-LOWER", "SIM-QUALIFYING"), result.getAffectedSimulationIds());
+        assertEquals(new BigDecimal("5.00"), result.getBaseInterestRate());
+    }
+
+    @Test
+    @DisplayName("Should stop a cancelled pass at the next check and leave the columns writable")
+    void shouldStopWhenCancelled() {
+        for (long id = 1; id <= 70_000; id++) {
+            columns.upsert(mortgage(id, "SIM-" + id, "700.00", null, LocalDateTime.now().plusDays(30)));
+        }
+        // Not cancelled at the first check, on row 0; cancelled at the second, on row 65536
+        AtomicInteger checks = new AtomicInteger();
+
+        CancellationException exception = assertThrows(CancellationException.class,
+                () -> repricingService.computeRepricing(
+                        new RepricingRequestDTO(new BigDecimal("5.00"), null), () -> checks.incrementAndGet() > 1));
+
+        assertEquals(2, checks.get());
+        assertTrue(exception.getMessage().contains("after 65536 of 70000 rows"), exception.getMessage());
+        // The read lock was released, so saves are copied in again
+        columns.upsert(mortgage(70_001L, "SIM-70001", "700.00", null, LocalDateTime.now().plusDays(30)));
+        assertEquals(70_001, columns.size());
+    }
+
+    private static Simulation mortgage(Long id, String simulationId, String monthlyPayment, String monthlyIncome,
+                                       LocalDateTime expiresAt) {
+        return Simulation.builder()
+                .id(id)
+                .simulationId(simulationId)
+                .requestedAmount(new BigDecimal("100000.00"))
+                .termInMonths(360)
+                .loanType("MORTGAGE")
+                .creditScore(760)
+                .monthlyIncome(monthlyIncome != null ? new BigDecimal(monthlyIncome) : null)
+                .monthlyPayment(new BigDecimal(monthlyPayment))
+                .expiresAt(expiresAt)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.creditrefinancing.simulation.repricing;
+
+import com.creditrefinancing.simulation.model.Simulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Simulation Columns Tests")
+class SimulationColumnsTest {
+
+    private static final LocalDateTime SAVED_AT = LocalDateTime.of(2024, 3, 1, 12, 0, 0, 100_000_000);
+
+    private final SimulationColumns columns = new SimulationColumns();
+
+    @Test
+    @DisplayName("Should append a row per new id and update it in place afterwards")
+    void shouldUpsertRows() {
+        columns.upsert(simulation(1L, "SIM-1", "1500.00", SAVED_AT));
+        columns.upsert(simulation(2L, "SIM-2", "900.00", SAVED_AT));
+        columns.upsert(simulation(1L, "SIM-1", "1450.00", SAVED_AT.plusMinutes(1)));
+
+        assertEquals(2, columns.size());
+        assertEquals("SIM-1", columns.simulationIds[0]);
+        assertEquals(145_000, columns.monthlyPaymentCents[0]);
+        assertEquals(90_000, columns.monthlyPaymentCents[1]);
+        assertEquals(20_000_000, columns.requestedAmountCents[0]);
+        assertEquals(360, columns.termMonths[0]);
+        assertEquals(1, columns.loanTypes[0]);
+        assertEquals(760, columns.creditScores[0]);
+        assertEquals(SAVED_AT.plusDays(30).toEpochSecond(ZoneOffset.UTC), columns.expiresAtSeconds[0]);
+    }
+
+    @Test
+    @DisplayName("Should ignore a copy older than the row, even within the same second")
+    void shouldIgnoreStaleCopies() {
+        columns.upsert(simulation(1L, "SIM-1", "1450.00", SAVED_AT.plusNanos(500_000_000)));
+        // Read by the initial load before the update above was saved
+        columns.upsert(simulation(1L, "SIM-1", "1500.00", SAVED_AT));
+
+        assertEquals(1, columns.size());
+        assertEquals(145_000, columns.monthlyPaymentCents[0]);
+    }
+
+    @Test
+    @DisplayName("Should keep the row of a removed simulation but mark it removed")
+    void shouldRemoveRows() {
+        columns.upsert(simulation(1L, "SIM-1", "1500.00", SAVED_AT));
+        columns.upsert(simulation(2L, "SIM-2", "900.00", SAVED_AT));
+
+        columns.remove(1L);
+        columns.remove(3L);
+
+        assertEquals(2, columns.size());
+        assertEquals(SimulationColumns.REMOVED, columns.expiresAtSeconds[0]);
+        assertEquals(SAVED_AT.plusDays(30).toEpochSecond(ZoneOffset.UTC), columns.expiresAtSeconds[1]);
+    }
+
+    @Test
+    @DisplayName("Should skip simulations that were never saved and map unknown values to defaults")
+    void shouldHandleMissingValues() {
+        columns.upsert(simulation(null, "SIM-0", "1500.00", SAVED_AT));
+        columns.upsert(Simulation.builder().id(1L).simulationId("SIM-1").loanType("BOAT").build());
+
+        assertEquals(1, columns.size());
+        assertEquals(SimulationColumns.UNKNOWN_LOAN_TYPE, columns.loanTypes[0]);
+        assertEquals(0, columns.creditScores[0]);
+        assertEquals(0, columns.monthlyIncomeCents[0]);
+        assertEquals(Long.MAX_VALUE, columns.expiresAtSeconds[0]);
+    }
+
+    private static Simulation simulation(Long id, String simulationId, String monthlyPayment, LocalDateTime updatedAt) {
+        return Simulation.builder()
+                .id(id)
+                .simulationId(simulationId)
+                .requestedAmount(new BigDecimal("200000.00"))
+                .termInMonths(360)
+                .loanType("MORTGAGE")
+                .creditScore(760)
+                .monthlyIncome(new BigDecimal("8000.00"))
+                .monthlyPayment(new BigDecimal(monthlyPayment))
+                .expiresAt(SAVED_AT.plusDays(30))
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
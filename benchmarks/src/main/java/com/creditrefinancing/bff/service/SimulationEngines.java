@@ -0,0 +1,36 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.config.AmortizationKernelConfig;
+import com.creditrefinancing.bff.config.PricingConfig;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Wires the simulation engine the way the BFF does, without the web stack, so benchmarks
+ * measure the production beans with their default configuration. Result reuse is off, since
+ * benchmarks cycle through a fixed set of requests and would otherwise measure cache hits.
+ */
+public final class SimulationEngines {
+
+    private SimulationEngines() {
+    }
+
+    public static AnnotationConfigApplicationContext newContext() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        // Binds "1s"-style @Value durations as a Boot application does
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmarks",
+                Map.of("simulation.coalescing.reuse-window", "0s")));
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(AmortizationKernelConfig.class, PricingConfig.class, AnnuityFactorTable.class,
+                SimulationService.class, SimulationSweepService.class, SimulationStressTestService.class);
+        context.refresh();
+        return context;
+    }
+}
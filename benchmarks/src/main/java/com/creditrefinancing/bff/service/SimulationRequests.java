@@ -0,0 +1,92 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded, reproducible request mixes for the benchmarks.
+ * <p>
+ * Centred on the customer in {@code test-simulation.json}: 8,000 monthly income, 150,000
+ * outstanding at 1,800 a month, asking for 100,000 over 240 months to refinance a property
+ * (a MORTGAGE here). Amounts are log-normal around those values, so the mix crosses the large-loan
+ * bracket, the DTI thresholds and the loan-increase rule; a few requests have no income or
+ * credit score, and a few use non-standard terms.
+ */
+public final class SimulationRequests {
+
+    private static final double MONTHLY_INCOME = 8_000.00;
+    private static final double CURRENT_LOAN_BALANCE = 150_000.00;
+    private static final double CURRENT_PAYMENT_RATIO = 1_800.00 / 150_000.00;
+    private static final double REQUESTED_AMOUNT_RATIO = 100_000.00 / 150_000.00;
+
+    private static final int[] TERMS = {60, 120, 180, 240, 300, 360};
+    private static final int[] TERM_WEIGHTS = {10, 15, 20, 35, 10, 10};
+    private static final String[] LOAN_TYPES = {"MORTGAGE", "PERSONAL", "AUTO", "BUSINESS", "STUDENT"};
+    private static final int[] LOAN_TYPE_WEIGHTS = {50, 20, 15, 10, 5};
+
+    private SimulationRequests() {
+    }
+
+    public static SimulationRequestDTO[] sample(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SimulationRequestDTO[] requests = new SimulationRequestDTO[count];
+        
+        for (int i = 0; i < count; i++) {
+            double currentBalance = clamp(logNormal(random, CURRENT_LOAN_BALANCE, 0.8), 1_000, 10_000_000);
+            double currentPayment = clamp(currentBalance * logNormal(random, CURRENT_PAYMENT_RATIO, 0.2), 50, 100_000);
+            double desiredAmount = clamp(currentBalance * logNormal(random, REQUESTED_AMOUNT_RATIO, 0.4), 1_000, 10_000_000);
+            int term = random.nextInt(20) == 0 ? 12 + random.nextInt(349) : weighted(random, TERMS, TERM_WEIGHTS);
+            
+            requests[i] = new SimulationRequestDTO(
+                    "CUST-" + (10_000 + i),
+                    cents(currentBalance),
+                    cents(currentPayment),
+                    cents(desiredAmount),
+                    term,
+                    LOAN_TYPES[weighted(random, LOAN_TYPE_WEIGHTS)],
+                    random.nextInt(20) == 0 ? null : cents(clamp(logNormal(random, MONTHLY_INCOME, 0.6), 1_000, 1_000_000)),
+                    random.nextInt(20) == 0 ? null : (int) clamp(Math.round(700 + 70 * gaussian(random)), 300, 850)
+            );
+        }
+        return requests;
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * gaussian(random));
+    }
+
+    // Box-Muller; SplittableRandom has no nextGaussian
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int weighted(SplittableRandom random, int[] values, int[] weights) {
+        return values[weighted(random, weights)];
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static BigDecimal cents(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,55 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of one local simulation, as served by POST /simulation/calculate, over the
+ * {@link SimulationRequests} mix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationServiceBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    private AnnotationConfigApplicationContext context;
+    private SimulationService simulationService;
+    private SimulationRequestDTO[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = SimulationEngines.newContext();
+        simulationService = context.getBean(SimulationService.class);
+        requests = SimulationRequests.sample(REQUESTS, 42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SimulationResponseDTO calculateSimulation() {
+        return simulationService.calculateSimulation(requests[next++ & (REQUESTS - 1)]).block();
+    }
+}
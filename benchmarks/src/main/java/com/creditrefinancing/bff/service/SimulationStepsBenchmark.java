@@ -0,0 +1,175 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import com.creditrefinancing.bff.service.pricing.RiskLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each calculation step of {@link SimulationService} in isolation, over the
+ * {@link SimulationRequests} mix. Inputs a step depends on are computed in setup, so every
+ * benchmark measures only its own step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationStepsBenchmark {
+
+    private static final int REQUESTS = 1024;
+
+    private AnnotationConfigApplicationContext context;
+    private SimulationService simulationService;
+    private PricingSnapshot pricing;
+    private SimulationRequestDTO[] requests;
+    private SimulationContext[] contexts;
+    private BigDecimal[] interestRates;
+    private BigDecimal[] monthlyPayments;
+    private BigDecimal[] processingFees;
+    private BigDecimal[] totalSavings;
+    private BigDecimal[] approvalProbabilities;
+    private SimulationResponseDTO.RiskAssessment[] riskAssessments;
+    private RiskLevel[] riskLevels;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = SimulationEngines.newContext();
+        simulationService = context.getBean(SimulationService.class);
+        pricing = simulationService.pricingSnapshot();
+        requests = SimulationRequests.sample(REQUESTS, 42);
+        
+        contexts = new SimulationContext[REQUESTS];
+        interestRates = new BigDecimal[REQUESTS];
+        monthlyPayments = new BigDecimal[REQUESTS];
+        processingFees = new BigDecimal[REQUESTS];
+        totalSavings = new BigDecimal[REQUESTS];
+        approvalProbabilities = new BigDecimal[REQUESTS];
+        riskAssessments = new SimulationResponseDTO.RiskAssessment[REQUESTS];
+        riskLevels = new RiskLevel[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            SimulationRequestDTO request = requests[i];
+            // Contexts are warmed up to the DTI, so context-based steps find their inputs memoized
+            contexts[i] = new SimulationContext(request, simulationService);
+            contexts[i].debtToIncomeRatio();
+            contexts[i].monthlyRate();
+            interestRates[i] = contexts[i].interestRate();
+            monthlyPayments[i] = contexts[i].monthlyPayment();
+            processingFees[i] = simulationService.calculateProcessingFee(pricing, request.getDesiredLoanAmount());
+            totalSavings[i] = request.getCurrentMonthlyPayment().subtract(monthlyPayments[i])
+                    .multiply(BigDecimal.valueOf(request.getDesiredTermMonths()));
+            riskAssessments[i] = simulationService.calculateRiskAssessment(contexts[i]);
+            riskLevels[i] = RiskLevel.valueOf(riskAssessments[i].getRiskLevel());
+            approvalProbabilities[i] = simulationService.calculateApprovalProbability(
+                    pricing, riskLevels[i], request.getCreditScore());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private int nextIndex() {
+        return next++ & (REQUESTS - 1);
+    }
+
+    @Benchmark
+    public BigDecimal calculateInterestRate() {
+        return simulationService.calculateInterestRate(pricing, requests[nextIndex()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateMonthlyRate() {
+        return simulationService.calculateMonthlyRate(interestRates[nextIndex()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateMonthlyPayment() {
+        int i = nextIndex();
+        return simulationService.calculateMonthlyPayment(
+                requests[i].getDesiredLoanAmount(), interestRates[i], requests[i].getDesiredTermMonths());
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalInterest() {
+        int i = nextIndex();
+        return simulationService.calculateTotalInterest(
+                requests[i].getDesiredLoanAmount(), monthlyPayments[i], requests[i].getDesiredTermMonths());
+    }
+
+    @Benchmark
+    public BigDecimal calculateProcessingFee() {
+        return simulationService.calculateProcessingFee(pricing, requests[nextIndex()].getDesiredLoanAmount());
+    }
+
+    @Benchmark
+    public BigDecimal calculateAnnualPercentageRate() {
+        int i = nextIndex();
+        return simulationService.calculateAnnualPercentageRate(contexts[i], processingFees[i]);
+    }
+
+    @Benchmark
+    public SimulationResponseDTO.RiskAssessment calculateRiskAssessment() {
+        return simulationService.calculateRiskAssessment(contexts[nextIndex()]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateApprovalProbability() {
+        int i = nextIndex();
+        return simulationService.calculateApprovalProbability(
+                pricing, riskLevels[i], requests[i].getCreditScore());
+    }
+
+    @Benchmark
+    public SimulationResponseDTO.CurrentLoanSummary buildCurrentLoanSummary() {
+        return simulationService.buildCurrentLoanSummary(requests[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<SimulationResponseDTO.PaymentPreview> generatePaymentPreview() {
+        return simulationService.generatePaymentPreview(contexts[nextIndex()]);
+    }
+
+    @Benchmark
+    public SimulationResponseDTO.ComparisonMetrics buildComparisonMetrics() {
+        int i = nextIndex();
+        return simulationService.buildComparisonMetrics(
+                requests[i], interestRates[i], monthlyPayments[i], totalSavings[i]);
+    }
+
+    @Benchmark
+    public List<String> generateNextSteps() {
+        int i = nextIndex();
+        return simulationService.generateNextSteps(approvalProbabilities[i], riskAssessments[i]);
+    }
+
+    @Benchmark
+    public List<String> generateConditions() {
+        int i = nextIndex();
+        return simulationService.generateConditions(requests[i], riskAssessments[i]);
+    }
+
+    @Benchmark
+    public String determineStatus() {
+        return simulationService.determineStatus(approvalProbabilities[nextIndex()]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo stress test of one simulation. Scenarios run on the common fork-join pool, so
+ * scaling is measured by repeating the run with
+ * {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationStressTestBenchmark {
+
+    @Param({"10000", "100000"})
+    private int scenarios;
+
+    private AnnotationConfigApplicationContext context;
+    private SimulationStressTestService stressTestService;
+    private SimulationStressTestRequestDTO stressTest;
+
+    @Setup
+    public void setUp() {
+        context = SimulationEngines.newContext();
+        stressTestService = context.getBean(SimulationStressTestService.class);
+        SimulationRequestDTO base = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+        stressTest = new SimulationStressTestRequestDTO(
+                base, scenarios, 42L, 12, new BigDecimal("1.0"), BigDecimal.ZERO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SimulationStressTestResponseDTO stressTest() {
+        return stressTestService.computeStressTest(stressTest);
+    }
+}
@@ -0,0 +1,86 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 30 x 30 what-if grid evaluated by POST /simulation/sweep, against the same 900 points
+ * requested one simulation at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationSweepBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private SimulationService simulationService;
+    private SimulationSweepService sweepService;
+    private SimulationSweepRequestDTO sweep;
+
+    @Setup
+    public void setUp() {
+        context = SimulationEngines.newContext();
+        simulationService = context.getBean(SimulationService.class);
+        sweepService = context.getBean(SimulationSweepService.class);
+        SimulationRequestDTO base = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+        sweep = new SimulationSweepRequestDTO(
+                base,
+                new SimulationSweepRequestDTO.TermRange(12, 360, 12),
+                new SimulationSweepRequestDTO.AmountRange(
+                        new BigDecimal("50000.00"), new BigDecimal("630000.00"), new BigDecimal("20000.00")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SimulationSweepResponseDTO sweep() {
+        return sweepService.computeSweep(sweep);
+    }
+
+    @Benchmark
+    public void singleSimulations(Blackhole blackhole) {
+        SimulationRequestDTO base = sweep.getBaseRequest();
+        for (int term = 12; term <= 360; term += 12) {
+            for (BigDecimal amount = sweep.getAmountRange().getFrom();
+                 amount.compareTo(sweep.getAmountRange().getTo()) <= 0;
+                 amount = amount.add(sweep.getAmountRange().getStep())) {
+                SimulationRequestDTO request = new SimulationRequestDTO(
+                        base.getCustomerId(), base.getCurrentLoanAmount(), base.getCurrentMonthlyPayment(),
+                        amount, term, base.getLoanType(), base.getMonthlyIncome(), base.getCreditScore());
+                blackhole.consume(simulationService.computeSimulation(request));
+            }
+        }
+    }
+}
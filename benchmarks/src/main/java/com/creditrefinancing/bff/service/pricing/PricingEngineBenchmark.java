@@ -0,0 +1,84 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate, risk and approval for a mix of requests: the compiled decision table against the
+ * original branch-and-allocate rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final int REQUESTS = 1024;
+    private static final String[] LOAN_TYPES = {"PERSONAL", "MORTGAGE", "AUTO", "BUSINESS", "STUDENT"};
+
+    private PricingEngine pricingEngine;
+    private LegacyPricingRules legacyRules;
+    private SimulationRequestDTO[] requests;
+    private BigDecimal[] debtToIncomeRatios;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        pricingEngine = new PricingEngine(PricingRules.builder().build());
+        legacyRules = new LegacyPricingRules();
+        
+        Random random = new Random(42);
+        List<SimulationRequestDTO> generated = new ArrayList<>();
+        debtToIncomeRatios = new BigDecimal[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            generated.add(new SimulationRequestDTO(
+                    "CUST-" + i,
+                    BigDecimal.valueOf(50_000_00L + random.nextInt(400_000_00), 2),
+                    new BigDecimal("1200.50"),
+                    BigDecimal.valueOf(10_000_00L + random.nextInt(800_000_00), 2),
+                    240,
+                    LOAN_TYPES[random.nextInt(LOAN_TYPES.length)],
+                    random.nextInt(10) == 0 ? null : BigDecimal.valueOf(2_000_00L + random.nextInt(20_000_00), 2),
+                    random.nextInt(10) == 0 ? null : 550 + random.nextInt(300)
+            ));
+            debtToIncomeRatios[i] = BigDecimal.valueOf(random.nextInt(6_000), 4);
+        }
+        requests = generated.toArray(SimulationRequestDTO[]::new);
+    }
+
+    @Benchmark
+    public void decisionTable(Blackhole blackhole) {
+        int i = next++ & (REQUESTS - 1);
+        SimulationRequestDTO request = requests[i];
+        blackhole.consume(pricingEngine.interestRate(request));
+        RiskLevel riskLevel = pricingEngine.riskLevel(request, debtToIncomeRatios[i], new ArrayList<>());
+        blackhole.consume(pricingEngine.approvalProbability(riskLevel, request.getCreditScore()));
+    }
+
+    @Benchmark
+    public void legacyRules(Blackhole blackhole) {
+        int i = next++ & (REQUESTS - 1);
+        SimulationRequestDTO request = requests[i];
+        blackhole.consume(legacyRules.calculateInterestRate(request));
+        String riskLevel = legacyRules.calculateRiskLevel(request, debtToIncomeRatios[i]);
+        blackhole.consume(legacyRules.calculateApprovalProbability(riskLevel, request.getCreditScore()));
+    }
+}
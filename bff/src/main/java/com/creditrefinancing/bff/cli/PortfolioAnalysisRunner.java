@@ -0,0 +1,56 @@
+package com.creditrefinancing.bff.cli;
+
+import com.creditrefinancing.bff.dto.PortfolioAnalysisResponseDTO;
+import com.creditrefinancing.bff.service.PortfolioAnalysisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Runs a portfolio analysis from the command line when {@code simulation.portfolio.input} is set:
+ * <pre>
+ * java -jar bff.jar --spring.main.web-application-type=none \
+ *     --simulation.portfolio.input=loan-book.csv --simulation.portfolio.output=summary.json
+ * </pre>
+ * The summary is written as JSON to {@code simulation.portfolio.output}, or to standard output
+ * when it is not set. Without a web server the application exits once the analysis is done.
+ */
+@Component
+@ConditionalOnProperty("simulation.portfolio.input")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioAnalysisRunner implements ApplicationRunner {
+
+    private final PortfolioAnalysisService portfolioAnalysisService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${simulation.portfolio.input}")
+    private String input;
+
+    @Value("${simulation.portfolio.output:}")
+    private String output;
+
+    @Value("${simulation.portfolio.default-term-months:240}")
+    private int defaultTermMonths;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Running portfolio analysis of {}", input);
+        
+        PortfolioAnalysisResponseDTO summary = portfolioAnalysisService.analyzeFile(Path.of(input), defaultTermMonths);
+        
+        if (output.isBlank()) {
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+        } else {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(Path.of(output).toFile(), summary);
+            log.info("Portfolio summary written to {}", output);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the requests in flight to one downstream service with a limit adjusted from the observed
+ * round-trip time, after TCP Vegas. The lowest RTT seen stands for the service without queueing;
+ * the queue estimate is {@code limit * (1 - minRtt / rtt)}. A short queue grows the limit, a long
+ * one or a failed request (5xx, 429, I/O error) shrinks it, and the minimum RTT is measured again
+ * every so often so the limit follows the service when it gets slower for good.
+ * <p>
+ * A request over the limit fails at once with {@link ServiceOverloadedException} (503) instead of
+ * queueing. The RTT runs until the response status and headers arrive. Published as
+ * {@code concurrency.limit{name}}, {@code concurrency.inflight{name}} and
+ * {@code concurrency.rejections{name}}.
+ */
+public class AdaptiveConcurrencyLimitFilter implements ExchangeFilterFunction {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+
+    // Written under the lock, read without it
+    private volatile double limit;
+    // Guarded by this
+    private long minRttNanos = Long.MAX_VALUE;
+    private long samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimitFilter(String name, int initialLimit, int minLimit, int maxLimit,
+                                          MeterRegistry meterRegistry) {
+        this(name, initialLimit, minLimit, maxLimit, meterRegistry, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimitFilter(String name, int initialLimit, int minLimit, int maxLimit,
+                                   MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.nanoClock = nanoClock;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimitFilter::getLimit)
+                .tag("name", name)
+                .description("Requests allowed in flight to the service")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get)
+                .tag("name", name)
+                .description("Requests in flight to the service")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("concurrency.rejections")
+                .tag("name", name)
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            int currentLimit = getLimit();
+            if (!tryAcquire(currentLimit)) {
+                rejections.increment();
+                return Mono.error(new ServiceOverloadedException(name, currentLimit));
+            }
+            
+            long start = nanoClock.getAsLong();
+            AtomicBoolean released = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (released.compareAndSet(false, true)) {
+                            int status = response.statusCode().value();
+                            onSample(nanoClock.getAsLong() - start, status >= 500 || status == 429);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (released.compareAndSet(false, true)) {
+                            onSample(nanoClock.getAsLong() - start, true);
+                        }
+                    })
+                    // Cancelled (e.g. the losing hedge) or empty: free the slot without a sample
+                    .doFinally(signal -> {
+                        if (released.compareAndSet(false, true)) {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    private boolean tryAcquire(int currentLimit) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= currentLimit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        
+        // Forget the no-load RTT now and then, or a service that got slower for good would keep
+        // shrinking the limit
+        if (++samplesSinceProbe > PROBE_MULTIPLIER * (long) limit) {
+            samplesSinceProbe = 0;
+            minRttNanos = Long.MAX_VALUE;
+        }
+        if (rttNanos < minRttNanos && !dropped) {
+            minRttNanos = rttNanos;
+        }
+        
+        double step = Math.max(1.0, Math.log10(limit));
+        if (dropped) {
+            limit = Math.max(minLimit, limit - step);
+            return;
+        }
+        // Below half the limit nothing was learnt about how much more the service can take
+        if (inFlightBefore * 2 < limit || minRttNanos == Long.MAX_VALUE) {
+            return;
+        }
+        
+        double queue = Math.ceil(limit * (1.0 - (double) minRttNanos / rttNanos));
+        double alpha = 3 * step;
+        double beta = 6 * step;
+        if (queue <= step) {
+            limit = Math.min(maxLimit, limit + beta);
+        } else if (queue < alpha) {
+            limit = Math.min(maxLimit, limit + step);
+        } else if (queue > beta) {
+            limit = Math.max(minLimit, limit - step);
+        }
+    }
+}
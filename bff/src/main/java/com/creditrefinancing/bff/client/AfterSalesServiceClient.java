@@ -0,0 +1,44 @@
+package com.creditrefinancing.bff.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client for the after-sales microservice. Its model is not part of the BFF yet, so
+ * contracts are passed on as the service returns them.
+ */
+@Component
+@Slf4j
+public class AfterSalesServiceClient {
+
+    private final WebClient afterSalesWebClient;
+
+    public AfterSalesServiceClient(@Qualifier("afterSalesWebClient") WebClient afterSalesWebClient) {
+        this.afterSalesWebClient = afterSalesWebClient;
+    }
+
+    /**
+     * Get a customer's contracts, as a JSON array. A customer the service does not know has none.
+     */
+    public Mono<JsonNode> getCustomerContracts(String customerId) {
+        log.info("Calling after-sales service to list contracts of customer: {}", customerId);
+        
+        return afterSalesWebClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/contracts").queryParam("customer_id", customerId).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .onErrorResume(WebClientResponseException.NotFound.class,
+                        notFound -> Mono.just(JsonNodeFactory.instance.arrayNode()))
+                .doOnNext(contracts -> log.info("Retrieved {} contracts of customer: {}", contracts.size(), customerId))
+                .doOnError(error -> log.error("Error listing contracts of customer: {}", customerId, error))
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new RuntimeException("After-sales service unavailable", ex));
+    }
+}
@@ -0,0 +1,44 @@
+package com.creditrefinancing.bff.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client for the formalization microservice. Its model is not part of the BFF yet, so
+ * formalizations are passed on as the service returns them.
+ */
+@Component
+@Slf4j
+public class FormalizationServiceClient {
+
+    private final WebClient formalizationWebClient;
+
+    public FormalizationServiceClient(@Qualifier("formalizationWebClient") WebClient formalizationWebClient) {
+        this.formalizationWebClient = formalizationWebClient;
+    }
+
+    /**
+     * Get a customer's formalizations, as a JSON array. A customer the service does not know has none.
+     */
+    public Mono<JsonNode> getCustomerFormalizations(String customerId) {
+        log.info("Calling formalization service to list formalizations of customer: {}", customerId);
+        
+        return formalizationWebClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/formalizations").queryParam("customer_id", customerId).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .onErrorResume(WebClientResponseException.NotFound.class,
+                        notFound -> Mono.just(JsonNodeFactory.instance.arrayNode()))
+                .doOnNext(formalizations -> log.info("Retrieved {} formalizations of customer: {}", formalizations.size(), customerId))
+                .doOnError(error -> log.error("Error listing formalizations of customer: {}", customerId, error))
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new RuntimeException("Formalization service unavailable", ex));
+    }
+}
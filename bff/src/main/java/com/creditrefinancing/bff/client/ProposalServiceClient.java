@@ -0,0 +1,44 @@
+package com.creditrefinancing.bff.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client for the proposal microservice. Its model is not part of the BFF yet, so
+ * proposals are passed on as the service returns them.
+ */
+@Component
+@Slf4j
+public class ProposalServiceClient {
+
+    private final WebClient proposalWebClient;
+
+    public ProposalServiceClient(@Qualifier("proposalWebClient") WebClient proposalWebClient) {
+        this.proposalWebClient = proposalWebClient;
+    }
+
+    /**
+     * Get a customer's proposals, as a JSON array. A customer the service does not know has none.
+     */
+    public Mono<JsonNode> getCustomerProposals(String customerId) {
+        log.info("Calling proposal service to list proposals of customer: {}", customerId);
+        
+        return proposalWebClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/proposals").queryParam("customer_id", customerId).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .onErrorResume(WebClientResponseException.NotFound.class,
+                        notFound -> Mono.just(JsonNodeFactory.instance.arrayNode()))
+                .doOnNext(proposals -> log.info("Retrieved {} proposals of customer: {}", proposals.size(), customerId))
+                .doOnError(error -> log.error("Error listing proposals of customer: {}", customerId, error))
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new RuntimeException("Proposal service unavailable", ex));
+    }
+}
@@ -0,0 +1,56 @@
+package com.creditrefinancing.bff.client;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * The instant by which the caller needs an answer, carried in the Reactor {@link Context} of a
+ * request so that downstream calls can stop trying once it has passed. Between services it travels
+ * as the milliseconds left, in {@link #HEADER}, so clocks need not agree.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final Object KEY = RequestDeadline.class;
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Context with {@code deadline} set, for {@code contextWrite}. An earlier deadline already in
+     * the context wins.
+     */
+    public static Context with(Context context, Instant deadline) {
+        return from(context)
+                .filter(current -> current.isBefore(deadline))
+                .map(current -> context)
+                .orElseGet(() -> context.put(KEY, deadline));
+    }
+
+    /**
+     * Context without a deadline, for {@code contextWrite} on work shared between callers whose
+     * deadlines differ.
+     */
+    public static Context without(Context context) {
+        return context.delete(KEY);
+    }
+
+    public static Optional<Instant> from(ContextView context) {
+        return context.getOrEmpty(KEY);
+    }
+
+    /**
+     * Time left until the deadline in {@code context}, empty when there is none; never negative.
+     */
+    public static Optional<Duration> remaining(ContextView context) {
+        return from(context).map(deadline -> {
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        });
+    }
+}
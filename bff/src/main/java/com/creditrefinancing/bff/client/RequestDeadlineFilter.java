@@ -0,0 +1,47 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Passes the {@link RequestDeadline} on to the next service: the request carries the time left
+ * minus a margin for the way back, and the exchange is cancelled when the time left runs out. A
+ * request whose deadline has already passed is not sent. Both fail with
+ * {@link DeadlineExceededException}, which circuit breakers do not count against the service.
+ */
+public class RequestDeadlineFilter implements ExchangeFilterFunction {
+
+    private final String serviceName;
+    private final Duration hopMargin;
+
+    public RequestDeadlineFilter(String serviceName, Duration hopMargin) {
+        this.serviceName = serviceName;
+        this.hopMargin = hopMargin;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> RequestDeadline.remaining(context)
+                .map(remaining -> {
+                    long downstreamMillis = remaining.minus(hopMargin).toMillis();
+                    if (downstreamMillis <= 0) {
+                        return Mono.<ClientResponse>error(new DeadlineExceededException(
+                                "Request deadline passed before calling " + serviceName));
+                    }
+                    
+                    ClientRequest withDeadline = ClientRequest.from(request)
+                            .headers(headers -> headers.set(RequestDeadline.HEADER, String.valueOf(downstreamMillis)))
+                            .build();
+                    return next.exchange(withDeadline)
+                            .timeout(remaining, Mono.error(() -> new DeadlineExceededException(
+                                    "Request deadline passed while calling " + serviceName)));
+                })
+                .orElseGet(() -> next.exchange(request)));
+    }
+}
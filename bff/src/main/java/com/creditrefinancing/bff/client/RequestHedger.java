@@ -0,0 +1,116 @@
+package com.creditrefinancing.bff.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedged execution of idempotent reads. When the first attempt has not answered within the p95
+ * latency of recent attempts, a second identical attempt is sent and whichever answers first
+ * wins; the other is cancelled.
+ * <p>
+ * Hedges are capped at {@code maxPercent} of the calls (with a small burst allowance), so a slow
+ * service sees at most that much extra traffic; {@code maxPercent} 0 turns hedging off. Nothing
+ * is hedged until enough attempts have been timed to know the p95. Published as
+ * {@code hedging.latency{name}} (first attempts, with p95) and {@code hedging.requests{name, outcome}}
+ * ({@code sent} or {@code denied} by the cap).
+ */
+final class RequestHedger {
+
+    private static final long MIN_SAMPLES = 20;
+    private static final long MAX_BURST = 10;
+
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter denied;
+    private final long creditsPerCall;
+    private final Duration minDelay;
+    // Hundredths of a hedge: every call adds maxPercent, every hedge takes 100
+    private final AtomicLong credits = new AtomicLong();
+
+    RequestHedger(String name, int maxPercent, Duration minDelay, MeterRegistry meterRegistry) {
+        this.creditsPerCall = maxPercent;
+        this.minDelay = minDelay;
+        this.latency = Timer.builder("hedging.latency")
+                .tag("name", name)
+                .description("Latency of first attempts, whose p95 sets the hedging delay")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        this.sent = counter(meterRegistry, name, "sent");
+        this.denied = counter(meterRegistry, name, "denied");
+    }
+
+    /**
+     * Subscribes to {@code call}, and once more if the first attempt is slower than the hedging
+     * delay and the cap allows it. The first value of either attempt, or the first attempt's
+     * error, is the result.
+     */
+    <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        if (creditsPerCall <= 0) {
+            return Mono.defer(call);
+        }
+        
+        return Mono.defer(() -> {
+            credits.getAndUpdate(current -> Math.min(current + creditsPerCall, MAX_BURST * 100));
+            Duration delay = hedgingDelay();
+            Mono<T> first = timed(call);
+            if (delay == null) {
+                return first;
+            }
+            
+            Mono<T> hedge = Mono.delay(delay).then(Mono.defer(() -> {
+                if (!tryAcquire()) {
+                    denied.increment();
+                    return Mono.<T>never();
+                }
+                sent.increment();
+                // Only the first attempt may fail the call: a hedge turned away (e.g. by the
+                // concurrency limit) or failing just leaves the first attempt to answer
+                return Mono.defer(call).onErrorResume(error -> Mono.never());
+            }));
+            return Mono.firstWithSignal(first, hedge);
+        });
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            // A first attempt cancelled by a faster hedge took at least this long, so it still counts
+            return Mono.defer(call).doFinally(signal -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Duration hedgingDelay() {
+        if (latency.count() < MIN_SAMPLES) {
+            return null;
+        }
+        ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+        Duration p95 = Duration.ofNanos((long) percentiles[0].value(TimeUnit.NANOSECONDS));
+        return p95.compareTo(minDelay) > 0 ? p95 : minDelay;
+    }
+
+    private boolean tryAcquire() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < 100) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - 100));
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("hedging.requests")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
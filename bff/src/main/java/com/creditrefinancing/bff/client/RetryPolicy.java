@@ -0,0 +1,150 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.TimeoutException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Retries shared by every call to one service, so that an incident cannot multiply the load sent
+ * to it:
+ * <ul>
+ *   <li>a token-bucket budget: every successful call earns {@code budgetRatio} of a retry, every
+ *       retry spends a whole one, so retries stay a fraction of the successes (plus a small
+ *       reserve);</li>
+ *   <li>full jitter: each wait is random between zero and the exponential backoff, so callers
+ *       that failed together do not come back together;</li>
+ *   <li>no retry when the {@link RequestDeadline} would pass before the next attempt could
+ *       reasonably answer.</li>
+ * </ul>
+ * Only failures that may succeed on another attempt are retried: 5xx, 429, timeouts and I/O
+ * errors. A call that is not idempotent is retried only when the request cannot have reached the
+ * service (connection refused or timed out). Outcomes are counted in
+ * {@code retry.calls{name, outcome}}.
+ */
+public class RetryPolicy {
+
+    // Tenths of a retry, so fractional earnings add up without floating point
+    private static final long TOKEN = 10;
+
+    private final int maxRetries;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration minRemaining;
+    private final long tokensPerSuccess;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+    private final Counter retried;
+    private final Counter budgetExhausted;
+    private final Counter deadlineReached;
+    private final Counter attemptsExhausted;
+
+    public RetryPolicy(String name, int maxRetries, Duration baseBackoff, Duration maxBackoff,
+                       Duration minRemaining, double budgetRatio, int budgetReserve, MeterRegistry meterRegistry) {
+        this.maxRetries = maxRetries;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.minRemaining = minRemaining;
+        this.tokensPerSuccess = Math.round(budgetRatio * TOKEN);
+        this.maxTokens = budgetReserve * TOKEN;
+        this.tokens = new AtomicLong(maxTokens);
+        this.retried = counter(meterRegistry, name, "retried");
+        this.budgetExhausted = counter(meterRegistry, name, "budget_exhausted");
+        this.deadlineReached = counter(meterRegistry, name, "deadline");
+        this.attemptsExhausted = counter(meterRegistry, name, "exhausted");
+    }
+
+    /**
+     * Retries the call it is applied to under this policy, for {@code transform}.
+     */
+    public <T> Function<Mono<T>, Mono<T>> retrying(boolean idempotent) {
+        Retry retry = Retry.from(signals -> signals.concatMap(signal -> Mono.deferContextual(context -> {
+            Throwable failure = signal.failure();
+            if (!isRetryable(failure, idempotent)) {
+                return Mono.error(failure);
+            }
+            if (signal.totalRetries() >= maxRetries) {
+                attemptsExhausted.increment();
+                return Mono.error(failure);
+            }
+            
+            Duration delay = jitteredBackoff(signal.totalRetries());
+            boolean tooLate = RequestDeadline.remaining(context)
+                    .map(remaining -> remaining.compareTo(delay.plus(minRemaining)) < 0)
+                    .orElse(false);
+            if (tooLate) {
+                deadlineReached.increment();
+                return Mono.error(failure);
+            }
+            if (!tryWithdraw()) {
+                budgetExhausted.increment();
+                return Mono.error(failure);
+            }
+            retried.increment();
+            return Mono.delay(delay);
+        })));
+        
+        return call -> call
+                .doOnSuccess(value -> deposit())
+                .retryWhen(retry);
+    }
+
+    private static boolean isRetryable(Throwable failure, boolean idempotent) {
+        // The caller's deadline has run out; another attempt would be cut short too
+        if (failure instanceof DeadlineExceededException) {
+            return false;
+        }
+        if (failure instanceof WebClientRequestException requestException) {
+            Throwable cause = requestException.getCause();
+            // Never connected, so even a non-idempotent request was not sent
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+            return idempotent;
+        }
+        if (failure instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return idempotent && (status >= 500 || status == 429);
+        }
+        return idempotent && (failure instanceof TimeoutException
+                || failure instanceof java.util.concurrent.TimeoutException);
+    }
+
+    private Duration jitteredBackoff(long retry) {
+        long ceiling = Math.min(maxBackoff.toNanos(), baseBackoff.toNanos() << Math.min(retry, 30));
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private void deposit() {
+        tokens.getAndUpdate(current -> Math.min(current + tokensPerSuccess, maxTokens));
+    }
+
+    private boolean tryWithdraw() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("retry.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Near-cache of simulations read from the simulation service, bounded in size. An entry lives for
+ * the configured TTL, or until the simulation's own {@code expiresAt} when that comes first.
+ * <p>
+ * A read that started before an invalidation must not put back what it fetched: callers take a
+ * {@link #stamp()} before the remote call and pass it to {@link #put}, which drops the value if
+ * any invalidation happened in between. Hits, misses, evictions and size are published under
+ * {@code cache.*{cache=simulations}}.
+ */
+final class SimulationCache {
+
+    private final Cache<String, SimulationResponseDTO> cache;
+    private final Duration ttl;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter invalidated;
+
+    SimulationCache(long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, SimulationResponseDTO>() {
+                    @Override
+                    public long expireAfterCreate(String simulationId, SimulationResponseDTO simulation, long currentTime) {
+                        return lifetimeNanos(simulation);
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String simulationId, SimulationResponseDTO simulation,
+                                                  long currentTime, long currentDuration) {
+                        return lifetimeNanos(simulation);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String simulationId, SimulationResponseDTO simulation,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.invalidated = Counter.builder("cache.invalidations")
+                .tag("cache", "simulations")
+                .description("Entries removed because the simulation was updated")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "simulations");
+    }
+
+    SimulationResponseDTO get(String simulationId) {
+        return cache.getIfPresent(simulationId);
+    }
+
+    long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches a simulation fetched after {@code stamp} was taken, unless an invalidation has
+     * happened since.
+     */
+    void put(String simulationId, SimulationResponseDTO simulation, long stamp) {
+        // The check runs under the key's lock, so an invalidation either sees the new entry and
+        // removes it, or has already moved the stamp on and the entry is never written
+        cache.asMap().compute(simulationId,
+                (id, current) -> invalidations.get() == stamp ? simulation : current);
+    }
+
+    void invalidate(String simulationId) {
+        invalidations.incrementAndGet();
+        if (cache.asMap().remove(simulationId) != null) {
+            invalidated.increment();
+        }
+    }
+
+    private long lifetimeNanos(SimulationResponseDTO simulation) {
+        if (simulation.getExpiresAt() == null) {
+            return ttl.toNanos();
+        }
+        Duration remaining = Duration.between(LocalDateTime.now(), simulation.getExpiresAt());
+        if (remaining.isNegative()) {
+            return 0;
+        }
+        return remaining.compareTo(ttl) < 0 ? remaining.toNanos() : ttl.toNanos();
+    }
+}
@@ -4,30 +4,72 @@ import com.creditrefinancing.bff.dto.SimulationRequestDTO;
 import com.creditrefinancing.bff.dto.SimulationResponseDTO;
 import com.creditrefinancing.bff.exception.SimulationNotFoundException;
 import com.creditrefinancing.bff.exception.BusinessRuleException;
-import lombok.RequiredArgsConstructor;
+import com.creditrefinancing.bff.exception.ServiceOverloadedException;
+import com.creditrefinancing.bff.service.RequestCoalescer;
+import com.creditrefinancing.bff.service.SimulationRequestKey;
+import com.creditrefinancing.bff.service.SimulationService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SimulationServiceClient {
 
-    @Qualifier("simulationWebClient")
     private final WebClient simulationWebClient;
+    private final SimulationCache simulationCache;
+    private final RequestCoalescer<SimulationRequestKey, SimulationResponseDTO> calculations;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryPolicy retryPolicy;
+    private final SimulationService simulationService;
+    private final RequestHedger readHedger;
+    private final RequestHedger healthHedger;
+
+    public SimulationServiceClient(@Qualifier("simulationWebClient") WebClient simulationWebClient,
+                                   @Qualifier("simulationCircuitBreaker") CircuitBreaker circuitBreaker,
+                                   @Qualifier("simulationRetryPolicy") RetryPolicy retryPolicy,
+                                   SimulationService simulationService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${services.simulation.cache.max-size:10000}") long cacheMaxSize,
+                                   @Value("${services.simulation.cache.ttl:30s}") Duration cacheTtl,
+                                   @Value("${services.simulation.coalescing.reuse-window:1s}") Duration reuseWindow,
+                                   @Value("${services.simulation.hedging.max-percent:0}") int hedgeMaxPercent,
+                                   @Value("${services.simulation.hedging.min-delay:50ms}") Duration hedgeMinDelay) {
+        this.simulationWebClient = simulationWebClient;
+        this.circuitBreaker = circuitBreaker;
+        this.retryPolicy = retryPolicy;
+        this.simulationService = simulationService;
+        this.simulationCache = new SimulationCache(cacheMaxSize, cacheTtl, meterRegistry);
+        this.calculations = new RequestCoalescer<>("simulation-service", reuseWindow, meterRegistry);
+        this.readHedger = new RequestHedger("simulation-get", hedgeMaxPercent, hedgeMinDelay, meterRegistry);
+        this.healthHedger = new RequestHedger("simulation-health", hedgeMaxPercent, hedgeMinDelay, meterRegistry);
+    }
 
     /**
-     * Calculate simulation by calling the simulation microservice
+     * Calculate simulation by calling the simulation microservice. Identical requests in flight
+     * at the same time, or within the reuse window, share one call.
      */
     public Mono<SimulationResponseDTO> calculateSimulation(SimulationRequestDTO request) {
+        return calculations.execute(SimulationRequestKey.of(request), () -> postSimulation(request));
+    }
+
+    /**
+     * While the circuit breaker is open, or the concurrency limit is reached, the simulation is
+     * calculated by the local engine instead and flagged as {@code computed_locally}.
+     */
+    private Mono<SimulationResponseDTO> postSimulation(SimulationRequestDTO request) {
         log.info("Calling simulation service to calculate simulation for customer: {}", request.getCustomerId());
         
         return simulationWebClient
@@ -42,31 +84,87 @@ public class SimulationServiceClient {
                     clientResponse -> clientResponse.bodyToMono(String.class)
                         .map(body -> new BusinessRuleException("Simulation business rule violation", body)))
                 .bodyToMono(SimulationResponseDTO.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                    .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                // The simulation service does not deduplicate calculations, so a POST that may have
+                // reached it is not sent again
+                .transform(retryPolicy.retrying(false))
+                .onErrorResume(error -> error instanceof CallNotPermittedException
+                        || error instanceof ServiceOverloadedException, rejected -> calculateLocally(request, rejected))
                 .doOnSuccess(response -> log.info("Successfully calculated simulation: {}", response.getSimulationId()))
                 .doOnError(error -> log.error("Error calculating simulation for customer: {}", request.getCustomerId(), error))
                 .onErrorMap(WebClientResponseException.class, this::mapWebClientException);
     }
 
+    private Mono<SimulationResponseDTO> calculateLocally(SimulationRequestDTO request, Throwable rejected) {
+        log.warn("Simulation service call rejected ({}), calculating simulation for customer {} locally",
+                rejected.getMessage(), request.getCustomerId());
+        
+        // computeSimulation builds a new response, so setting the flag touches no shared result
+        return Mono.fromCallable(() -> {
+            SimulationResponseDTO response = simulationService.computeSimulation(request);
+            response.setComputedLocally(true);
+            return response;
+        });
+    }
+
     /**
-     * Get simulation by ID from the simulation microservice
+     * Get simulation by ID, from the near-cache when present, otherwise from the simulation
+     * microservice, hedged when enabled. Cached simulations are shared between callers and must
+     * not be modified.
      */
     public Mono<SimulationResponseDTO> getSimulation(String simulationId) {
+        return Mono.defer(() -> {
+            SimulationResponseDTO cached = simulationCache.get(simulationId);
+            if (cached != null) {
+                log.debug("Simulation {} served from the near-cache", simulationId);
+                return Mono.just(cached);
+            }
+            
+            long stamp = simulationCache.stamp();
+            return fetchSimulation(simulationId)
+                    .doOnNext(response -> simulationCache.put(simulationId, response, stamp));
+        });
+    }
+
+    private Mono<SimulationResponseDTO> fetchSimulation(String simulationId) {
         log.info("Calling simulation service to get simulation: {}", simulationId);
         
+        // Reads are idempotent, so a slow attempt may be raced by a second one
+        return readHedger.execute(() -> simulationWebClient
+                        .get()
+                        .uri("/simulations/{simulationId}", simulationId)
+                        .retrieve()
+                        .onStatus(HttpStatus.NOT_FOUND::equals,
+                            clientResponse -> Mono.error(new SimulationNotFoundException(simulationId)))
+                        .bodyToMono(SimulationResponseDTO.class))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(retryPolicy.retrying(true))
+                .doOnSuccess(response -> log.info("Successfully retrieved simulation: {}", simulationId))
+                .doOnError(error -> log.error("Error retrieving simulation: {}", simulationId, error))
+                .onErrorMap(WebClientResponseException.class, this::mapWebClientException)
+                .onErrorMap(CallNotPermittedException.class, this::mapRejectedCall);
+    }
+
+    /**
+     * Get a customer's simulations from the simulation microservice, newest first. A customer the
+     * service does not know has none.
+     */
+    public Mono<List<SimulationResponseDTO>> getCustomerSimulations(String customerId) {
+        log.info("Calling simulation service to list simulations of customer: {}", customerId);
+        
         return simulationWebClient
                 .get()
-                .uri("/simulations/{simulationId}", simulationId)
+                .uri(uriBuilder -> uriBuilder.path("/simulations").queryParam("customer_id", customerId).build())
                 .retrieve()
-                .onStatus(HttpStatus.NOT_FOUND::equals,
-                    clientResponse -> Mono.error(new SimulationNotFoundException(simulationId)))
-                .bodyToMono(SimulationResponseDTO.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                    .filter(throwable -> !(throwable instanceof WebClientResponseException.NotFound)))
-                .doOnSuccess(response -> log.info("Successfully retrieved simulation: {}", simulationId))
-                .doOnError(error -> log.error("Error retrieving simulation: {}", simulationId, error))
-                .onErrorMap(WebClientResponseException.class, this::mapWebClientException);
+                .bodyToFlux(SimulationResponseDTO.class)
+                .collectList()
+                .onErrorResume(WebClientResponseException.NotFound.class, notFound -> Mono.just(List.of()))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transform(retryPolicy.retrying(true))
+                .doOnSuccess(simulations -> log.info("Retrieved {} simulations of customer: {}", simulations.size(), customerId))
+                .doOnError(error -> log.error("Error listing simulations of customer: {}", customerId, error))
+                .onErrorMap(WebClientResponseException.class, this::mapWebClientException)
+                .onErrorMap(CallNotPermittedException.class, this::mapRejectedCall);
     }
 
     /**
@@ -86,10 +184,15 @@ public class SimulationServiceClient {
                     clientResponse -> clientResponse.bodyToMono(String.class)
                         .map(body -> new BusinessRuleException("Invalid status update", body)))
                 .bodyToMono(SimulationResponseDTO.class)
-                .retryWhen(Retry.backoff(2, Duration.ofSeconds(1)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                // Setting a status is idempotent
+                .transform(retryPolicy.retrying(true))
+                // Also on failure: an update that timed out may still have been applied
+                .doOnTerminate(() -> simulationCache.invalidate(simulationId))
                 .doOnSuccess(response -> log.info("Successfully updated simulation {} status", simulationId))
                 .doOnError(error -> log.error("Error updating simulation {} status", simulationId, error))
-                .onErrorMap(WebClientResponseException.class, this::mapWebClientException);
+                .onErrorMap(WebClientResponseException.class, this::mapWebClientException)
+                .onErrorMap(CallNotPermittedException.class, this::mapRejectedCall);
     }
 
     /**
@@ -98,11 +201,11 @@ public class SimulationServiceClient {
     public Mono<String> checkHealth() {
         log.debug("Checking simulation service health");
         
-        return simulationWebClient
-                .get()
-                .uri("/health")
-                .retrieve()
-                .bodyToMono(String.class)
+        return healthHedger.execute(() -> simulationWebClient
+                        .get()
+                        .uri("/health")
+                        .retrieve()
+                        .bodyToMono(String.class))
                 .timeout(Duration.ofSeconds(5))
                 .doOnSuccess(response -> log.debug("Simulation service health check successful"))
                 .doOnError(error -> log.warn("Simulation service health check failed", error))
@@ -122,6 +225,13 @@ public class SimulationServiceClient {
         };
     }
 
+    /**
+     * Maps a call rejected by the open circuit breaker to the same error as an unavailable service
+     */
+    private Throwable mapRejectedCall(CallNotPermittedException ex) {
+        return new RuntimeException("Simulation service unavailable", ex);
+    }
+
     // Inner class for status update requests
     private record StatusUpdateRequest(String status) {}
 }
@@ -0,0 +1,29 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.service.calculation.AmortizationKernel;
+import com.creditrefinancing.bff.service.calculation.BigDecimalAmortizationKernel;
+import com.creditrefinancing.bff.service.calculation.FixedPointAmortizationKernel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class AmortizationKernelConfig {
+
+    @Value("${simulation.amortization-kernel:fixed-point}")
+    private String amortizationKernel;
+
+    @Bean
+    public AmortizationKernel amortizationKernel() {
+        log.info("Using amortization kernel: {}", amortizationKernel);
+        
+        return switch (amortizationKernel) {
+            case "fixed-point" -> new FixedPointAmortizationKernel(new BigDecimalAmortizationKernel());
+            case "big-decimal" -> new BigDecimalAmortizationKernel();
+            default -> throw new IllegalStateException(
+                    "Unknown simulation.amortization-kernel '" + amortizationKernel + "', expected fixed-point or big-decimal");
+        };
+    }
+}
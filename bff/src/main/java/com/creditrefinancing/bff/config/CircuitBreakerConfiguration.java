@@ -0,0 +1,95 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import com.creditrefinancing.bff.exception.ServiceOverloadedException;
+import com.creditrefinancing.bff.exception.SimulationNotFoundException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit breakers for the downstream services. A breaker opens when too many of the recent calls
+ * fail or are slow, rejects calls at once while open, and after the wait lets a few probe calls
+ * through (half-open) to decide whether to close again.
+ * <p>
+ * Breaker state, calls and rejected calls are published as {@code resilience4j.circuitbreaker.*};
+ * every state change also counts in {@code resilience4j.circuitbreaker.transitions{name, from, to}}.
+ */
+@Configuration
+@Slf4j
+public class CircuitBreakerConfiguration {
+
+    @Value("${services.simulation.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${services.simulation.circuit-breaker.slow-call-duration-threshold:5s}")
+    private Duration slowCallDurationThreshold;
+
+    @Value("${services.simulation.circuit-breaker.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+
+    @Value("${services.simulation.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${services.simulation.circuit-breaker.minimum-number-of-calls:10}")
+    private int minimumNumberOfCalls;
+
+    @Value("${services.simulation.circuit-breaker.wait-duration-in-open-state:30s}")
+    private Duration waitDurationInOpenState;
+
+    @Value("${services.simulation.circuit-breaker.permitted-calls-in-half-open-state:3}")
+    private int permittedCallsInHalfOpenState;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        
+        registry.getEventPublisher().onEntryAdded(added -> {
+            CircuitBreaker circuitBreaker = added.getAddedEntry();
+            circuitBreaker.getEventPublisher().onStateTransition(event -> {
+                log.warn("Circuit breaker {} changed from {} to {}", event.getCircuitBreakerName(),
+                        event.getStateTransition().getFromState(), event.getStateTransition().getToState());
+                Counter.builder("resilience4j.circuitbreaker.transitions")
+                        .tag("name", event.getCircuitBreakerName())
+                        .tag("from", event.getStateTransition().getFromState().name())
+                        .tag("to", event.getStateTransition().getToState().name())
+                        .description("Circuit breaker state changes")
+                        .register(meterRegistry)
+                        .increment();
+            });
+        });
+        return registry;
+    }
+
+    @Bean
+    @Qualifier("simulationCircuitBreaker")
+    public CircuitBreaker simulationCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker("simulation-service", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                // Rejected requests and missing simulations are answers, not a failing service; calls
+                // turned away by the BFF's own concurrency limit never reached it, and a caller's
+                // short deadline running out says nothing about the service
+                .ignoreExceptions(BusinessRuleException.class, SimulationNotFoundException.class,
+                        ServiceOverloadedException.class, DeadlineExceededException.class)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertyResolver;
+
+import java.math.BigDecimal;
+
+/**
+ * Binds the pricing rules from the {@code simulation.*} settings (same keys as the simulation
+ * service) and compiles them into the {@link PricingEngine}. The same binding is applied again
+ * by the {@link PricingConfigReloader} when the pricing file or the admin endpoint changes them.
+ */
+@Configuration
+public class PricingConfig {
+
+    @Bean
+    public PricingEngine pricingEngine(Environment environment) {
+        return new PricingEngine(bind(environment));
+    }
+
+    /**
+     * Reads the pricing rules from {@code properties}; missing keys keep the {@link PricingRules}
+     * defaults.
+     */
+    public static PricingRules bind(PropertyResolver properties) {
+        PricingRules defaults = PricingRules.builder().build();
+        return PricingRules.builder()
+                .baseInterestRate(decimal(properties, "simulation.base-interest-rate", defaults.getBaseInterestRate()))
+                .minInterestRate(decimal(properties, "simulation.min-interest-rate", defaults.getMinInterestRate()))
+                .excellentThreshold(integer(properties, "simulation.credit-score.excellent-threshold", defaults.getExcellentThreshold()))
+                .goodThreshold(integer(properties, "simulation.credit-score.good-threshold", defaults.getGoodThreshold()))
+                .fairThreshold(integer(properties, "simulation.credit-score.fair-threshold", defaults.getFairThreshold()))
+                .subprimeThreshold(integer(properties, "simulation.credit-score.subprime-threshold", defaults.getSubprimeThreshold()))
+                .excellentDiscount(decimal(properties, "simulation.credit-score.excellent-discount", defaults.getExcellentDiscount()))
+                .goodDiscount(decimal(properties, "simulation.credit-score.good-discount", defaults.getGoodDiscount()))
+                .fairPenalty(decimal(properties, "simulation.credit-score.fair-penalty", defaults.getFairPenalty()))
+                .poorPenalty(decimal(properties, "simulation.credit-score.poor-penalty", defaults.getPoorPenalty()))
+                .mortgageDiscount(decimal(properties, "simulation.loan-type.mortgage-discount", defaults.getMortgageDiscount()))
+                .autoAdjustment(decimal(properties, "simulation.loan-type.auto-adjustment", defaults.getAutoAdjustment()))
+                .personalPenalty(decimal(properties, "simulation.loan-type.personal-penalty", defaults.getPersonalPenalty()))
+                .businessPenalty(decimal(properties, "simulation.loan-type.business-penalty", defaults.getBusinessPenalty()))
+                .studentAdjustment(decimal(properties, "simulation.loan-type.student-adjustment", defaults.getStudentAdjustment()))
+                .largeLoanThreshold(decimal(properties, "simulation.large-loan.threshold", defaults.getLargeLoanThreshold()))
+                .largeLoanDiscount(decimal(properties, "simulation.large-loan.discount", defaults.getLargeLoanDiscount()))
+                .mediumRiskThreshold(decimal(properties, "simulation.risk.medium-threshold", defaults.getMediumRiskThreshold()))
+                // The maximum DTI doubles as the high-risk threshold unless that is set on its own
+                .highRiskThreshold(decimal(properties, "simulation.risk.high-threshold",
+                        decimal(properties, "simulation.max-debt-to-income-ratio", defaults.getHighRiskThreshold())))
+                .loanIncreaseThreshold(decimal(properties, "simulation.risk.loan-increase-threshold", defaults.getLoanIncreaseThreshold()))
+                .baseProbability(decimal(properties, "simulation.approval.base-probability", defaults.getBaseProbability()))
+                .mediumRiskPenalty(decimal(properties, "simulation.approval.medium-risk-penalty", defaults.getMediumRiskPenalty()))
+                .highRiskPenalty(decimal(properties, "simulation.approval.high-risk-penalty", defaults.getHighRiskPenalty()))
+                .excellentCreditBonus(decimal(properties, "simulation.approval.excellent-credit-bonus", defaults.getExcellentCreditBonus()))
+                .goodCreditBonus(decimal(properties, "simulation.approval.good-credit-bonus", defaults.getGoodCreditBonus()))
+                .subprimePenalty(decimal(properties, "simulation.approval.subprime-penalty", defaults.getSubprimePenalty()))
+                .processingFeeRate(decimal(properties, "simulation.processing-fee", defaults.getProcessingFeeRate()))
+                .build();
+    }
+
+    private static BigDecimal decimal(PropertyResolver properties, String key, BigDecimal defaultValue) {
+        return properties.getProperty(key, BigDecimal.class, defaultValue);
+    }
+
+    private static int integer(PropertyResolver properties, String key, int defaultValue) {
+        return properties.getProperty(key, Integer.class, defaultValue);
+    }
+}
@@ -0,0 +1,159 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.PropertySourcesPropertyResolver;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reloads the pricing rules at runtime and publishes them to the {@link PricingEngine}.
+ * <p>
+ * Rules are bound from three layers, highest first: overrides posted to the admin endpoint, the
+ * optional {@code simulation.pricing.file} (properties or YAML, same {@code simulation.*} keys),
+ * and the application's own configuration. When a file is configured, its directory is watched
+ * and every change to it triggers a reload. A reload that fails keeps the current snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PricingConfigReloader {
+
+    private final ConfigurableEnvironment environment;
+    private final PricingEngine pricingEngine;
+
+    @Value("${simulation.pricing.file:}")
+    private String pricingFile;
+
+    private final Map<String, Object> overrides = new LinkedHashMap<>();
+    private WatchService watchService;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (pricingFile.isBlank()) {
+            return;
+        }
+        Path file = Path.of(pricingFile).toAbsolutePath();
+        reload();
+        
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread watcher = new Thread(() -> watch(file), "pricing-file-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching pricing file {}", file);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Binds the rules again from every layer and publishes them.
+     */
+    public synchronized PricingSnapshot reload() {
+        MutablePropertySources sources = new MutablePropertySources();
+        String source = "application properties";
+        if (!overrides.isEmpty()) {
+            sources.addLast(new MapPropertySource("pricing-overrides", new LinkedHashMap<>(overrides)));
+            source = "admin overrides";
+        }
+        if (!pricingFile.isBlank()) {
+            loadFile(Path.of(pricingFile)).forEach(sources::addLast);
+            source = overrides.isEmpty() ? pricingFile : "admin overrides and " + pricingFile;
+        }
+        environment.getPropertySources().forEach(sources::addLast);
+        
+        try {
+            return pricingEngine.update(PricingConfig.bind(new PropertySourcesPropertyResolver(sources)), source);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid pricing configuration: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces the admin overrides (full {@code simulation.*} keys) and reloads. An empty map
+     * clears them. The previous overrides are kept when the new ones do not compile.
+     */
+    public synchronized PricingSnapshot override(Map<String, Object> values) {
+        for (String key : values.keySet()) {
+            if (!key.startsWith("simulation.")) {
+                throw new IllegalArgumentException("Pricing override keys start with 'simulation.': " + key);
+            }
+        }
+        Map<String, Object> previous = new LinkedHashMap<>(overrides);
+        overrides.clear();
+        overrides.putAll(values);
+        try {
+            return reload();
+        } catch (IllegalArgumentException e) {
+            overrides.clear();
+            overrides.putAll(previous);
+            throw e;
+        }
+    }
+
+    private static Iterable<PropertySource<?>> loadFile(Path file) {
+        String name = file.getFileName().toString();
+        PropertySourceLoader loader = name.endsWith(".yml") || name.endsWith(".yaml")
+                ? new YamlPropertySourceLoader()
+                : new PropertiesPropertySourceLoader();
+        try {
+            return loader.load("pricing-file", new FileSystemResource(file));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read pricing file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void watch(Path file) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= file.getFileName().equals(event.context());
+                }
+                key.reset();
+                // Editors often write a file in several steps; only reload once it is readable
+                if (changed && Files.isReadable(file)) {
+                    try {
+                        reload();
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Pricing file change ignored, keeping snapshot {}: {}",
+                                pricingEngine.snapshot().version(), e.getMessage());
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Pricing file watcher stopped");
+        }
+    }
+}
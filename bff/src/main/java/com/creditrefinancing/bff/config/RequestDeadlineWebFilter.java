@@ -0,0 +1,72 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.client.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sets the {@link RequestDeadline} of every request: the caller's {@code X-Request-Timeout-Ms}
+ * when sent (capped at {@code request.deadline.max}), otherwise the default of the first
+ * {@code request.deadline.routes} pattern matching the path, otherwise {@code request.deadline.default}.
+ */
+@Component
+@Slf4j
+public class RequestDeadlineWebFilter implements WebFilter {
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final Map<PathPattern, Duration> routeTimeouts = new LinkedHashMap<>();
+
+    public RequestDeadlineWebFilter(Environment environment,
+                                    @Value("${request.deadline.default:10s}") Duration defaultTimeout,
+                                    @Value("${request.deadline.max:60s}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        Binder.get(environment)
+                .bind("request.deadline.routes", Bindable.mapOf(String.class, Duration.class))
+                .orElse(Map.of())
+                .forEach((pattern, timeout) -> routeTimeouts.put(PathPatternParser.defaultInstance.parse(pattern), timeout));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Instant deadline = Instant.now().plus(timeout(exchange));
+        return chain.filter(exchange)
+                .contextWrite(context -> RequestDeadline.with(context, deadline));
+    }
+
+    private Duration timeout(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER);
+        if (header != null) {
+            try {
+                Duration requested = Duration.ofMillis(Math.max(0, Long.parseLong(header.trim())));
+                return requested.compareTo(maxTimeout) < 0 ? requested : maxTimeout;
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", RequestDeadline.HEADER, header);
+            }
+        }
+        
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        return routeTimeouts.entrySet().stream()
+                .filter(route -> route.getKey().matches(path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultTimeout);
+    }
+}
@@ -0,0 +1,42 @@
+package com.creditrefinancing.bff.config;
+
+import com.creditrefinancing.bff.client.RetryPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Retry policies for the downstream services, one per service and shared by all of its calls.
+ */
+@Configuration
+public class RetryPolicyConfiguration {
+
+    @Value("${services.simulation.retry.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${services.simulation.retry.base-backoff:200ms}")
+    private Duration baseBackoff;
+
+    @Value("${services.simulation.retry.max-backoff:2s}")
+    private Duration maxBackoff;
+
+    @Value("${services.simulation.retry.min-remaining:200ms}")
+    private Duration minRemaining;
+
+    @Value("${services.simulation.retry.budget-ratio:0.1}")
+    private double budgetRatio;
+
+    @Value("${services.simulation.retry.budget-reserve:10}")
+    private int budgetReserve;
+
+    @Bean
+    @Qualifier("simulationRetryPolicy")
+    public RetryPolicy simulationRetryPolicy(MeterRegistry meterRegistry) {
+        return new RetryPolicy("simulation-service", maxRetries, baseBackoff, maxBackoff, minRemaining,
+                budgetRatio, budgetReserve, meterRegistry);
+    }
+}
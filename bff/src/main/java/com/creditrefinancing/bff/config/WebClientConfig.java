@@ -1,7 +1,11 @@
 package com.creditrefinancing.bff.config;
 
+import com.creditrefinancing.bff.client.AdaptiveConcurrencyLimitFilter;
+import com.creditrefinancing.bff.client.RequestDeadlineFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,14 +14,21 @@ import org.springframework.http.MediaType;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
+@RequiredArgsConstructor
 @Slf4j
 public class WebClientConfig {
 
@@ -44,28 +55,99 @@ public class WebClientConfig {
     
     @Value("${webclient.max-in-memory-size:10485760}")
     private int maxMemorySize;
+    
+    @Value("${webclient.concurrency-limit.initial:20}")
+    private int initialConcurrencyLimit;
+    
+    @Value("${webclient.concurrency-limit.min:5}")
+    private int minConcurrencyLimit;
+    
+    @Value("${webclient.concurrency-limit.max:200}")
+    private int maxConcurrencyLimit;
+    
 
-    private ReactorClientHttpConnector createReactorClientHttpConnector() {
-        HttpClient httpClient = HttpClient.create()
+    @Value("${webclient.pool.max-connections:100}")
+    private int maxConnections;
+    
+    @Value("${webclient.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+    
+    @Value("${webclient.pool.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+    
+    @Value("${webclient.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+    
+    @Value("${webclient.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+    
+    @Value("${webclient.pool.eviction-interval:30s}")
+    private Duration evictionInterval;
+    
+    @Value("${webclient.deadline-hop-margin:50ms}")
+    private Duration deadlineHopMargin;
+    
+    @Value("${services.simulation.http2:false}")
+    private boolean simulationHttp2;
+    
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    /**
+     * Connector with its own connection pool, named after the service. Pool settings come from
+     * {@code webclient.pool.*}, each overridable per service under {@code services.<service>.pool.*};
+     * pool metrics are published as {@code reactor.netty.connection.provider.*{name}}.
+     */
+    private ReactorClientHttpConnector createReactorClientHttpConnector(String service, boolean h2c) {
+        String prefix = "services." + service + ".pool.";
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(service)
+                .maxConnections(environment.getProperty(prefix + "max-connections", Integer.class, maxConnections))
+                .pendingAcquireMaxCount(environment.getProperty(prefix + "pending-acquire-max-count", Integer.class,
+                        pendingAcquireMaxCount))
+                .pendingAcquireTimeout(environment.getProperty(prefix + "pending-acquire-timeout", Duration.class,
+                        pendingAcquireTimeout))
+                .maxIdleTime(environment.getProperty(prefix + "max-idle-time", Duration.class, maxIdleTime))
+                .maxLifeTime(environment.getProperty(prefix + "max-life-time", Duration.class, maxLifeTime))
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+        connectionProviders.add(connectionProvider);
+        
+        HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
-                .responseTimeout(Duration.ofMillis(readTimeout))
-                .doOnConnected(conn -> 
+                .responseTimeout(Duration.ofMillis(readTimeout));
+        if (h2c) {
+            // Prior-knowledge HTTP/2 without TLS: concurrent requests share a connection as streams.
+            // The response timeout above covers the streams; idle-connection handlers would act on
+            // the shared connection instead
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        } else {
+            httpClient = httpClient.doOnConnected(conn -> 
                     conn.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
                         .addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS))
                 );
+        }
         
         return new ReactorClientHttpConnector(httpClient);
     }
 
+    @PreDestroy
+    public void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
     @Bean
     @Qualifier("simulationWebClient")
     public WebClient simulationWebClient() {
         return WebClient.builder()
                 .baseUrl(simulationServiceUrl)
-                .clientConnector(createReactorClientHttpConnector())
+                .clientConnector(createReactorClientHttpConnector("simulation", simulationHttp2))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .filter(loggingFilter("Simulation Service"))
+                .filter(new RequestDeadlineFilter("Simulation Service", deadlineHopMargin))
+                .filter(concurrencyLimitFilter("simulation-service"))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxMemorySize))
                 .build();
     }
@@ -75,10 +157,12 @@ public class WebClientConfig {
     public WebClient proposalWebClient() {
         return WebClient.builder()
                 .baseUrl(proposalServiceUrl)
-                .clientConnector(createReactorClientHttpConnector())
+                .clientConnector(createReactorClientHttpConnector("proposal", false))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .filter(loggingFilter("Proposal Service"))
+                .filter(new RequestDeadlineFilter("Proposal Service", deadlineHopMargin))
+                .filter(concurrencyLimitFilter("proposal-service"))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxMemorySize))
                 .build();
     }
@@ -88,10 +172,12 @@ public class WebClientConfig {
     public WebClient formalizationWebClient() {
         return WebClient.builder()
                 .baseUrl(formalizationServiceUrl)
-                .clientConnector(createReactorClientHttpConnector())
+                .clientConnector(createReactorClientHttpConnector("formalization", false))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .filter(loggingFilter("Formalization Service"))
+                .filter(new RequestDeadlineFilter("Formalization Service", deadlineHopMargin))
+                .filter(concurrencyLimitFilter("formalization-service"))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxMemorySize))
                 .build();
     }
@@ -101,14 +187,21 @@ public class WebClientConfig {
     public WebClient afterSalesWebClient() {
         return WebClient.builder()
                 .baseUrl(afterSalesServiceUrl)
-                .clientConnector(createReactorClientHttpConnector())
+                .clientConnector(createReactorClientHttpConnector("after-sales", false))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .filter(loggingFilter("After Sales Service"))
+                .filter(new RequestDeadlineFilter("After Sales Service", deadlineHopMargin))
+                .filter(concurrencyLimitFilter("after-sales-service"))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxMemorySize))
                 .build();
     }
 
+    private AdaptiveConcurrencyLimitFilter concurrencyLimitFilter(String serviceName) {
+        return new AdaptiveConcurrencyLimitFilter(serviceName, initialConcurrencyLimit,
+                minConcurrencyLimit, maxConcurrencyLimit, meterRegistry);
+    }
+
     private org.springframework.web.reactive.function.client.ExchangeFilterFunction loggingFilter(String serviceName) {
         return org.springframework.web.reactive.function.client.ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             log.debug("Request to {}: {} {}", serviceName, clientRequest.method(), clientRequest.url());
@@ -125,7 +218,7 @@ public class WebClientConfig {
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder()
-                .clientConnector(createReactorClientHttpConnector())
+                .clientConnector(createReactorClientHttpConnector("shared", false))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("X-Service-Name", "credit-refinancing-bff")
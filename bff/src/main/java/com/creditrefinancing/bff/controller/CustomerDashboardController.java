@@ -0,0 +1,33 @@
+package com.creditrefinancing.bff.controller;
+
+import com.creditrefinancing.bff.dto.CustomerDashboardDTO;
+import com.creditrefinancing.bff.service.CustomerDashboardService;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/customers")
+@Tag(name = "Customer", description = "Customer overview endpoints")
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerDashboardController {
+
+    private final CustomerDashboardService customerDashboardService;
+    
+    @GetMapping("/{customerId}/dashboard")
+    @Operation(summary = "Get the customer's simulations, proposals, formalizations and contracts in one call")
+    @ApiResponse(responseCode = "200", description = "Dashboard built; sections whose service did not answer have a status other than OK")
+    public Mono<ResponseEntity<CustomerDashboardDTO>> getDashboard(@PathVariable String customerId) {
+        log.info("Received dashboard request for customer: {}", customerId);
+        
+        return customerDashboardService.getDashboard(customerId)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,79 @@
+package com.creditrefinancing.bff.controller;
+
+import com.creditrefinancing.bff.config.PricingConfigReloader;
+import com.creditrefinancing.bff.dto.PricingSnapshotDTO;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * Changes the pricing of every simulation, so it is only mounted when
+ * {@code simulation.pricing.admin.enabled} is set; expose it only where callers are trusted.
+ */
+@RestController
+@RequestMapping("/admin/pricing")
+@ConditionalOnProperty(name = "simulation.pricing.admin.enabled", havingValue = "true")
+@Tag(name = "Pricing administration", description = "Inspect and reload the pricing rules without a restart")
+@RequiredArgsConstructor
+@Slf4j
+public class PricingAdminController {
+
+    private final PricingEngine pricingEngine;
+    private final PricingConfigReloader pricingConfigReloader;
+
+    @GetMapping
+    @Operation(summary = "Get the pricing rules currently in force")
+    @ApiResponse(responseCode = "200", description = "Current pricing snapshot")
+    public Mono<ResponseEntity<PricingSnapshotDTO>> getPricing() {
+        return Mono.just(ResponseEntity.ok(toDTO(pricingEngine.snapshot())));
+    }
+
+    @PostMapping("/reload")
+    @Operation(summary = "Reload the pricing rules from the pricing file and application settings")
+    @ApiResponse(responseCode = "200", description = "Pricing rules reloaded")
+    @ApiResponse(responseCode = "400", description = "Invalid pricing configuration; the current rules are kept")
+    public Mono<ResponseEntity<PricingSnapshotDTO>> reload() {
+        log.info("Received pricing reload request");
+        
+        return Mono.fromCallable(pricingConfigReloader::reload)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(snapshot -> ResponseEntity.ok(toDTO(snapshot)));
+    }
+
+    @PutMapping("/overrides")
+    @Operation(summary = "Replace the pricing overrides, keyed by simulation.* setting; an empty object clears them")
+    @ApiResponse(responseCode = "200", description = "Pricing overrides applied")
+    @ApiResponse(responseCode = "400", description = "Invalid pricing configuration; the current rules are kept")
+    public Mono<ResponseEntity<PricingSnapshotDTO>> override(@RequestBody Map<String, Object> overrides) {
+        log.info("Received pricing overrides: {}", overrides.keySet());
+        
+        return Mono.fromCallable(() -> pricingConfigReloader.override(overrides))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(snapshot -> ResponseEntity.ok(toDTO(snapshot)));
+    }
+
+    private static PricingSnapshotDTO toDTO(PricingSnapshot snapshot) {
+        return PricingSnapshotDTO.builder()
+                .version(snapshot.version())
+                .source(snapshot.source())
+                .loadedAt(snapshot.loadedAt())
+                .baseInterestRate(snapshot.rules().getBaseInterestRate())
+                .minInterestRate(snapshot.minInterestRate())
+                .maxDebtToIncomeRatio(snapshot.highRiskThreshold())
+                .processingFeeRate(snapshot.processingFeeRate())
+                .interestRates(snapshot.interestRates().stream().sorted().toList())
+                .build();
+    }
+}
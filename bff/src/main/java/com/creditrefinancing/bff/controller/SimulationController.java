@@ -1,12 +1,30 @@
 package com.creditrefinancing.bff.controller;
 
+import com.creditrefinancing.bff.dto.BatchSimulationResultDTO;
+import com.creditrefinancing.bff.dto.PortfolioAnalysisRequestDTO;
+import com.creditrefinancing.bff.dto.PortfolioAnalysisResponseDTO;
 import com.creditrefinancing.bff.dto.SimulationRequestDTO;
 import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepResponseDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import com.creditrefinancing.bff.service.PortfolioAnalysisService;
+import com.creditrefinancing.bff.service.SimulationBatchService;
+import com.creditrefinancing.bff.service.SimulationIdempotencyStore;
 import com.creditrefinancing.bff.service.SimulationService;
+import com.creditrefinancing.bff.service.SimulationSolverService;
+import com.creditrefinancing.bff.service.SimulationStressTestService;
+import com.creditrefinancing.bff.service.SimulationSweepService;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,7 +41,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 public class SimulationController {
 
     private final SimulationService simulationService;
-
+    private final SimulationBatchService simulationBatchService;
+    private final SimulationSweepService simulationSweepService;
+    private final SimulationSolverService simulationSolverService;
+    private final SimulationStressTestService simulationStressTestService;
+    private final PortfolioAnalysisService portfolioAnalysisService;
+    private final SimulationIdempotencyStore simulationIdempotencyStore;
+    
     @GetMapping("/health")
     @Operation(summary = "Health check for simulation service")
     @ApiResponse(responseCode = "200", description = "Service is healthy")
@@ -35,14 +59,102 @@ public class SimulationController {
     @Operation(summary = "Calculate credit refinancing simulation")
     @ApiResponse(responseCode = "200", description = "Simulation calculated successfully")
     @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request")
     public Mono<ResponseEntity<SimulationResponseDTO>> calculateSimulation(
-            @Valid @RequestBody SimulationRequestDTO request) {
+            @Valid @RequestBody SimulationRequestDTO request,
+            @RequestHeader(value = SimulationIdempotencyStore.HEADER, required = false) String idempotencyKey) {
         
         log.info("Received simulation request for customer: {}", request.getCustomerId());
         
-        return simulationService.calculateSimulation(request)
+        // With a key, duplicates (client retries, double submits) replay the first result
+        Mono<SimulationResponseDTO> simulation = idempotencyKey != null
+                ? simulationIdempotencyStore.execute(idempotencyKey, request,
+                        () -> simulationService.calculateSimulation(request))
+                : simulationService.calculateSimulation(request);
+        
+        return simulation
                 .map(ResponseEntity::ok)
-                .onErrorReturn(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                .onErrorReturn(error -> !(error instanceof IllegalArgumentException || error instanceof BusinessRuleException),
+                        ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+    }
+
+    @PostMapping(value = "/calculate/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Calculate simulations for a JSON array or NDJSON stream of requests")
+    @ApiResponse(responseCode = "200", description = "One result per request, streamed in request order")
+    public Flux<BatchSimulationResultDTO> calculateBatch(@RequestBody Flux<SimulationRequestDTO> requests) {
+        log.info("Received batch simulation request");
+        
+        // Items are validated one by one so a single bad row does not reject the batch
+        return simulationBatchService.calculateBatch(requests);
+    }
+
+    @PostMapping("/sweep")
+    @Operation(summary = "Evaluate a grid of terms and loan amounts for one customer")
+    @ApiResponse(responseCode = "200", description = "Grid evaluated successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters or grid too large")
+    public Mono<ResponseEntity<SimulationSweepResponseDTO>> calculateSweep(
+            @Valid @RequestBody SimulationSweepRequestDTO request) {
+        
+        log.info("Received sweep request for customer: {}", request.getBaseRequest().getCustomerId());
+        
+        return simulationSweepService.calculateSweep(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/solve/max-loan-amount")
+    @Operation(summary = "Find the largest loan amount whose payment fits the payment and debt-to-income caps")
+    @ApiResponse(responseCode = "200", description = "Maximum loan amount found")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters or missing term or cap")
+    @ApiResponse(responseCode = "422", description = "Not even the minimum loan amount fits the caps")
+    public Mono<ResponseEntity<SimulationSolveResponseDTO>> solveMaxLoanAmount(
+            @Valid @RequestBody SimulationSolveRequestDTO request) {
+        
+        log.info("Received maximum loan amount request for customer: {}", request.getCustomerId());
+        
+        return simulationSolverService.solveMaxLoanAmount(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/solve/min-term")
+    @Operation(summary = "Find the shortest term whose payment fits the payment and debt-to-income caps")
+    @ApiResponse(responseCode = "200", description = "Minimum term found")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters or missing loan amount or cap")
+    @ApiResponse(responseCode = "422", description = "Not even the longest term fits the caps")
+    public Mono<ResponseEntity<SimulationSolveResponseDTO>> solveMinTerm(
+            @Valid @RequestBody SimulationSolveRequestDTO request) {
+        
+        log.info("Received minimum term request for customer: {}", request.getCustomerId());
+        
+        return simulationSolverService.solveMinTerm(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/stress-test")
+    @Operation(summary = "Stress a variable-rate simulation with random interest rate paths")
+    @ApiResponse(responseCode = "200", description = "Stress test completed successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters, missing income or too many scenarios")
+    public Mono<ResponseEntity<SimulationStressTestResponseDTO>> calculateStressTest(
+            @Valid @RequestBody SimulationStressTestRequestDTO request) {
+        
+        log.info("Received stress test request for customer: {}", request.getBaseRequest().getCustomerId());
+        
+        return simulationStressTestService.calculateStressTest(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/portfolio/analyze")
+    @Operation(summary = "Analyze a loan book CSV export for refinancing eligibility and savings")
+    @ApiResponse(responseCode = "200", description = "Portfolio analyzed successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters, unknown file or missing required columns")
+    public Mono<ResponseEntity<PortfolioAnalysisResponseDTO>> analyzePortfolio(
+            @Valid @RequestBody PortfolioAnalysisRequestDTO request) {
+        
+        log.info("Received portfolio analysis request for file: {}", request.getFile());
+        
+        return portfolioAnalysisService.analyzePortfolio(request)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/{simulationId}")
@@ -56,4 +168,34 @@ public class SimulationController {
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.notFound().build());
     }
+
+    @GetMapping(value = "/{simulationId}/schedule",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream the amortization schedule of a simulation (NDJSON or Server-Sent Events)")
+    @ApiResponse(responseCode = "200", description = "Schedule rows streamed in payment order")
+    @ApiResponse(responseCode = "400", description = "Invalid row range")
+    public Flux<SimulationResponseDTO.PaymentPreview> getPaymentSchedule(
+            @PathVariable String simulationId,
+            @RequestParam(defaultValue = "1") int from,
+            @RequestParam(required = false) Integer to) {
+        
+        log.info("Streaming schedule for simulation: {} (rows {}..{})", simulationId, from, to);
+        
+        return simulationService.getPaymentSchedule(simulationId, from, to);
+    }
+
+    @PostMapping(value = "/schedule",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Calculate and stream the amortization schedule for a request (NDJSON or Server-Sent Events)")
+    @ApiResponse(responseCode = "200", description = "Schedule rows streamed in payment order")
+    @ApiResponse(responseCode = "400", description = "Invalid request parameters or row range")
+    public Flux<SimulationResponseDTO.PaymentPreview> calculatePaymentSchedule(
+            @Valid @RequestBody SimulationRequestDTO request,
+            @RequestParam(defaultValue = "1") int from,
+            @RequestParam(required = false) Integer to) {
+        
+        log.info("Received schedule request for customer: {} (rows {}..{})", request.getCustomerId(), from, to);
+        
+        return simulationService.calculatePaymentSchedule(request, from, to);
+    }
 }
@@ -0,0 +1,45 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one request in a batch simulation")
+public class BatchSimulationResultDTO {
+    
+    @JsonProperty("index")
+    @Schema(description = "Zero-based position of the request in the batch", example = "0")
+    private Long index;
+    
+    @JsonProperty("customer_id")
+    @Schema(description = "Customer identifier from the request", example = "CUST-12345")
+    private String customerId;
+    
+    @JsonProperty("outcome")
+    @Schema(description = "Outcome of the request", example = "CALCULATED", 
+            allowableValues = {"CALCULATED", "INVALID", "FAILED"})
+    private String outcome;
+    
+    @JsonProperty("simulation")
+    @Schema(description = "Simulation result, present when the outcome is CALCULATED")
+    private SimulationResponseDTO simulation;
+    
+    @JsonProperty("field_errors")
+    @Schema(description = "Validation errors, present when the outcome is INVALID")
+    private Map<String, String> fieldErrors;
+    
+    @JsonProperty("error")
+    @Schema(description = "Why the request was rejected, or a fixed message; present when the outcome is FAILED", example = "Simulation could not be calculated")
+    private String error;
+}
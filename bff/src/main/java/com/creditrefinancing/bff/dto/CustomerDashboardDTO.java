@@ -0,0 +1,47 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Customer overview gathered from the simulation, proposal, formalization and after-sales services")
+public class CustomerDashboardDTO {
+    
+    @JsonProperty("customer_id")
+    @Schema(description = "Customer identifier", example = "CUST-12345")
+    private String customerId;
+    
+    @JsonProperty("complete")
+    @Schema(description = "Whether every section has the status OK", example = "true")
+    private boolean complete;
+    
+    @JsonProperty("elapsed_ms")
+    @Schema(description = "Time spent building the dashboard, in milliseconds", example = "120")
+    private Long elapsedMs;
+    
+    @JsonProperty("simulations")
+    @Schema(description = "The customer's simulations")
+    private DashboardSectionDTO<List<SimulationResponseDTO>> simulations;
+    
+    @JsonProperty("proposals")
+    @Schema(description = "The customer's proposals, as returned by the proposal service")
+    private DashboardSectionDTO<JsonNode> proposals;
+    
+    @JsonProperty("formalizations")
+    @Schema(description = "The customer's formalizations, as returned by the formalization service")
+    private DashboardSectionDTO<JsonNode> formalizations;
+    
+    @JsonProperty("after_sales")
+    @Schema(description = "The customer's contracts, as returned by the after-sales service")
+    private DashboardSectionDTO<JsonNode> afterSales;
+}
@@ -0,0 +1,35 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "One section of the customer dashboard, with the outcome of the call that filled it")
+public class DashboardSectionDTO<T> {
+    
+    @JsonProperty("status")
+    @Schema(description = "Outcome of the call to the service behind the section", example = "OK", 
+            allowableValues = {"OK", "TIMEOUT", "UNAVAILABLE"})
+    private String status;
+    
+    @JsonProperty("elapsed_ms")
+    @Schema(description = "Time spent on the section, in milliseconds", example = "85")
+    private Long elapsedMs;
+    
+    @JsonProperty("data")
+    @Schema(description = "Section content; the fallback (empty) content unless the status is OK")
+    private T data;
+    
+    @JsonProperty("error")
+    @Schema(description = "Fixed message for the status, present unless the status is OK", example = "Service unavailable")
+    private String error;
+}
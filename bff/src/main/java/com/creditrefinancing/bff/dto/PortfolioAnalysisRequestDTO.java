@@ -0,0 +1,27 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to analyze a loan book CSV export for refinancing eligibility")
+public class PortfolioAnalysisRequestDTO {
+    
+    @NotBlank(message = "Portfolio file is required")
+    @Size(max = 255, message = "Portfolio file name cannot exceed 255 characters")
+    @JsonProperty("file")
+    @Schema(description = "CSV file, relative to simulation.portfolio.directory", example = "loan-book-2024-01.csv")
+    private String file;
+    
+    @Min(value = 12, message = "Loan term must be at least 12 months")
+    @Max(value = 360, message = "Loan term cannot exceed 360 months (30 years)")
+    @JsonProperty("desired_term_months")
+    @Schema(description = "Refinancing term for rows without a desired_term_months column (default simulation.portfolio.default-term-months)", example = "240")
+    private Integer desiredTermMonths;
+}
@@ -0,0 +1,67 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Refinancing eligibility and savings summary of a loan book")
+public class PortfolioAnalysisResponseDTO {
+    
+    @JsonProperty("file")
+    @Schema(description = "Analyzed file", example = "loan-book-2024-01.csv")
+    private String file;
+    
+    @JsonProperty("bytes")
+    @Schema(description = "File size in bytes", example = "4294967296")
+    private Long bytes;
+    
+    @JsonProperty("rows")
+    @Schema(description = "Data rows read, excluding the header", example = "25000000")
+    private Long rows;
+    
+    @JsonProperty("invalid_rows")
+    @Schema(description = "Rows skipped because a field is missing, malformed or out of range", example = "1204")
+    private Long invalidRows;
+    
+    @JsonProperty("status_counts")
+    @Schema(description = "Simulated rows per status (CALCULATED, PENDING, REJECTED)")
+    private Map<String, Long> statusCounts;
+    
+    @JsonProperty("eligible")
+    @Schema(description = "Rows that are not rejected and would pay less after refinancing", example = "8120455")
+    private Long eligible;
+    
+    @JsonProperty("eligible_by_loan_type")
+    @Schema(description = "Eligible rows per loan type")
+    private Map<String, Long> eligibleByLoanType;
+    
+    @JsonProperty("total_monthly_savings")
+    @Schema(description = "Sum of the monthly savings of eligible rows", example = "912345678.90")
+    private BigDecimal totalMonthlySavings;
+    
+    @JsonProperty("average_monthly_savings")
+    @Schema(description = "Average monthly savings of an eligible row", example = "112.35")
+    private BigDecimal averageMonthlySavings;
+    
+    @JsonProperty("total_savings")
+    @Schema(description = "Sum of the savings of eligible rows over their new term", example = "218962962936.00")
+    private BigDecimal totalSavings;
+    
+    @JsonProperty("chunks")
+    @Schema(description = "Memory-mapped chunks processed in parallel", example = "64")
+    private Integer chunks;
+    
+    @JsonProperty("processing_time_ms")
+    @Schema(description = "Time taken to analyze the file in milliseconds", example = "41250")
+    private Long processingTimeMs;
+}
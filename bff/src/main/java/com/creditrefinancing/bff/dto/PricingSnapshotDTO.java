@@ -0,0 +1,52 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Pricing rules currently used by simulations")
+public class PricingSnapshotDTO {
+    
+    @JsonProperty("version")
+    @Schema(description = "Snapshot version, incremented on every reload", example = "3")
+    private Long version;
+    
+    @JsonProperty("source")
+    @Schema(description = "Where the rules were loaded from", example = "/etc/credit-refinancing/pricing.yml")
+    private String source;
+    
+    @JsonProperty("loaded_at")
+    @Schema(description = "When the snapshot was published")
+    private Instant loadedAt;
+    
+    @JsonProperty("base_interest_rate")
+    @Schema(description = "Annual base interest rate in percent", example = "4.5")
+    private BigDecimal baseInterestRate;
+    
+    @JsonProperty("min_interest_rate")
+    @Schema(description = "Lowest annual interest rate in percent", example = "2.0")
+    private BigDecimal minInterestRate;
+    
+    @JsonProperty("max_debt_to_income_ratio")
+    @Schema(description = "Debt-to-income ratio above which the risk is high", example = "0.43")
+    private BigDecimal maxDebtToIncomeRatio;
+    
+    @JsonProperty("processing_fee_rate")
+    @Schema(description = "Processing fee as a share of the loan amount", example = "0.01")
+    private BigDecimal processingFeeRate;
+    
+    @JsonProperty("interest_rates")
+    @Schema(description = "Every interest rate the rules can produce, ascending")
+    private List<BigDecimal> interestRates;
+}
@@ -44,6 +44,14 @@ public class SimulationResponseDTO {
     @Schema(description = "New interest rate (annual percentage)", example = "4.50")
     private BigDecimal newInterestRate;
     
+    @JsonProperty("processing_fee")
+    @Schema(description = "Processing fee deducted from the amount financed", example = "2000.00")
+    private BigDecimal processingFee;
+    
+    @JsonProperty("apr")
+    @Schema(description = "Annual percentage rate including the processing fee", example = "4.63")
+    private BigDecimal apr;
+    
     @JsonProperty("term_months")
     @Schema(description = "Loan term in months", example = "240")
     private Integer termMonths;
@@ -111,6 +119,10 @@ public class SimulationResponseDTO {
     @Schema(description = "Time taken to process simulation in milliseconds", example = "150")
     private Long processingTimeMs;
     
+    @JsonProperty("computed_locally")
+    @Schema(description = "Calculated by the BFF engine because the simulation service was unavailable", example = "false")
+    private boolean computedLocally;
+    
     // Nested DTOs
     @Data
     @Builder
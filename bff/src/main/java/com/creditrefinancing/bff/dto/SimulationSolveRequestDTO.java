@@ -0,0 +1,71 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to solve for the maximum loan amount or the minimum term under a payment cap")
+public class SimulationSolveRequestDTO {
+
+    @NotBlank(message = "Customer ID is required and cannot be blank")
+    @Size(min = 3, max = 50, message = "Customer ID must be between 3 and 50 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Customer ID can only contain letters, numbers, hyphens and underscores")
+    @JsonProperty("customer_id")
+    @Schema(description = "Unique customer identifier", example = "CUST-12345")
+    private String customerId;
+    
+    @NotBlank(message = "Loan type is required")
+    @Pattern(regexp = "^(PERSONAL|MORTGAGE|AUTO|BUSINESS|STUDENT)$",
+             message = "Loan type must be one of: PERSONAL, MORTGAGE, AUTO, BUSINESS, STUDENT")
+    @JsonProperty("loan_type")
+    @Schema(description = "Type of loan", example = "MORTGAGE", allowableValues = {"PERSONAL", "MORTGAGE", "AUTO", "BUSINESS", "STUDENT"})
+    private String loanType;
+    
+    @Min(value = 300, message = "Credit score minimum is 300")
+    @Max(value = 850, message = "Credit score maximum is 850")
+    @JsonProperty("credit_score")
+    @Schema(description = "Customer's credit score", example = "720")
+    private Integer creditScore;
+    
+    @DecimalMin(value = "0.00", message = "Monthly income cannot be negative")
+    @DecimalMax(value = "1000000.00", message = "Monthly income cannot exceed $1,000,000")
+    @Digits(integer = 8, fraction = 2, message = "Monthly income must have at most 2 decimal places")
+    @JsonProperty("monthly_income")
+    @Schema(description = "Customer's monthly income; caps the payment at the maximum debt-to-income ratio", example = "8000.00")
+    private BigDecimal monthlyIncome;
+    
+    @DecimalMin(value = "1000.00", message = "Desired loan amount must be at least $1,000")
+    @DecimalMax(value = "10000000.00", message = "Desired loan amount cannot exceed $10,000,000")
+    @Digits(integer = 10, fraction = 2, message = "Desired loan amount must have at most 2 decimal places")
+    @JsonProperty("desired_loan_amount")
+    @Schema(description = "Loan amount to fit under the cap (required for the minimum term)", example = "200000.00")
+    private BigDecimal desiredLoanAmount;
+    
+    @Min(value = 12, message = "Loan term must be at least 12 months")
+    @Max(value = 360, message = "Loan term cannot exceed 360 months (30 years)")
+    @JsonProperty("desired_term_months")
+    @Schema(description = "Loan term in months (required for the maximum loan amount)", example = "240")
+    private Integer desiredTermMonths;
+    
+    @DecimalMin(value = "0.01", message = "Maximum monthly payment must be positive")
+    @DecimalMax(value = "100000.00", message = "Maximum monthly payment cannot exceed $100,000")
+    @Digits(integer = 8, fraction = 2, message = "Maximum monthly payment must have at most 2 decimal places")
+    @JsonProperty("max_monthly_payment")
+    @Schema(description = "Highest acceptable monthly payment", example = "1500.00")
+    private BigDecimal maxMonthlyPayment;
+    
+    @DecimalMin(value = "0.0001", message = "Maximum debt-to-income ratio must be positive")
+    @DecimalMax(value = "1.0000", message = "Maximum debt-to-income ratio cannot exceed 1")
+    @Digits(integer = 1, fraction = 4, message = "Maximum debt-to-income ratio must have at most 4 decimal places")
+    @JsonProperty("max_debt_to_income_ratio")
+    @Schema(description = "Debt-to-income cap applied with the monthly income; defaults to simulation.max-debt-to-income-ratio", example = "0.36")
+    private BigDecimal maxDebtToIncomeRatio;
+}
@@ -0,0 +1,54 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Loan amount and term found by a solver, priced exactly like a single simulation")
+public class SimulationSolveResponseDTO {
+
+    @JsonProperty("customer_id")
+    @Schema(description = "Customer identifier", example = "CUST-12345")
+    private String customerId;
+    
+    @JsonProperty("loan_amount")
+    @Schema(description = "Loan amount of the solution", example = "231345.67")
+    private BigDecimal loanAmount;
+    
+    @JsonProperty("term_months")
+    @Schema(description = "Loan term of the solution in months", example = "240")
+    private Integer termMonths;
+    
+    @JsonProperty("interest_rate")
+    @Schema(description = "Annual interest rate applied to the solution", example = "4.50")
+    private BigDecimal interestRate;
+    
+    @JsonProperty("monthly_payment")
+    @Schema(description = "Monthly payment of the solution", example = "1499.98")
+    private BigDecimal monthlyPayment;
+    
+    @JsonProperty("payment_cap")
+    @Schema(description = "Highest monthly payment allowed by the payment and debt-to-income caps", example = "1500.00")
+    private BigDecimal paymentCap;
+    
+    @JsonProperty("debt_to_income_ratio")
+    @Schema(description = "Debt-to-income ratio of the solution, when the income is known", example = "0.1875")
+    private BigDecimal debtToIncomeRatio;
+    
+    @JsonProperty("evaluations")
+    @Schema(description = "Payment formula evaluations used to find the solution", example = "4")
+    private Integer evaluations;
+    
+    @JsonProperty("processing_time_ms")
+    @Schema(description = "Time taken to solve in milliseconds", example = "1")
+    private Long processingTimeMs;
+}
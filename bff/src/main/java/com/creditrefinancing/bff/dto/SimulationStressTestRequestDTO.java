@@ -0,0 +1,51 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to stress a variable-rate simulation with random interest rate paths")
+public class SimulationStressTestRequestDTO {
+
+    @Valid
+    @NotNull(message = "Base simulation request is required")
+    @JsonProperty("base_request")
+    @Schema(description = "Customer request; its simulated rate and payment are the start of every path")
+    private SimulationRequestDTO baseRequest;
+    
+    @Min(value = 1, message = "At least one scenario is required")
+    @JsonProperty("scenarios")
+    @Schema(description = "Number of rate paths (default 10000, maximum simulation.stress-test.max-scenarios)", example = "10000")
+    private Integer scenarios;
+    
+    @JsonProperty("seed")
+    @Schema(description = "Random seed; the same seed always gives the same result (random when omitted)", example = "42")
+    private Long seed;
+    
+    @Min(value = 1, message = "Rate reset interval must be at least 1 month")
+    @Max(value = 120, message = "Rate reset interval cannot exceed 120 months")
+    @JsonProperty("reset_interval_months")
+    @Schema(description = "Months between rate resets (default 12)", example = "12")
+    private Integer resetIntervalMonths;
+    
+    @DecimalMin(value = "0.00", message = "Rate volatility cannot be negative")
+    @DecimalMax(value = "10.00", message = "Rate volatility cannot exceed 10 percentage points a year")
+    @JsonProperty("annual_rate_volatility")
+    @Schema(description = "Standard deviation of the rate change over a year, in percentage points (default 1.0)", example = "1.0")
+    private BigDecimal annualRateVolatility;
+    
+    @DecimalMin(value = "-5.00", message = "Rate drift cannot be below -5 percentage points a year")
+    @DecimalMax(value = "5.00", message = "Rate drift cannot exceed 5 percentage points a year")
+    @JsonProperty("annual_rate_drift")
+    @Schema(description = "Expected rate change over a year, in percentage points (default 0)", example = "0.25")
+    private BigDecimal annualRateDrift;
+}
@@ -0,0 +1,63 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Distribution of the peak debt-to-income ratio over random interest rate paths")
+public class SimulationStressTestResponseDTO {
+
+    @JsonProperty("customer_id")
+    @Schema(description = "Customer identifier", example = "CUST-12345")
+    private String customerId;
+    
+    @JsonProperty("scenarios")
+    @Schema(description = "Number of rate paths evaluated", example = "10000")
+    private Integer scenarios;
+    
+    @JsonProperty("seed")
+    @Schema(description = "Seed that reproduces this result", example = "42")
+    private Long seed;
+    
+    @JsonProperty("initial_interest_rate")
+    @Schema(description = "Simulated annual interest rate at the start of every path", example = "4.25")
+    private BigDecimal initialInterestRate;
+    
+    @JsonProperty("initial_monthly_payment")
+    @Schema(description = "Simulated monthly payment before the first rate reset", example = "1238.51")
+    private BigDecimal initialMonthlyPayment;
+    
+    @JsonProperty("initial_debt_to_income_ratio")
+    @Schema(description = "Simulated debt-to-income ratio before the first rate reset", example = "0.2477")
+    private BigDecimal initialDebtToIncomeRatio;
+    
+    @JsonProperty("debt_to_income_percentiles")
+    @Schema(description = "Percentiles (p50, p75, p90, p95, p99) of the highest debt-to-income ratio along each path")
+    private Map<String, BigDecimal> debtToIncomePercentiles;
+    
+    @JsonProperty("max_debt_to_income_ratio")
+    @Schema(description = "Maximum debt-to-income ratio the paths are tested against", example = "0.43")
+    private BigDecimal maxDebtToIncomeRatio;
+    
+    @JsonProperty("probability_exceeding_max_dti")
+    @Schema(description = "Share of paths whose debt-to-income ratio exceeds the maximum at some reset", example = "0.0312")
+    private BigDecimal probabilityExceedingMaxDti;
+    
+    @JsonProperty("worst_case_payment")
+    @Schema(description = "Highest monthly payment reached on any path", example = "2104.87")
+    private BigDecimal worstCasePayment;
+    
+    @JsonProperty("processing_time_ms")
+    @Schema(description = "Time taken to run the scenarios in milliseconds", example = "12")
+    private Long processingTimeMs;
+}
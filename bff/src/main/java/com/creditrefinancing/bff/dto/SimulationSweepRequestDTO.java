@@ -0,0 +1,91 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to evaluate a grid of terms and loan amounts for one customer")
+public class SimulationSweepRequestDTO {
+    
+    @Valid
+    @NotNull(message = "Base simulation request is required")
+    @JsonProperty("base_request")
+    @Schema(description = "Customer request; its desired term and amount are replaced by each grid point")
+    private SimulationRequestDTO baseRequest;
+    
+    @Valid
+    @NotNull(message = "Term range is required")
+    @JsonProperty("term_range")
+    @Schema(description = "Terms to evaluate, in months")
+    private TermRange termRange;
+    
+    @Valid
+    @NotNull(message = "Amount range is required")
+    @JsonProperty("amount_range")
+    @Schema(description = "Loan amounts to evaluate")
+    private AmountRange amountRange;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Inclusive range of loan terms")
+    public static class TermRange {
+        @NotNull(message = "Term range start is required")
+        @Min(value = 12, message = "Loan term must be at least 12 months")
+        @Max(value = 360, message = "Loan term cannot exceed 360 months (30 years)")
+        @JsonProperty("from")
+        @Schema(description = "First term", example = "120")
+        private Integer from;
+        
+        @NotNull(message = "Term range end is required")
+        @Min(value = 12, message = "Loan term must be at least 12 months")
+        @Max(value = 360, message = "Loan term cannot exceed 360 months (30 years)")
+        @JsonProperty("to")
+        @Schema(description = "Last term (inclusive)", example = "360")
+        private Integer to;
+        
+        @NotNull(message = "Term range step is required")
+        @Min(value = 1, message = "Term step must be at least 1 month")
+        @JsonProperty("step")
+        @Schema(description = "Step between terms", example = "12")
+        private Integer step;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Inclusive range of loan amounts")
+    public static class AmountRange {
+        @NotNull(message = "Amount range start is required")
+        @DecimalMin(value = "1000.00", message = "Desired loan amount must be at least $1,000")
+        @DecimalMax(value = "10000000.00", message = "Desired loan amount cannot exceed $10,000,000")
+        @Digits(integer = 10, fraction = 2, message = "Desired loan amount must have at most 2 decimal places")
+        @JsonProperty("from")
+        @Schema(description = "First amount", example = "100000.00")
+        private BigDecimal from;
+        
+        @NotNull(message = "Amount range end is required")
+        @DecimalMin(value = "1000.00", message = "Desired loan amount must be at least $1,000")
+        @DecimalMax(value = "10000000.00", message = "Desired loan amount cannot exceed $10,000,000")
+        @Digits(integer = 10, fraction = 2, message = "Desired loan amount must have at most 2 decimal places")
+        @JsonProperty("to")
+        @Schema(description = "Last amount (inclusive)", example = "300000.00")
+        private BigDecimal to;
+        
+        @NotNull(message = "Amount range step is required")
+        @DecimalMin(value = "0.01", message = "Amount step must be at least $0.01")
+        @Digits(integer = 10, fraction = 2, message = "Amount step must have at most 2 decimal places")
+        @JsonProperty("step")
+        @Schema(description = "Step between amounts", example = "10000.00")
+        private BigDecimal step;
+    }
+}
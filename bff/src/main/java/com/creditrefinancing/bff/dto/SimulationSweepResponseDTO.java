@@ -0,0 +1,54 @@
+package com.creditrefinancing.bff.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Grid of simulation results; matrices are indexed [amount][term]")
+public class SimulationSweepResponseDTO {
+    
+    @JsonProperty("customer_id")
+    @Schema(description = "Customer identifier", example = "CUST-12345")
+    private String customerId;
+    
+    @JsonProperty("terms")
+    @Schema(description = "Evaluated terms in months (matrix columns)")
+    private int[] terms;
+    
+    @JsonProperty("amounts")
+    @Schema(description = "Evaluated loan amounts (matrix rows)")
+    private BigDecimal[] amounts;
+    
+    @JsonProperty("interest_rates")
+    @Schema(description = "Annual interest rate applied to each amount row")
+    private BigDecimal[] interestRates;
+    
+    @JsonProperty("monthly_payment")
+    @Schema(description = "Monthly payment per grid point")
+    private double[][] monthlyPayment;
+    
+    @JsonProperty("total_interest")
+    @Schema(description = "Total interest over the term per grid point")
+    private double[][] totalInterest;
+    
+    @JsonProperty("debt_to_income_ratio")
+    @Schema(description = "Debt-to-income ratio per grid point (0 when income is unknown)")
+    private double[][] debtToIncomeRatio;
+    
+    @JsonProperty("status")
+    @Schema(description = "Simulation status per grid point")
+    private String[][] status;
+    
+    @JsonProperty("processing_time_ms")
+    @Schema(description = "Time taken to evaluate the grid in milliseconds", example = "1")
+    private Long processingTimeMs;
+}
@@ -0,0 +1,14 @@
+package com.creditrefinancing.bff.exception;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The caller's own request deadline ran out, before or while calling a service. Says nothing about
+ * the service's health, so circuit breakers ignore it; handled as a timeout (408).
+ */
+public class DeadlineExceededException extends TimeoutException {
+    
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
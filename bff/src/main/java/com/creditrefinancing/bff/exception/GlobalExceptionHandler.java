@@ -1,6 +1,7 @@
 package com.creditrefinancing.bff.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -136,6 +137,26 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(response, HttpStatus.NOT_FOUND));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleServiceOverloadedException(
+            ServiceOverloadedException ex) {
+        
+        String errorId = UUID.randomUUID().toString();
+        log.warn("Service overloaded [{}]: {}", errorId, ex.getMessage());
+        
+        ErrorResponse response = ErrorResponse.builder()
+                .errorId(errorId)
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("SERVICE_OVERLOADED")
+                .message(ex.getMessage())
+                .build();
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response));
+    }
+
     @ExceptionHandler(BusinessRuleException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleBusinessRuleException(
             BusinessRuleException ex) {
@@ -0,0 +1,8 @@
+package com.creditrefinancing.bff.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    
+    public ServiceOverloadedException(String serviceName, int limit) {
+        super(serviceName + " is at its concurrency limit of " + limit + " in-flight requests");
+    }
+}
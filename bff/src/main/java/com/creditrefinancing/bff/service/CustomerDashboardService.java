@@ -0,0 +1,137 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.client.AfterSalesServiceClient;
+import com.creditrefinancing.bff.client.FormalizationServiceClient;
+import com.creditrefinancing.bff.client.ProposalServiceClient;
+import com.creditrefinancing.bff.client.SimulationServiceClient;
+import com.creditrefinancing.bff.dto.CustomerDashboardDTO;
+import com.creditrefinancing.bff.dto.DashboardSectionDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the customer dashboard from the simulation, proposal, formalization and after-sales
+ * services, called all at once so the dashboard takes about as long as the slowest of them.
+ * <p>
+ * Each section has its own timeout. A section whose call times out or fails is returned empty,
+ * with status {@code TIMEOUT} or {@code UNAVAILABLE} and a fixed message, and the rest of the
+ * dashboard is still returned; what went wrong is only logged. Sections are timed in
+ * {@code dashboard.sections{section, status}}.
+ */
+@Service
+@Slf4j
+public class CustomerDashboardService {
+
+    static final String OK = "OK";
+    static final String TIMEOUT = "TIMEOUT";
+    static final String UNAVAILABLE = "UNAVAILABLE";
+    static final String TIMEOUT_MESSAGE = "Service did not answer in time";
+    static final String UNAVAILABLE_MESSAGE = "Service unavailable";
+
+    private final SimulationServiceClient simulationServiceClient;
+    private final ProposalServiceClient proposalServiceClient;
+    private final FormalizationServiceClient formalizationServiceClient;
+    private final AfterSalesServiceClient afterSalesServiceClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration simulationsTimeout;
+    private final Duration proposalsTimeout;
+    private final Duration formalizationsTimeout;
+    private final Duration afterSalesTimeout;
+
+    public CustomerDashboardService(SimulationServiceClient simulationServiceClient,
+                                    ProposalServiceClient proposalServiceClient,
+                                    FormalizationServiceClient formalizationServiceClient,
+                                    AfterSalesServiceClient afterSalesServiceClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${dashboard.timeouts.simulations:2s}") Duration simulationsTimeout,
+                                    @Value("${dashboard.timeouts.proposals:2s}") Duration proposalsTimeout,
+                                    @Value("${dashboard.timeouts.formalizations:2s}") Duration formalizationsTimeout,
+                                    @Value("${dashboard.timeouts.after-sales:2s}") Duration afterSalesTimeout) {
+        this.simulationServiceClient = simulationServiceClient;
+        this.proposalServiceClient = proposalServiceClient;
+        this.formalizationServiceClient = formalizationServiceClient;
+        this.afterSalesServiceClient = afterSalesServiceClient;
+        this.meterRegistry = meterRegistry;
+        this.simulationsTimeout = simulationsTimeout;
+        this.proposalsTimeout = proposalsTimeout;
+        this.formalizationsTimeout = formalizationsTimeout;
+        this.afterSalesTimeout = afterSalesTimeout;
+    }
+
+    public Mono<CustomerDashboardDTO> getDashboard(String customerId) {
+        log.info("Building dashboard for customer: {}", customerId);
+        
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            // Zip subscribes to every section at once; none of them can fail, so none cancels the others
+            return Mono.zip(
+                            section("simulations", simulationsTimeout, List::<SimulationResponseDTO>of,
+                                    () -> simulationServiceClient.getCustomerSimulations(customerId)),
+                            section("proposals", proposalsTimeout, JsonNodeFactory.instance::arrayNode,
+                                    () -> proposalServiceClient.getCustomerProposals(customerId)),
+                            section("formalizations", formalizationsTimeout, JsonNodeFactory.instance::arrayNode,
+                                    () -> formalizationServiceClient.getCustomerFormalizations(customerId)),
+                            section("after-sales", afterSalesTimeout, JsonNodeFactory.instance::arrayNode,
+                                    () -> afterSalesServiceClient.getCustomerContracts(customerId)))
+                    .map(sections -> CustomerDashboardDTO.builder()
+                            .customerId(customerId)
+                            .simulations(sections.getT1())
+                            .proposals(sections.getT2())
+                            .formalizations(sections.getT3())
+                            .afterSales(sections.getT4())
+                            .complete(OK.equals(sections.getT1().getStatus()) && OK.equals(sections.getT2().getStatus())
+                                    && OK.equals(sections.getT3().getStatus()) && OK.equals(sections.getT4().getStatus()))
+                            .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                            .build())
+                    .doOnNext(dashboard -> {
+                        if (!dashboard.isComplete()) {
+                            log.warn("Dashboard for customer {} is incomplete", customerId);
+                        }
+                    });
+        });
+    }
+
+    private <T> Mono<DashboardSectionDTO<T>> section(String name, Duration timeout, Supplier<T> fallback,
+                                                     Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return Mono.defer(call)
+                    .defaultIfEmpty(fallback.get())
+                    .timeout(timeout)
+                    .map(data -> DashboardSectionDTO.<T>builder().status(OK).data(data).build())
+                    .onErrorResume(error -> {
+                        // The details stay in the log; clients only see the fixed message of the status
+                        log.warn("Dashboard section {} left empty", name, error);
+                        // The section timeout, or the request deadline enforced by the WebClient
+                        boolean timedOut = error instanceof TimeoutException;
+                        return Mono.just(DashboardSectionDTO.<T>builder()
+                                .status(timedOut ? TIMEOUT : UNAVAILABLE)
+                                .data(fallback.get())
+                                .error(timedOut ? TIMEOUT_MESSAGE : UNAVAILABLE_MESSAGE)
+                                .build());
+                    })
+                    .doOnNext(section -> {
+                        long elapsed = System.nanoTime() - startTime;
+                        section.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsed));
+                        Timer.builder("dashboard.sections")
+                                .tag("section", name)
+                                .tag("status", section.getStatus())
+                                .description("Time to fill a customer dashboard section")
+                                .register(meterRegistry)
+                                .record(elapsed, TimeUnit.NANOSECONDS);
+                    });
+        });
+    }
+}
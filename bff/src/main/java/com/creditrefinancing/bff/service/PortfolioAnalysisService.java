@@ -0,0 +1,316 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.PortfolioAnalysisRequestDTO;
+import com.creditrefinancing.bff.dto.PortfolioAnalysisResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.service.pricing.LoanType;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import com.creditrefinancing.bff.service.pricing.RiskLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Refinancing eligibility of a whole loan book, read from a CSV export that may be larger than
+ * the heap.
+ * <p>
+ * The file is split into chunks of about {@code simulation.portfolio.chunk-size-bytes}, each
+ * ending at a line break, and every chunk is memory-mapped and simulated on the common fork-join
+ * pool. Rows are parsed by {@link PortfolioCsvReader} into primitives and only summed into
+ * per-chunk counters, so memory use depends on the number of chunks, not on the number of rows.
+ * Chunk results are combined in file order.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioAnalysisService {
+
+    private static final String[] STATUSES = {"CALCULATED", "PENDING", "REJECTED"};
+    private static final int REJECTED = 2;
+    private static final int SCAN_WINDOW = 64 * 1024;
+
+    private final SimulationService simulationService;
+
+    @Value("${simulation.portfolio.directory:portfolio}")
+    private String directory;
+
+    @Value("${simulation.portfolio.chunk-size-bytes:67108864}")
+    private long chunkSizeBytes;
+
+    @Value("${simulation.portfolio.default-term-months:240}")
+    private int defaultTermMonths;
+
+    public Mono<PortfolioAnalysisResponseDTO> analyzePortfolio(PortfolioAnalysisRequestDTO analysis) {
+        log.info("Analyzing portfolio file: {}", analysis.getFile());
+        
+        Path file = resolve(analysis.getFile());
+        int termMonths = analysis.getDesiredTermMonths() != null ? analysis.getDesiredTermMonths() : defaultTermMonths;
+        
+        // Reading and simulating a multi-GB file takes minutes, so keep it off the event loop
+        return Mono.fromCallable(() -> analyzeFile(file, termMonths))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Analyzes a CSV file with a header line; used by the endpoint and the command-line runner.
+     */
+    public PortfolioAnalysisResponseDTO analyzeFile(Path file, int termMonths) {
+        long startTime = System.currentTimeMillis();
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = nextLineStart(channel, 0, size);
+            PortfolioCsvReader reader = PortfolioCsvReader.forHeader(readHeader(channel, dataStart));
+            long[] boundaries = chunkBoundaries(channel, dataStart, size);
+            int chunks = boundaries.length - 1;
+            
+            // Every row of the file is priced with the rules in force when the analysis started
+            PricingSnapshot pricing = simulationService.pricingSnapshot();
+            PortfolioTally total = IntStream.range(0, chunks).parallel()
+                    .mapToObj(chunk -> analyzeChunk(channel, boundaries[chunk], boundaries[chunk + 1],
+                            reader, termMonths, pricing))
+                    .reduce(new PortfolioTally(), PortfolioTally::merge);
+            
+            log.info("Analyzed {} rows of {} in {} chunks", total.rows, file, chunks);
+            return summarize(file, size, chunks, total, startTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read portfolio file " + file, e);
+        }
+    }
+
+    /**
+     * Resolves a file name inside the portfolio directory; names that leave it are rejected.
+     */
+    private Path resolve(String fileName) {
+        Path base = Path.of(directory).toAbsolutePath().normalize();
+        Path file = base.resolve(fileName).normalize();
+        if (!file.startsWith(base)) {
+            throw new IllegalArgumentException("Portfolio file must be inside the portfolio directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Portfolio file not found: " + fileName);
+        }
+        return file;
+    }
+
+    private static String readHeader(FileChannel channel, long dataStart) throws IOException {
+        if (dataStart == 0) {
+            throw new IllegalArgumentException("Portfolio file is empty");
+        }
+        if (dataStart > SCAN_WINDOW) {
+            throw new IllegalArgumentException("Portfolio header line is longer than " + SCAN_WINDOW + " bytes");
+        }
+        byte[] header = new byte[(int) dataStart];
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, dataStart).get(header);
+        return new String(header, StandardCharsets.UTF_8).strip();
+    }
+
+    /**
+     * Chunk start offsets followed by the file size; every chunk after the first starts a line.
+     */
+    private long[] chunkBoundaries(FileChannel channel, long dataStart, long size) throws IOException {
+        // A mapped chunk is addressed by int, and a line crossing the nominal end extends it
+        long chunkSize = Math.max(1, Math.min(chunkSizeBytes, Integer.MAX_VALUE - SCAN_WINDOW));
+        long[] boundaries = new long[(int) ((size - dataStart) / chunkSize) + 2];
+        int count = 0;
+        boundaries[count++] = dataStart;
+        long position = dataStart;
+        while (position < size) {
+            position = nextLineStart(channel, Math.min(size, position + chunkSize), size);
+            boundaries[count++] = position;
+        }
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Offset after the first line break at or after {@code from}, or the file size.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        long position = from;
+        while (position < size) {
+            int length = (int) Math.min(SCAN_WINDOW, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += length;
+        }
+        return size;
+    }
+
+    private PortfolioTally analyzeChunk(FileChannel channel, long start, long end,
+                                        PortfolioCsvReader reader, int termMonths, PricingSnapshot pricing) {
+        PortfolioTally tally = new PortfolioTally();
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        // One request object and one field array per chunk, reused for every row
+        int limit = (int) (end - start);
+        long[] fields = new long[PortfolioCsvReader.FIELDS];
+        SimulationRequestDTO request = new SimulationRequestDTO();
+        int position = 0;
+        while (position < limit) {
+            if (PortfolioCsvReader.isBlankLine(buffer, position, limit)) {
+                position += buffer.get(position) == '\r' ? 2 : 1;
+                continue;
+            }
+            position = reader.read(buffer, position, limit, fields);
+            tally.rows++;
+            if (!toRequest(fields, termMonths, request)) {
+                tally.invalidRows++;
+                continue;
+            }
+            evaluate(pricing, request, fields, tally);
+        }
+        return tally;
+    }
+
+    /**
+     * Fills the request from parsed fields, applying the same limits as the simulation API.
+     * Returns false when a required field is missing or a field is malformed or out of range.
+     */
+    private static boolean toRequest(long[] fields, int termMonths, SimulationRequestDTO request) {
+        long currentLoan = fields[PortfolioCsvReader.CURRENT_LOAN_AMOUNT];
+        long currentPayment = fields[PortfolioCsvReader.CURRENT_MONTHLY_PAYMENT];
+        long desiredLoan = fields[PortfolioCsvReader.DESIRED_LOAN_AMOUNT];
+        long term = fields[PortfolioCsvReader.DESIRED_TERM_MONTHS];
+        long loanType = fields[PortfolioCsvReader.LOAN_TYPE];
+        long income = fields[PortfolioCsvReader.MONTHLY_INCOME];
+        long creditScore = fields[PortfolioCsvReader.CREDIT_SCORE];
+        
+        if (desiredLoan == PortfolioCsvReader.ABSENT) {
+            desiredLoan = currentLoan;
+        }
+        if (term == PortfolioCsvReader.ABSENT) {
+            term = termMonths;
+        }
+        if (!inRange(currentLoan, 1000_00, 10_000_000_00L)
+                || !inRange(currentPayment, 50_00, 100_000_00)
+                || !inRange(desiredLoan, 1000_00, 10_000_000_00L)
+                || !inRange(term, 12, 360)
+                || loanType < 0
+                || (income != PortfolioCsvReader.ABSENT && !inRange(income, 0, 1_000_000_00))
+                || (creditScore != PortfolioCsvReader.ABSENT && !inRange(creditScore, 300, 850))) {
+            return false;
+        }
+        
+        request.setCurrentLoanAmount(BigDecimal.valueOf(currentLoan, 2));
+        request.setCurrentMonthlyPayment(BigDecimal.valueOf(currentPayment, 2));
+        request.setDesiredLoanAmount(BigDecimal.valueOf(desiredLoan, 2));
+        request.setDesiredTermMonths((int) term);
+        request.setLoanType(LoanType.values()[(int) loanType].name());
+        request.setMonthlyIncome(income != PortfolioCsvReader.ABSENT ? BigDecimal.valueOf(income, 2) : null);
+        request.setCreditScore(creditScore != PortfolioCsvReader.ABSENT ? (int) creditScore : null);
+        return true;
+    }
+
+    private static boolean inRange(long value, long min, long max) {
+        return value >= min && value <= max;
+    }
+
+    /**
+     * Status and savings of one row, from the same steps as a single simulation but without
+     * building the response.
+     */
+    private void evaluate(PricingSnapshot pricing, SimulationRequestDTO request, long[] fields, PortfolioTally tally) {
+        SimulationContext context = new SimulationContext(request, simulationService, pricing);
+        RiskLevel riskLevel = simulationService.assessRiskLevel(pricing, request, context.debtToIncomeRatio(), null);
+        String status = simulationService.determineStatus(
+                simulationService.calculateApprovalProbability(pricing, riskLevel, request.getCreditScore()));
+        int statusIndex = status.equals(STATUSES[0]) ? 0 : status.equals(STATUSES[1]) ? 1 : REJECTED;
+        tally.statusCounts[statusIndex]++;
+        
+        long monthlySavings = fields[PortfolioCsvReader.CURRENT_MONTHLY_PAYMENT]
+                - context.monthlyPayment().movePointRight(2).longValueExact();
+        if (statusIndex != REJECTED && monthlySavings > 0) {
+            tally.eligible++;
+            tally.eligibleByLoanType[(int) fields[PortfolioCsvReader.LOAN_TYPE]]++;
+            tally.monthlySavingsCents += monthlySavings;
+            tally.totalSavingsCents += monthlySavings * request.getDesiredTermMonths();
+        }
+    }
+
+    private static PortfolioAnalysisResponseDTO summarize(Path file, long size, int chunks,
+                                                          PortfolioTally total, long startTime) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            statusCounts.put(STATUSES[i], total.statusCounts[i]);
+        }
+        Map<String, Long> eligibleByLoanType = new LinkedHashMap<>();
+        for (LoanType loanType : LoanType.values()) {
+            eligibleByLoanType.put(loanType.name(), total.eligibleByLoanType[loanType.ordinal()]);
+        }
+        BigDecimal totalMonthlySavings = BigDecimal.valueOf(total.monthlySavingsCents, 2);
+        
+        return PortfolioAnalysisResponseDTO.builder()
+                .file(file.getFileName().toString())
+                .bytes(size)
+                .rows(total.rows)
+                .invalidRows(total.invalidRows)
+                .statusCounts(statusCounts)
+                .eligible(total.eligible)
+                .eligibleByLoanType(eligibleByLoanType)
+                .totalMonthlySavings(totalMonthlySavings)
+                .averageMonthlySavings(total.eligible > 0
+                        ? totalMonthlySavings.divide(BigDecimal.valueOf(total.eligible), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO.setScale(2))
+                .totalSavings(BigDecimal.valueOf(total.totalSavingsCents, 2))
+                .chunks(chunks)
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * Counters of one chunk; amounts are exact cents.
+     */
+    private static final class PortfolioTally {
+
+        private long rows;
+        private long invalidRows;
+        private final long[] statusCounts = new long[STATUSES.length];
+        private long eligible;
+        private final long[] eligibleByLoanType = new long[LoanType.values().length];
+        private long monthlySavingsCents;
+        private long totalSavingsCents;
+        
+        PortfolioTally merge(PortfolioTally other) {
+            PortfolioTally merged = new PortfolioTally();
+            merged.rows = rows + other.rows;
+            merged.invalidRows = invalidRows + other.invalidRows;
+            for (int i = 0; i < statusCounts.length; i++) {
+                merged.statusCounts[i] = statusCounts[i] + other.statusCounts[i];
+            }
+            merged.eligible = eligible + other.eligible;
+            for (int i = 0; i < eligibleByLoanType.length; i++) {
+                merged.eligibleByLoanType[i] = eligibleByLoanType[i] + other.eligibleByLoanType[i];
+            }
+            merged.monthlySavingsCents = monthlySavingsCents + other.monthlySavingsCents;
+            merged.totalSavingsCents = totalSavingsCents + other.totalSavingsCents;
+            return merged;
+        }
+    }
+}
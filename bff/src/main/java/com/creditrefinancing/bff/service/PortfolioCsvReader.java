@@ -0,0 +1,201 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.service.pricing.LoanType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads loan book CSV rows straight from a (memory-mapped) buffer into a reusable
+ * {@code long[]}, one slot per field, without creating a String per field. Amounts are read as
+ * exact cents, loan types as the {@link LoanType} ordinal. Columns are located by the header,
+ * so their order is free and unknown columns (such as the customer id) are skipped.
+ */
+final class PortfolioCsvReader {
+
+    static final int CURRENT_LOAN_AMOUNT = 0;
+    static final int CURRENT_MONTHLY_PAYMENT = 1;
+    static final int DESIRED_LOAN_AMOUNT = 2;
+    static final int DESIRED_TERM_MONTHS = 3;
+    static final int LOAN_TYPE = 4;
+    static final int MONTHLY_INCOME = 5;
+    static final int CREDIT_SCORE = 6;
+    static final int FIELDS = 7;
+
+    // Field values that are not a parsed number
+    static final long ABSENT = -1;
+    static final long MALFORMED = -2;
+
+    private static final String[] COLUMNS = {
+            "current_loan_amount", "current_monthly_payment", "desired_loan_amount", "desired_term_months",
+            "loan_type", "monthly_income", "credit_score"
+    };
+    private static final int[] SCALES = {2, 2, 2, 0, 0, 2, 0};
+    private static final int[] REQUIRED = {CURRENT_LOAN_AMOUNT, CURRENT_MONTHLY_PAYMENT, LOAN_TYPE};
+    private static final int IGNORED = -1;
+    private static final byte[][] LOAN_TYPES = Arrays.stream(LoanType.values())
+            .map(loanType -> loanType.name().getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    // Column position -> field, or IGNORED
+    private final int[] fieldOfColumn;
+
+    private PortfolioCsvReader(int[] fieldOfColumn) {
+        this.fieldOfColumn = fieldOfColumn;
+    }
+
+    /**
+     * Reader for the column layout of a header line; the header is the only line read as a String.
+     */
+    static PortfolioCsvReader forHeader(String header) {
+        String[] names = header.split(",", -1);
+        int[] fieldOfColumn = new int[names.length];
+        boolean[] present = new boolean[FIELDS];
+        for (int column = 0; column < names.length; column++) {
+            String name = names[column].replace("\uFEFF", "").replace("\"", "").trim().toLowerCase(Locale.ROOT);
+            fieldOfColumn[column] = Arrays.asList(COLUMNS).indexOf(name);
+            if (fieldOfColumn[column] != IGNORED) {
+                present[fieldOfColumn[column]] = true;
+            }
+        }
+        for (int field : REQUIRED) {
+            if (!present[field]) {
+                throw new IllegalArgumentException("Portfolio header has no " + COLUMNS[field] + " column");
+            }
+        }
+        return new PortfolioCsvReader(fieldOfColumn);
+    }
+
+    /**
+     * Whether the line at {@code position} is empty, so that it is not counted as a row.
+     */
+    static boolean isBlankLine(ByteBuffer buffer, int position, int limit) {
+        byte first = buffer.get(position);
+        return first == '\n' || (first == '\r' && (position + 1 == limit || buffer.get(position + 1) == '\n'));
+    }
+
+    /**
+     * Parses the line starting at {@code position} into {@code fields} and returns the position
+     * after its line terminator. Fields without a column are ABSENT.
+     */
+    int read(ByteBuffer buffer, int position, int limit, long[] fields) {
+        Arrays.fill(fields, ABSENT);
+        int column = 0;
+        while (true) {
+            int start = position;
+            int end = position;
+            if (end < limit && buffer.get(end) == '"') {
+                end++;
+                while (end < limit) {
+                    byte b = buffer.get(end++);
+                    if (b == '"') {
+                        if (end < limit && buffer.get(end) == '"') {
+                            end++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+            }
+            while (end < limit && buffer.get(end) != ',' && buffer.get(end) != '\n') {
+                end++;
+            }
+            
+            int field = column < fieldOfColumn.length ? fieldOfColumn[column] : IGNORED;
+            if (field != IGNORED) {
+                fields[field] = field == LOAN_TYPE
+                        ? parseLoanType(buffer, start, end)
+                        : parseFixed(buffer, start, end, SCALES[field]);
+            }
+            column++;
+            
+            if (end >= limit) {
+                return limit;
+            }
+            if (buffer.get(end) == '\n') {
+                return end + 1;
+            }
+            position = end + 1;
+        }
+    }
+
+    /**
+     * Non-negative decimal with at most {@code scale} fraction digits, as an integer in
+     * 10^-scale units.
+     */
+    private static long parseFixed(ByteBuffer buffer, int start, int end, int scale) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        if (start == end) {
+            return ABSENT;
+        }
+        
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (++digits > 15 || fractionDigits == scale) {
+                    return MALFORMED;
+                }
+                value = value * 10 + (b - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                return MALFORMED;
+            }
+        }
+        if (digits == 0) {
+            return MALFORMED;
+        }
+        for (int i = Math.max(fractionDigits, 0); i < scale; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    private static long parseLoanType(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        if (start == end) {
+            return ABSENT;
+        }
+        
+        for (int ordinal = 0; ordinal < LOAN_TYPES.length; ordinal++) {
+            byte[] name = LOAN_TYPES[ordinal];
+            if (name.length == end - start && matches(buffer, start, name)) {
+                return ordinal;
+            }
+        }
+        return MALFORMED;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, byte[] name) {
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) == ' ' || buffer.get(start) == '"')) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '"' || buffer.get(end - 1) == '\r')) {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,104 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.client.RequestDeadline;
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical calls: while a call for a key is in flight, every other
+ * caller with an equal key subscribes to the same {@link Mono} instead of starting its own. A
+ * successful result stays shared for a short reuse window after completion; errors and empty
+ * results are released at once, so the next caller tries again.
+ * <p>
+ * A caller that cancels does not cancel the shared call, which the other callers may still be
+ * waiting for. The shared call runs without a {@link RequestDeadline}; each caller waits only
+ * until its own deadline and then fails with {@link DeadlineExceededException}, so a caller with a
+ * short deadline never cuts the call short for the others. Calls are counted in {@code coalescer.calls{name, outcome}}: {@code executed},
+ * {@code joined} (in flight) and {@code reused} (within the window).
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Map<K, SharedCall> calls = new ConcurrentHashMap<>();
+    private final Duration reuseWindow;
+    private final Counter executed;
+    private final Counter joined;
+    private final Counter reused;
+
+    public RequestCoalescer(String name, Duration reuseWindow, MeterRegistry meterRegistry) {
+        this.reuseWindow = reuseWindow;
+        this.executed = counter(meterRegistry, name, "executed");
+        this.joined = counter(meterRegistry, name, "joined");
+        this.reused = counter(meterRegistry, name, "reused");
+        Gauge.builder("coalescer.keys", calls, Map::size)
+                .tag("name", name)
+                .description("Calls in flight or within their reuse window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the shared result for {@code key}, subscribing to {@code call} only when no equal
+     * call is in flight or within its reuse window.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            SharedCall created = new SharedCall(key, call);
+            SharedCall shared = calls.putIfAbsent(key, created);
+            if (shared == null) {
+                executed.increment();
+                return withOwnDeadline(created.result);
+            }
+            (shared.completed ? reused : joined).increment();
+            return withOwnDeadline(shared.result);
+        });
+    }
+
+    private Mono<V> withOwnDeadline(Mono<V> result) {
+        return Mono.deferContextual(context -> RequestDeadline.remaining(context)
+                .map(remaining -> result.timeout(remaining, Mono.error(() -> new DeadlineExceededException(
+                        "Request deadline passed while waiting for a shared call"))))
+                .orElse(result));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("coalescer.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class SharedCall {
+
+        private final K key;
+        private final Mono<V> result;
+        private volatile boolean completed;
+
+        SharedCall(K key, Supplier<Mono<V>> call) {
+            this.key = key;
+            // cache() subscribes once and replays to every caller; Mono.defer keeps the supplier
+            // from running for the calls that lose the putIfAbsent race. The first caller's deadline
+            // is dropped, since the callers that join may have later ones
+            this.result = Mono.defer(call)
+                    .doOnSuccess(value -> release(value != null ? reuseWindow : Duration.ZERO))
+                    .doOnError(error -> release(Duration.ZERO))
+                    .contextWrite(RequestDeadline::without)
+                    .cache();
+        }
+
+        private void release(Duration after) {
+            completed = true;
+            if (after.isZero() || after.isNegative()) {
+                calls.remove(key, this);
+            } else {
+                Mono.delay(after).subscribe(tick -> calls.remove(key, this));
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.BatchSimulationResultDTO;
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates a stream of simulation requests on a bounded parallel scheduler.
+ * <p>
+ * Each item is validated on its own, so one bad row yields an INVALID result instead of
+ * failing the whole batch. At most {@code simulation.batch.max-in-flight} items are being
+ * computed or waiting to be emitted at any time, and results are emitted in request order.
+ * A FAILED item carries the message of a rejected request, or a fixed message for anything else.
+ */
+@Service
+@Slf4j
+public class SimulationBatchService {
+
+    static final String CALCULATION_FAILED = "Simulation could not be calculated";
+
+    private final SimulationService simulationService;
+    private final Validator validator;
+    private final Scheduler batchScheduler;
+    private final int maxInFlight;
+
+    public SimulationBatchService(SimulationService simulationService,
+                                  Validator validator,
+                                  @Value("${simulation.batch.parallelism:0}") int parallelism,
+                                  @Value("${simulation.batch.max-in-flight:256}") int maxInFlight) {
+        this.simulationService = simulationService;
+        this.validator = validator;
+        this.maxInFlight = maxInFlight;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.batchScheduler = Schedulers.newParallel("simulation-batch", threads);
+        log.info("Batch simulation scheduler: {} threads, {} requests in flight", threads, maxInFlight);
+    }
+
+    public Flux<BatchSimulationResultDTO> calculateBatch(Flux<SimulationRequestDTO> requests) {
+        AtomicLong processed = new AtomicLong();
+        long startTime = System.currentTimeMillis();
+        
+        return requests
+                .index()
+                .flatMapSequential(indexed -> Mono.fromCallable(() -> evaluate(indexed.getT1(), indexed.getT2()))
+                        .subscribeOn(batchScheduler), maxInFlight)
+                .doOnNext(result -> processed.incrementAndGet())
+                .doOnComplete(() -> log.info("Batch simulation completed: {} requests in {} ms",
+                        processed.get(), System.currentTimeMillis() - startTime))
+                .doOnError(error -> log.error("Batch simulation aborted after {} requests", processed.get(), error));
+    }
+
+    private BatchSimulationResultDTO evaluate(long index, SimulationRequestDTO request) {
+        Set<ConstraintViolation<SimulationRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> fieldErrors = new TreeMap<>();
+            violations.forEach(violation ->
+                    fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            
+            return BatchSimulationResultDTO.builder()
+                    .index(index)
+                    .customerId(request.getCustomerId())
+                    .outcome("INVALID")
+                    .fieldErrors(fieldErrors)
+                    .build();
+        }
+        
+        try {
+            return BatchSimulationResultDTO.builder()
+                    .index(index)
+                    .customerId(request.getCustomerId())
+                    .outcome("CALCULATED")
+                    .simulation(simulationService.computeSimulation(request))
+                    .build();
+        } catch (RuntimeException ex) {
+            log.warn("Batch item {} failed for customer: {}", index, request.getCustomerId(), ex);
+            
+            return BatchSimulationResultDTO.builder()
+                    .index(index)
+                    .customerId(request.getCustomerId())
+                    .outcome("FAILED")
+                    // Only messages meant for clients, as GlobalExceptionHandler exposes them
+                    .error(ex instanceof IllegalArgumentException || ex instanceof BusinessRuleException
+                            ? ex.getMessage() : CALCULATION_FAILED)
+                    .build();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchScheduler.dispose();
+    }
+}
@@ -0,0 +1,100 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AmortizationSchedule;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import com.creditrefinancing.bff.service.pricing.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Values derived from one {@link SimulationRequestDTO}, each computed at most once and only when
+ * first needed. Every step of {@link SimulationService} reads from here instead of recomputing
+ * the rate or payment. The pricing rules are pinned when the context is created, so every value
+ * comes from the same snapshot even if the rules are reloaded meanwhile.
+ * <p>
+ * Not thread-safe: a context belongs to a single calculation.
+ */
+final class SimulationContext {
+
+    private final SimulationRequestDTO request;
+    private final SimulationService engine;
+    private final PricingSnapshot pricing;
+
+    private BigDecimal interestRate;
+    private BigDecimal monthlyRate;
+    private BigDecimal monthlyPayment;
+    private BigDecimal debtToIncomeRatio;
+    private SimulationResponseDTO.RiskAssessment riskAssessment;
+
+    SimulationContext(SimulationRequestDTO request, SimulationService engine) {
+        this(request, engine, engine.pricingSnapshot());
+    }
+
+    SimulationContext(SimulationRequestDTO request, SimulationService engine, PricingSnapshot pricing) {
+        this.request = request;
+        this.engine = engine;
+        this.pricing = pricing;
+    }
+
+    SimulationRequestDTO request() {
+        return request;
+    }
+
+    PricingSnapshot pricing() {
+        return pricing;
+    }
+
+    BigDecimal interestRate() {
+        if (interestRate == null) {
+            interestRate = engine.calculateInterestRate(pricing, request);
+        }
+        return interestRate;
+    }
+
+    BigDecimal monthlyRate() {
+        if (monthlyRate == null) {
+            monthlyRate = engine.calculateMonthlyRate(interestRate());
+        }
+        return monthlyRate;
+    }
+
+    BigDecimal monthlyPayment() {
+        if (monthlyPayment == null) {
+            monthlyPayment = engine.calculateMonthlyPayment(
+                    request.getDesiredLoanAmount(), interestRate(), request.getDesiredTermMonths());
+        }
+        return monthlyPayment;
+    }
+
+    AmortizationSchedule paymentSchedule() {
+        return new AmortizationSchedule(
+                request.getDesiredLoanAmount(), monthlyPayment(), monthlyRate(), request.getDesiredTermMonths());
+    }
+
+    /**
+     * New payment over monthly income (4 decimals), or zero when the income is unknown.
+     */
+    BigDecimal debtToIncomeRatio() {
+        if (debtToIncomeRatio == null) {
+            BigDecimal income = request.getMonthlyIncome();
+            debtToIncomeRatio = income != null && income.compareTo(BigDecimal.ZERO) > 0
+                    ? monthlyPayment().divide(income, 4, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+        }
+        return debtToIncomeRatio;
+    }
+
+    SimulationResponseDTO.RiskAssessment riskAssessment() {
+        if (riskAssessment == null) {
+            riskAssessment = engine.calculateRiskAssessment(this);
+        }
+        return riskAssessment;
+    }
+
+    RiskLevel riskLevel() {
+        return RiskLevel.valueOf(riskAssessment().getRiskLevel());
+    }
+}
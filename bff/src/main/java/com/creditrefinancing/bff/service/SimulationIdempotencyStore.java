@@ -0,0 +1,91 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * First result of each {@code Idempotency-Key}, replayed for every later request with the same key.
+ * The store is bounded in size and each key expires after a TTL. The key is honoured here only;
+ * the simulation service does not deduplicate requests.
+ * <p>
+ * A duplicate that arrives while the first request is still running waits for the same result.
+ * A failed first request is forgotten, so a retry with the key calculates again. Reusing a key
+ * with a different request is rejected as a business rule violation (422).
+ */
+@Component
+public class SimulationIdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, StoredCall> calls;
+    private final Counter replayed;
+
+    public SimulationIdempotencyStore(MeterRegistry meterRegistry,
+                                      @Value("${simulation.idempotency.max-keys:100000}") long maxKeys,
+                                      @Value("${simulation.idempotency.ttl:24h}") Duration ttl) {
+        this.calls = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.replayed = Counter.builder("idempotency.replays")
+                .tag("cache", "idempotency-keys")
+                .description("Requests answered with the stored result of an earlier request with the same key")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, calls, "idempotency-keys");
+    }
+
+    /**
+     * Runs {@code call} for the first request with {@code idempotencyKey} and replays its result
+     * for the duplicates.
+     */
+    public Mono<SimulationResponseDTO> execute(String idempotencyKey, SimulationRequestDTO request,
+                                               Supplier<Mono<SimulationResponseDTO>> call) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new IllegalArgumentException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+        }
+        SimulationRequestKey fingerprint = SimulationRequestKey.of(request);
+        
+        return Mono.defer(() -> {
+            StoredCall created = new StoredCall(idempotencyKey, fingerprint, call);
+            StoredCall stored = calls.asMap().putIfAbsent(idempotencyKey, created);
+            if (stored == null) {
+                return created.result;
+            }
+            if (!stored.fingerprint.equals(fingerprint)) {
+                return Mono.error(new BusinessRuleException("Idempotency key reused with a different request",
+                        HEADER + " " + idempotencyKey + " was first used for another simulation request"));
+            }
+            replayed.increment();
+            return stored.result;
+        });
+    }
+
+    private final class StoredCall {
+
+        private final SimulationRequestKey fingerprint;
+        private final Mono<SimulationResponseDTO> result;
+        
+        StoredCall(String idempotencyKey, SimulationRequestKey fingerprint, Supplier<Mono<SimulationResponseDTO>> call) {
+            this.fingerprint = fingerprint;
+            this.result = Mono.defer(call)
+                    .doOnError(error -> calls.asMap().remove(idempotencyKey, this))
+                    .cache();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+
+import java.math.BigDecimal;
+
+/**
+ * Canonical form of a {@link SimulationRequestDTO} for coalescing identical requests. Amounts are
+ * compared by value, so {@code 200000} and {@code 200000.00} give the same key, which the DTO's
+ * own equals does not.
+ */
+public record SimulationRequestKey(
+        String customerId,
+        BigDecimal currentLoanAmount,
+        BigDecimal currentMonthlyPayment,
+        BigDecimal desiredLoanAmount,
+        Integer desiredTermMonths,
+        String loanType,
+        BigDecimal monthlyIncome,
+        Integer creditScore
+) {
+
+    public static SimulationRequestKey of(SimulationRequestDTO request) {
+        return new SimulationRequestKey(
+                request.getCustomerId(),
+                canonical(request.getCurrentLoanAmount()),
+                canonical(request.getCurrentMonthlyPayment()),
+                canonical(request.getDesiredLoanAmount()),
+                request.getDesiredTermMonths(),
+                request.getLoanType(),
+                canonical(request.getMonthlyIncome()),
+                request.getCreditScore()
+        );
+    }
+
+    private static BigDecimal canonical(BigDecimal amount) {
+        return amount != null ? amount.stripTrailingZeros() : null;
+    }
+}
@@ -2,108 +2,179 @@ package com.creditrefinancing.bff.service;
 
 import com.creditrefinancing.bff.dto.SimulationRequestDTO;
 import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AmortizationKernel;
+import com.creditrefinancing.bff.service.calculation.AmortizationSchedule;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.calculation.AprSolver;
+import com.creditrefinancing.bff.service.calculation.FixedPointAmortizationKernel;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import com.creditrefinancing.bff.service.pricing.RiskLevel;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.UUID;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 
 @Service
 @Slf4j
 public class SimulationService {
 
-    @Value("${simulation.base-interest-rate:4.5}")
-    private BigDecimal baseInterestRate;
-    
-    @Value("${simulation.max-debt-to-income-ratio:0.43}")
-    private BigDecimal maxDebtToIncomeRatio;
-    
-    @Value("${simulation.processing-fee:0.01}")
-    private BigDecimal processingFeeRate;
+    private final AmortizationKernel amortizationKernel;
+    private final AnnuityFactorTable annuityFactorTable;
+    private final PricingEngine pricingEngine;
+    private final RequestCoalescer<Map.Entry<SimulationRequestKey, Long>, SimulationResponseDTO> coalescer;
+
+    public SimulationService(AmortizationKernel amortizationKernel, AnnuityFactorTable annuityFactorTable,
+                             PricingEngine pricingEngine, MeterRegistry meterRegistry,
+                             @Value("${simulation.coalescing.reuse-window:1s}") Duration reuseWindow) {
+        this.amortizationKernel = amortizationKernel;
+        this.annuityFactorTable = annuityFactorTable;
+        this.pricingEngine = pricingEngine;
+        this.coalescer = new RequestCoalescer<>("simulation", reuseWindow, meterRegistry);
+        // The factor table is keyed by the rates the rules can produce, so it follows every reload
+        pricingEngine.onUpdate(snapshot -> annuityFactorTable.rebuild(snapshot.interestRates()));
+    }
+
+    @PostConstruct
+    public void rebuildAnnuityFactorTable() {
+        annuityFactorTable.rebuild(pricingEngine.snapshot().interestRates());
+    }
+
+    /**
+     * Pricing rules in force right now. A calculation takes this once and passes it to every
+     * step, so a reload while it runs cannot mix two versions of the rules.
+     */
+    public PricingSnapshot pricingSnapshot() {
+        return pricingEngine.snapshot();
+    }
 
+    /**
+     * Calculates a simulation, sharing the result between identical requests that arrive while it
+     * runs or shortly after. The pricing version is part of the key, so a result is never reused
+     * across a pricing reload.
+     */
     public Mono<SimulationResponseDTO> calculateSimulation(SimulationRequestDTO request) {
         log.info("Calculating simulation for customer: {}", request.getCustomerId());
         
-        return Mono.fromCallable(() -> {
-            long startTime = System.currentTimeMillis();
-            
-            // Calculate interest rate based on risk factors
-            BigDecimal interestRate = calculateInterestRate(request);
-            
-            // Calculate loan details
-            BigDecimal monthlyPayment = calculateMonthlyPayment(
-                    request.getDesiredLoanAmount(), 
-                    interestRate,
-                    request.getDesiredTermMonths()
-            );
-            
-            BigDecimal totalInterest = calculateTotalInterest(
-                    request.getDesiredLoanAmount(),
-                    monthlyPayment,
-                    request.getDesiredTermMonths()
-            );
-            
-            BigDecimal totalAmount = request.getDesiredLoanAmount().add(totalInterest);
-            BigDecimal monthlySavings = request.getCurrentMonthlyPayment().subtract(monthlyPayment);
-            BigDecimal totalSavings = monthlySavings.multiply(BigDecimal.valueOf(request.getDesiredTermMonths()));
-            
-            // Risk assessment
-            SimulationResponseDTO.RiskAssessment riskAssessment = calculateRiskAssessment(request);
-            
-            // Approval probability
-            BigDecimal approvalProbability = calculateApprovalProbability(request, riskAssessment);
-            
-            // Current loan summary
-            SimulationResponseDTO.CurrentLoanSummary currentLoanSummary = buildCurrentLoanSummary(request);
-            
-            // Payment schedule preview
-            List<SimulationResponseDTO.PaymentPreview> paymentPreview = generatePaymentPreview(
-                    request.getDesiredLoanAmount(), monthlyPayment, interestRate
-            );
-            
-            // Comparison metrics
-            SimulationResponseDTO.ComparisonMetrics comparisonMetrics = buildComparisonMetrics(
-                    request, interestRate, monthlyPayment, totalSavings
-            );
-            
-            // Next steps and conditions
-            List<String> nextSteps = generateNextSteps(approvalProbability, riskAssessment);
-            List<String> conditions = generateConditions(request, riskAssessment);
-            
-            long processingTime = System.currentTimeMillis() - startTime;
-            
-            return SimulationResponseDTO.builder()
-                    .simulationId("SIM-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
-                    .customerId(request.getCustomerId())
-                    .status(determineStatus(approvalProbability))
-                    .newLoanAmount(request.getDesiredLoanAmount())
-                    .newMonthlyPayment(monthlyPayment)
-                    .newInterestRate(interestRate)
-                    .termMonths(request.getDesiredTermMonths())
-                    .totalInterest(totalInterest)
-                    .totalAmount(totalAmount)
-                    .monthlySavings(monthlySavings)
-                    .totalSavings(totalSavings)
-                    .approvalProbability(approvalProbability)
-                    .createdAt(LocalDateTime.now())
-                    .expiresAt(LocalDateTime.now().plusDays(30))
-                    .loanType(request.getLoanType())
-                    .currentLoanSummary(currentLoanSummary)
-                    .riskAssessment(riskAssessment)
-                    .paymentSchedulePreview(paymentPreview)
-                    .comparisonMetrics(comparisonMetrics)
-                    .nextSteps(nextSteps)
-                    .conditions(conditions)
-                    .processingTimeMs(processingTime)
-                    .build();
-        });
-    }    public Mono<SimulationResponseDTO> getSimulation(String simulationId) {
+        return coalescer.execute(
+                Map.entry(SimulationRequestKey.of(request), pricingEngine.snapshot().version()),
+                () -> Mono.fromCallable(() -> computeSimulation(request)));
+    }
+
+    /**
+     * Runs the full simulation synchronously on the calling thread. Used directly by batch
+     * processing, which schedules and logs per batch rather than per request.
+     */
+    public SimulationResponseDTO computeSimulation(SimulationRequestDTO request) {
+        long startTime = System.currentTimeMillis();
+        
+        // Rate, payment, DTI and risk are derived once and shared by every step
+        SimulationContext context = new SimulationContext(request, this);
+        BigDecimal interestRate = context.interestRate();
+        BigDecimal monthlyPayment = context.monthlyPayment();
+        
+        BigDecimal totalInterest = calculateTotalInterest(
+                request.getDesiredLoanAmount(),
+                monthlyPayment,
+                request.getDesiredTermMonths()
+        );
+        
+        BigDecimal totalAmount = request.getDesiredLoanAmount().add(totalInterest);
+        BigDecimal processingFee = calculateProcessingFee(context.pricing(), request.getDesiredLoanAmount());
+        BigDecimal apr = calculateAnnualPercentageRate(context, processingFee);
+        BigDecimal monthlySavings = request.getCurrentMonthlyPayment().subtract(monthlyPayment);
+        BigDecimal totalSavings = monthlySavings.multiply(BigDecimal.valueOf(request.getDesiredTermMonths()));
+        
+        // Risk assessment
+        SimulationResponseDTO.RiskAssessment riskAssessment = context.riskAssessment();
+        
+        // Approval probability
+        BigDecimal approvalProbability = calculateApprovalProbability(context);
+        
+        // Current loan summary
+        SimulationResponseDTO.CurrentLoanSummary currentLoanSummary = buildCurrentLoanSummary(request);
+        
+        // Payment schedule preview
+        List<SimulationResponseDTO.PaymentPreview> paymentPreview = generatePaymentPreview(context);
+        
+        // Comparison metrics
+        SimulationResponseDTO.ComparisonMetrics comparisonMetrics = buildComparisonMetrics(
+                request, interestRate, monthlyPayment, totalSavings
+        );
+        
+        // Next steps and conditions
+        List<String> nextSteps = generateNextSteps(approvalProbability, riskAssessment);
+        List<String> conditions = generateConditions(request, riskAssessment);
+        
+        long processingTime = System.currentTimeMillis() - startTime;
+        
+        return SimulationResponseDTO.builder()
+                .simulationId("SIM-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .customerId(request.getCustomerId())
+                .status(determineStatus(approvalProbability))
+                .newLoanAmount(request.getDesiredLoanAmount())
+                .newMonthlyPayment(monthlyPayment)
+                .newInterestRate(interestRate)
+                .processingFee(processingFee)
+                .apr(apr)
+                .termMonths(request.getDesiredTermMonths())
+                .totalInterest(totalInterest)
+                .totalAmount(totalAmount)
+                .monthlySavings(monthlySavings)
+                .totalSavings(totalSavings)
+                .approvalProbability(approvalProbability)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .loanType(request.getLoanType())
+                .currentLoanSummary(currentLoanSummary)
+                .riskAssessment(riskAssessment)
+                .paymentSchedulePreview(paymentPreview)
+                .comparisonMetrics(comparisonMetrics)
+                .nextSteps(nextSteps)
+                .conditions(conditions)
+                .processingTimeMs(processingTime)
+                .build();
+    }
+
+    /**
+     * Streams rows {@code from..to} (1-based, inclusive) of the full amortization schedule for a request.
+     */
+    public Flux<SimulationResponseDTO.PaymentPreview> calculatePaymentSchedule(
+            SimulationRequestDTO request, int from, Integer to) {
+        log.info("Streaming payment schedule for customer: {}", request.getCustomerId());
+        
+        return Flux.defer(() -> scheduleRows(new SimulationContext(request, this).paymentSchedule(), from, to));
+    }
+
+    /**
+     * Streams rows {@code from..to} (1-based, inclusive) of the amortization schedule of a stored simulation.
+     */
+    public Flux<SimulationResponseDTO.PaymentPreview> getPaymentSchedule(String simulationId, int from, Integer to) {
+        log.info("Streaming payment schedule for simulation: {}", simulationId);
+        
+        return getSimulation(simulationId)
+                .flatMapMany(simulation -> scheduleRows(new AmortizationSchedule(
+                        simulation.getNewLoanAmount(),
+                        simulation.getNewMonthlyPayment(),
+                        calculateMonthlyRate(simulation.getNewInterestRate()),
+                        simulation.getTermMonths()
+                ), from, to));
+    }
+
+    public Mono<SimulationResponseDTO> getSimulation(String simulationId) {
         log.info("Getting simulation: {}", simulationId);
         
         // TODO: Integrate with simulation microservice to retrieve from database
@@ -124,130 +195,93 @@ public class SimulationService {
     }
 
     // Advanced calculation methods
-    
-    private BigDecimal calculateInterestRate(SimulationRequestDTO request) {
-        BigDecimal rate = baseInterestRate;
-        
-        // Adjust rate based on credit score
-        if (request.getCreditScore() != null) {
-            if (request.getCreditScore() >= 750) {
-                rate = rate.subtract(new BigDecimal("0.5")); // Premium rate
-            } else if (request.getCreditScore() < 650) {
-                rate = rate.add(new BigDecimal("1.5")); // Higher risk rate
-            } else if (request.getCreditScore() < 700) {
-                rate = rate.add(new BigDecimal("0.75")); // Moderate risk rate
-            }
-        }
-        
-        // Adjust rate based on loan type
-        switch (request.getLoanType()) {
-            case "MORTGAGE" -> rate = rate.subtract(new BigDecimal("0.25"));
-            case "PERSONAL" -> rate = rate.add(new BigDecimal("2.0"));
-            case "AUTO" -> rate = rate.add(new BigDecimal("0.5"));
-            case "BUSINESS" -> rate = rate.add(new BigDecimal("1.0"));
-        }
-        
-        // Adjust based on loan amount (larger loans get better rates)
-        if (request.getDesiredLoanAmount().compareTo(new BigDecimal("500000")) > 0) {
-            rate = rate.subtract(new BigDecimal("0.25"));
+    // Steps are package-private so SimulationContext (and the benchmarks) can call them
+
+    BigDecimal calculateInterestRate(PricingSnapshot pricing, SimulationRequestDTO request) {
+        return pricing.interestRate(request);
+    }
+
+    BigDecimal calculateMonthlyRate(BigDecimal annualRate) {
+        BigDecimal monthlyRate = annuityFactorTable.monthlyRate(annualRate);
+        if (monthlyRate == null) {
+            monthlyRate = annualRate.divide(new BigDecimal("100"), 6, RoundingMode.HALF_UP)
+                    .divide(new BigDecimal("12"), 6, RoundingMode.HALF_UP);
         }
-        
-        return rate.max(new BigDecimal("2.0")); // Minimum rate of 2%
+        return monthlyRate;
     }
 
-    private BigDecimal calculateMonthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, Integer termMonths) {
-        if (annualRate.compareTo(BigDecimal.ZERO) == 0) {
-            return loanAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+    BigDecimal calculateMonthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, Integer termMonths) {
+        double factor = annuityFactorTable.factor(annualRate, termMonths);
+        if (!Double.isNaN(factor)) {
+            long loanCents = FixedPointAmortizationKernel.toCents(loanAmount);
+            long paymentCents = loanCents > 0 ? FixedPointAmortizationKernel.paymentCents(loanCents, factor) : -1;
+            if (paymentCents >= 0) {
+                return BigDecimal.valueOf(paymentCents, 2);
+            }
         }
         
-        // Convert annual rate to monthly rate
-        BigDecimal monthlyRate = annualRate.divide(new BigDecimal("100"), 6, RoundingMode.HALF_UP)
-                .divide(new BigDecimal("12"), 6, RoundingMode.HALF_UP);
-        
-        // Calculate monthly payment using standard loan formula
-        // M = P * [r(1+r)^n] / [(1+r)^n - 1]
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRPowerN = onePlusR.pow(termMonths);
-        
-        BigDecimal numerator = loanAmount.multiply(monthlyRate).multiply(onePlusRPowerN);
-        BigDecimal denominator = onePlusRPowerN.subtract(BigDecimal.ONE);
-        
-        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        // Rate not tabulated, or too close to a half-cent to decide in double precision
+        return amortizationKernel.monthlyPayment(loanAmount, annualRate, termMonths);
     }
 
-    private BigDecimal calculateTotalInterest(BigDecimal loanAmount, BigDecimal monthlyPayment, Integer termMonths) {
+    BigDecimal calculateTotalInterest(BigDecimal loanAmount, BigDecimal monthlyPayment, Integer termMonths) {
         BigDecimal totalPayments = monthlyPayment.multiply(BigDecimal.valueOf(termMonths));
         return totalPayments.subtract(loanAmount);
     }
 
-    private SimulationResponseDTO.RiskAssessment calculateRiskAssessment(SimulationRequestDTO request) {
-        List<String> riskFactors = new ArrayList<>();
-        String riskLevel = "LOW";
-        
-        BigDecimal debtToIncomeRatio = BigDecimal.ZERO;
-        if (request.getMonthlyIncome() != null && request.getMonthlyIncome().compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal newMonthlyPayment = calculateMonthlyPayment(
-                    request.getDesiredLoanAmount(),
-                    calculateInterestRate(request),
-                    request.getDesiredTermMonths()
-            );
-            debtToIncomeRatio = newMonthlyPayment.divide(request.getMonthlyIncome(), 4, RoundingMode.HALF_UP);
-            
-            if (debtToIncomeRatio.compareTo(maxDebtToIncomeRatio) > 0) {
-                riskFactors.add("Debt-to-income ratio exceeds recommended maximum");
-                riskLevel = "HIGH";
-            } else if (debtToIncomeRatio.compareTo(new BigDecimal("0.36")) > 0) {
-                riskFactors.add("Debt-to-income ratio is elevated");
-                riskLevel = "MEDIUM";
-            }
-        }
-        
-        if (request.getCreditScore() != null) {
-            if (request.getCreditScore() < 650) {
-                riskFactors.add("Credit score below recommended minimum");
-                riskLevel = "HIGH";
-            } else if (request.getCreditScore() < 700) {
-                riskFactors.add("Credit score requires improvement");
-                if (!"HIGH".equals(riskLevel)) riskLevel = "MEDIUM";
-            }
-        }
+    BigDecimal calculateProcessingFee(PricingSnapshot pricing, BigDecimal loanAmount) {
+        return loanAmount.multiply(pricing.processingFeeRate()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Annual rate (percent, 2 decimals) at which the payments repay the loan net of the processing
+     * fee, or null when no positive rate does.
+     */
+    BigDecimal calculateAnnualPercentageRate(SimulationContext context, BigDecimal processingFee) {
+        SimulationRequestDTO request = context.request();
+        double monthlyRate = AprSolver.monthlyRate(
+                request.getDesiredLoanAmount().subtract(processingFee).doubleValue(),
+                context.monthlyPayment().doubleValue(),
+                request.getDesiredTermMonths(),
+                context.monthlyRate().doubleValue()
+        );
         
-        if (request.getDesiredLoanAmount().compareTo(request.getCurrentLoanAmount().multiply(new BigDecimal("1.5"))) > 0) {
-            riskFactors.add("Significant increase in loan amount");
-            if (!"HIGH".equals(riskLevel)) riskLevel = "MEDIUM";
-        }
+        return Double.isNaN(monthlyRate)
+                ? null
+                : BigDecimal.valueOf(Math.round(monthlyRate * 120_000), 2);
+    }
+
+    SimulationResponseDTO.RiskAssessment calculateRiskAssessment(SimulationContext context) {
+        List<String> riskFactors = new ArrayList<>();
+        BigDecimal debtToIncomeRatio = context.debtToIncomeRatio();
+        RiskLevel riskLevel = assessRiskLevel(context.pricing(), context.request(), debtToIncomeRatio, riskFactors);
         
         return SimulationResponseDTO.RiskAssessment.builder()
-                .riskLevel(riskLevel)
+                .riskLevel(riskLevel.name())
                 .debtToIncomeRatio(debtToIncomeRatio)
                 .creditUtilization(new BigDecimal("0.35")) // Mock value
                 .riskFactors(riskFactors)
                 .build();
     }
 
-    private BigDecimal calculateApprovalProbability(SimulationRequestDTO request, 
-                                                  SimulationResponseDTO.RiskAssessment riskAssessment) {
-        BigDecimal probability = new BigDecimal("0.85"); // Base probability
-        
-        // Adjust based on risk level
-        switch (riskAssessment.getRiskLevel()) {
-            case "HIGH" -> probability = new BigDecimal("0.45");
-            case "MEDIUM" -> probability = new BigDecimal("0.70");
-        }
-        
-        // Adjust based on credit score
-        if (request.getCreditScore() != null) {
-            if (request.getCreditScore() >= 750) {
-                probability = probability.add(new BigDecimal("0.10"));
-            } else if (request.getCreditScore() < 600) {
-                probability = probability.subtract(new BigDecimal("0.20"));
-            }
-        }
-        
-        return probability.min(BigDecimal.ONE).max(BigDecimal.ZERO);
+    /**
+     * Risk level of a request with the given DTI. Identified risk factors are added to
+     * {@code riskFactors} unless it is null, which lets grid evaluations skip the list.
+     */
+    RiskLevel assessRiskLevel(PricingSnapshot pricing, SimulationRequestDTO request,
+                              BigDecimal debtToIncomeRatio, List<String> riskFactors) {
+        return pricing.riskLevel(request, debtToIncomeRatio, riskFactors);
     }
 
-    private SimulationResponseDTO.CurrentLoanSummary buildCurrentLoanSummary(SimulationRequestDTO request) {
+    BigDecimal calculateApprovalProbability(SimulationContext context) {
+        return calculateApprovalProbability(context.pricing(), context.riskLevel(), context.request().getCreditScore());
+    }
+
+    BigDecimal calculateApprovalProbability(PricingSnapshot pricing, RiskLevel riskLevel, Integer creditScore) {
+        return pricing.approvalProbability(riskLevel, creditScore);
+    }
+
+    SimulationResponseDTO.CurrentLoanSummary buildCurrentLoanSummary(SimulationRequestDTO request) {
         // Mock remaining term calculation - in reality this would come from current loan data
         Integer estimatedRemainingTerm = (int) (request.getCurrentLoanAmount()
                 .divide(request.getCurrentMonthlyPayment(), 0, RoundingMode.HALF_UP).intValue() * 0.75);
@@ -259,33 +293,31 @@ public class SimulationService {
                 .build();
     }
 
-    private List<SimulationResponseDTO.PaymentPreview> generatePaymentPreview(
-            BigDecimal loanAmount, BigDecimal monthlyPayment, BigDecimal annualRate) {
-        
+    List<SimulationResponseDTO.PaymentPreview> generatePaymentPreview(SimulationContext context) {
         List<SimulationResponseDTO.PaymentPreview> preview = new ArrayList<>();
-        BigDecimal monthlyRate = annualRate.divide(new BigDecimal("100"), 6, RoundingMode.HALF_UP)
-                .divide(new BigDecimal("12"), 6, RoundingMode.HALF_UP);
-        
-        BigDecimal remainingBalance = loanAmount;
+        Iterator<SimulationResponseDTO.PaymentPreview> schedule = context.paymentSchedule().iterator();
         
-        for (int i = 1; i <= 3; i++) { // Show first 3 payments
-            BigDecimal interestAmount = remainingBalance.multiply(monthlyRate)
-                    .setScale(2, RoundingMode.HALF_UP);
-            BigDecimal principalAmount = monthlyPayment.subtract(interestAmount);
-            remainingBalance = remainingBalance.subtract(principalAmount);
-            
-            preview.add(SimulationResponseDTO.PaymentPreview.builder()
-                    .paymentNumber(i)
-                    .principalAmount(principalAmount)
-                    .interestAmount(interestAmount)
-                    .remainingBalance(remainingBalance)
-                    .build());
+        for (int i = 1; i <= 3 && schedule.hasNext(); i++) { // Show first 3 payments
+            preview.add(schedule.next());
         }
         
         return preview;
     }
 
-    private SimulationResponseDTO.ComparisonMetrics buildComparisonMetrics(
+    private Flux<SimulationResponseDTO.PaymentPreview> scheduleRows(AmortizationSchedule schedule, int from, Integer to) {
+        int last = to == null ? schedule.getTermMonths() : Math.min(to, schedule.getTermMonths());
+        if (from < 1 || last < from) {
+            return Flux.error(new IllegalArgumentException(
+                    "Invalid schedule range: from=" + from + ", to=" + to + " for a " + schedule.getTermMonths() + "-month term"));
+        }
+        
+        // Rows are generated on demand, so only what the subscriber requests is ever computed
+        return Flux.fromIterable(schedule)
+                .skip(from - 1L)
+                .take(last - from + 1L);
+    }
+
+    SimulationResponseDTO.ComparisonMetrics buildComparisonMetrics(
             SimulationRequestDTO request, BigDecimal newRate, BigDecimal newPayment, BigDecimal totalSavings) {
         
         BigDecimal currentRate = new BigDecimal("6.25"); // Mock current rate
@@ -301,8 +333,8 @@ public class SimulationService {
                 .build();
     }
 
-    private List<String> generateNextSteps(BigDecimal approvalProbability, 
-                                         SimulationResponseDTO.RiskAssessment riskAssessment) {
+    List<String> generateNextSteps(BigDecimal approvalProbability, 
+                                 SimulationResponseDTO.RiskAssessment riskAssessment) {
         List<String> steps = new ArrayList<>();
         
         if (approvalProbability.compareTo(new BigDecimal("0.75")) >= 0) {
@@ -321,8 +353,8 @@ public class SimulationService {
         return steps;
     }
 
-    private List<String> generateConditions(SimulationRequestDTO request, 
-                                          SimulationResponseDTO.RiskAssessment riskAssessment) {
+    List<String> generateConditions(SimulationRequestDTO request, 
+                                  SimulationResponseDTO.RiskAssessment riskAssessment) {
         List<String> conditions = new ArrayList<>();
         
         if ("HIGH".equals(riskAssessment.getRiskLevel())) {
@@ -340,7 +372,7 @@ public class SimulationService {
         return conditions;
     }
 
-    private String determineStatus(BigDecimal approvalProbability) {
+    String determineStatus(BigDecimal approvalProbability) {
         if (approvalProbability.compareTo(new BigDecimal("0.80")) >= 0) {
             return "CALCULATED";
         } else if (approvalProbability.compareTo(new BigDecimal("0.50")) >= 0) {
@@ -0,0 +1,267 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveResponseDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.calculation.FixedPointAmortizationKernel;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Inverse simulations: the largest loan amount, or the shortest term, whose monthly payment stays
+ * under a payment cap and the maximum debt-to-income ratio.
+ * <p>
+ * The annuity formula is inverted in closed form to get a guess, which is then corrected one cent
+ * or one month at a time against the exact payment of a single simulation. The payment grows with
+ * the amount and shrinks with the term, so the guess is usually confirmed in two evaluations.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationSolverService {
+
+    private static final long MIN_LOAN_CENTS = 100_000L;
+    private static final long MAX_LOAN_CENTS = 1_000_000_000L;
+
+    private final SimulationService simulationService;
+    private final PricingEngine pricingEngine;
+
+    public Mono<SimulationSolveResponseDTO> solveMaxLoanAmount(SimulationSolveRequestDTO request) {
+        log.info("Solving maximum loan amount for customer: {}", request.getCustomerId());
+        
+        return Mono.fromCallable(() -> computeMaxLoanAmount(request));
+    }
+
+    public Mono<SimulationSolveResponseDTO> solveMinTerm(SimulationSolveRequestDTO request) {
+        log.info("Solving minimum term for customer: {}", request.getCustomerId());
+        
+        return Mono.fromCallable(() -> computeMinTerm(request));
+    }
+
+    SimulationSolveResponseDTO computeMaxLoanAmount(SimulationSolveRequestDTO request) {
+        long startTime = System.currentTimeMillis();
+        
+        if (request.getDesiredTermMonths() == null) {
+            throw new IllegalArgumentException("Desired term in months is required to solve for the loan amount");
+        }
+        int term = request.getDesiredTermMonths();
+        PricingSnapshot pricing = pricingEngine.snapshot();
+        long capCents = paymentCapCents(pricing, request);
+        
+        // The large-loan discount makes the rate a step function of the amount, so each bracket is
+        // solved at its own rate; a solution above the threshold beats any below it
+        long thresholdCents = pricing.largeLoanThreshold().movePointRight(2)
+                .setScale(0, RoundingMode.FLOOR).longValue();
+        Payments payments = null;
+        long loanCents = -1;
+        if (thresholdCents < MAX_LOAN_CENTS) {
+            long from = Math.max(MIN_LOAN_CENTS, thresholdCents + 1);
+            payments = new Payments(interestRate(pricing, request, from, term), term, 0);
+            loanCents = payments.maxLoanCents(capCents, from, MAX_LOAN_CENTS);
+        }
+        if (loanCents < 0 && thresholdCents >= MIN_LOAN_CENTS) {
+            long to = Math.min(MAX_LOAN_CENTS, thresholdCents);
+            payments = new Payments(interestRate(pricing, request, to, term), term,
+                    payments != null ? payments.evaluations : 0);
+            loanCents = payments.maxLoanCents(capCents, MIN_LOAN_CENTS, to);
+        }
+        if (loanCents < 0) {
+            throw new BusinessRuleException("No loan amount fits the payment cap",
+                    "A $1,000 loan over " + term + " months exceeds the payment cap of " + BigDecimal.valueOf(capCents, 2));
+        }
+        
+        return response(request, loanCents, payments.term, payments.interestRate,
+                payments.paymentCents, capCents, payments.evaluations, startTime);
+    }
+
+    SimulationSolveResponseDTO computeMinTerm(SimulationSolveRequestDTO request) {
+        long startTime = System.currentTimeMillis();
+        
+        if (request.getDesiredLoanAmount() == null) {
+            throw new IllegalArgumentException("Desired loan amount is required to solve for the term");
+        }
+        long loanCents = FixedPointAmortizationKernel.toCents(request.getDesiredLoanAmount());
+        if (loanCents < 0) {
+            throw new IllegalArgumentException("Desired loan amount must have at most 2 decimal places");
+        }
+        PricingSnapshot pricing = pricingEngine.snapshot();
+        long capCents = paymentCapCents(pricing, request);
+        
+        // The rate does not depend on the term
+        BigDecimal interestRate = interestRate(pricing, request, loanCents, AnnuityFactorTable.MIN_TERM_MONTHS);
+        double monthlyRate = simulationService.calculateMonthlyRate(interestRate).doubleValue();
+        
+        // n = -ln(1 - rL/P) / ln(1 + r); no term is long enough once the interest alone exceeds the cap
+        double interestShare = monthlyRate * loanCents / capCents;
+        int guess = interestShare < 1
+                ? (int) Math.min(AnnuityFactorTable.MAX_TERM_MONTHS,
+                        Math.max(AnnuityFactorTable.MIN_TERM_MONTHS,
+                                Math.ceil(-Math.log1p(-interestShare) / Math.log1p(monthlyRate))))
+                : AnnuityFactorTable.MAX_TERM_MONTHS;
+        
+        int term = guess;
+        long paymentCents = paymentCents(loanCents, interestRate, term);
+        int evaluations = 1;
+        if (paymentCents > capCents) {
+            while (paymentCents > capCents && term < AnnuityFactorTable.MAX_TERM_MONTHS) {
+                term++;
+                paymentCents = paymentCents(loanCents, interestRate, term);
+                evaluations++;
+            }
+            if (paymentCents > capCents) {
+                throw new BusinessRuleException("No term fits the payment cap",
+                        "The payment over " + AnnuityFactorTable.MAX_TERM_MONTHS + " months is "
+                                + BigDecimal.valueOf(paymentCents, 2) + ", above the cap of " + BigDecimal.valueOf(capCents, 2));
+            }
+        } else {
+            while (term > AnnuityFactorTable.MIN_TERM_MONTHS) {
+                long shorter = paymentCents(loanCents, interestRate, term - 1);
+                evaluations++;
+                if (shorter > capCents) {
+                    break;
+                }
+                term--;
+                paymentCents = shorter;
+            }
+        }
+        
+        return response(request, loanCents, term, interestRate, paymentCents, capCents, evaluations, startTime);
+    }
+
+    /**
+     * Lowest of the explicit payment cap and the largest payment whose DTI, rounded HALF_UP to
+     * 4 decimals like a single simulation, does not exceed the maximum ratio.
+     */
+    private long paymentCapCents(PricingSnapshot pricing, SimulationSolveRequestDTO request) {
+        long capCents = Long.MAX_VALUE;
+        if (request.getMaxMonthlyPayment() != null) {
+            capCents = FixedPointAmortizationKernel.toCents(request.getMaxMonthlyPayment());
+            if (capCents < 0) {
+                throw new IllegalArgumentException("Maximum monthly payment must have at most 2 decimal places");
+            }
+        }
+        
+        BigDecimal income = request.getMonthlyIncome();
+        if (income != null && income.compareTo(BigDecimal.ZERO) > 0) {
+            BigDecimal maxRatio = request.getMaxDebtToIncomeRatio() != null
+                    ? request.getMaxDebtToIncomeRatio()
+                    : pricing.highRiskThreshold();
+            long ratioBasisPoints = maxRatio.movePointRight(4).setScale(0, RoundingMode.FLOOR).longValueExact();
+            long incomeCents = FixedPointAmortizationKernel.toCents(income);
+            if (incomeCents < 0) {
+                throw new IllegalArgumentException("Monthly income must have at most 2 decimal places");
+            }
+            // round(p / income, 4) <= ratio  <=>  20000 p < income (2 ratio + 1), with ratio in 1e-4 units
+            capCents = Math.min(capCents, (incomeCents * (2 * ratioBasisPoints + 1) - 1) / 20_000L);
+        }
+        
+        if (capCents == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Either a maximum monthly payment or a positive monthly income is required");
+        }
+        return capCents;
+    }
+
+    private BigDecimal interestRate(PricingSnapshot pricing, SimulationSolveRequestDTO request, long loanCents, int term) {
+        return simulationService.calculateInterestRate(pricing, new SimulationRequestDTO(
+                request.getCustomerId(),
+                null,
+                null,
+                BigDecimal.valueOf(loanCents, 2),
+                term,
+                request.getLoanType(),
+                request.getMonthlyIncome(),
+                request.getCreditScore()
+        ));
+    }
+
+    private long paymentCents(long loanCents, BigDecimal interestRate, int term) {
+        return simulationService.calculateMonthlyPayment(BigDecimal.valueOf(loanCents, 2), interestRate, term)
+                .movePointRight(2).longValueExact();
+    }
+
+    private static SimulationSolveResponseDTO response(SimulationSolveRequestDTO request, long loanCents, int term,
+                                                       BigDecimal interestRate, long paymentCents, long capCents,
+                                                       int evaluations, long startTime) {
+        BigDecimal monthlyPayment = BigDecimal.valueOf(paymentCents, 2);
+        BigDecimal income = request.getMonthlyIncome();
+        
+        return SimulationSolveResponseDTO.builder()
+                .customerId(request.getCustomerId())
+                .loanAmount(BigDecimal.valueOf(loanCents, 2))
+                .termMonths(term)
+                .interestRate(interestRate)
+                .monthlyPayment(monthlyPayment)
+                .paymentCap(BigDecimal.valueOf(capCents, 2))
+                .debtToIncomeRatio(income != null && income.compareTo(BigDecimal.ZERO) > 0
+                        ? monthlyPayment.divide(income, 4, RoundingMode.HALF_UP)
+                        : null)
+                .evaluations(evaluations)
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * Payment of a fixed rate and term as a function of the amount, counting evaluations.
+     */
+    private final class Payments {
+
+        private final BigDecimal interestRate;
+        private final int term;
+        private int evaluations;
+        private long paymentCents;
+        
+        Payments(BigDecimal interestRate, int term, int evaluations) {
+            this.interestRate = interestRate;
+            this.term = term;
+            this.evaluations = evaluations;
+        }
+        
+        /**
+         * Largest amount in [from, to] cents whose payment fits the cap, or -1 when even
+         * {@code from} does not. The payment of the solution is kept in {@link #paymentCents}.
+         */
+        long maxLoanCents(long capCents, long from, long to) {
+            double monthlyRate = simulationService.calculateMonthlyRate(interestRate).doubleValue();
+            double x = term * Math.log1p(monthlyRate);
+            double factor = monthlyRate * Math.exp(x) / Math.expm1(x);
+            // Payments round HALF_UP to the cent, so every amount below (cap + 0.5) / factor fits
+            long loanCents = (long) Math.max(from, Math.min(to, Math.floor((capCents + 0.5) / factor)));
+            
+            long payment = payment(loanCents);
+            if (payment > capCents) {
+                do {
+                    if (loanCents == from) {
+                        return -1;
+                    }
+                    loanCents--;
+                    payment = payment(loanCents);
+                } while (payment > capCents);
+            } else {
+                while (loanCents < to) {
+                    long larger = payment(loanCents + 1);
+                    if (larger > capCents) {
+                        break;
+                    }
+                    loanCents++;
+                    payment = larger;
+                }
+            }
+            paymentCents = payment;
+            return loanCents;
+        }
+        
+        private long payment(long loanCents) {
+            evaluations++;
+            return paymentCents(loanCents, interestRate, term);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo rate-shock test of a variable-rate simulation.
+ * <p>
+ * Every path starts from the simulated rate and payment. At each reset the annual rate moves by
+ * a normal shock (drift and volatility scaled to the reset interval), bounded by the minimum
+ * interest rate, and the payment is re-amortized over the remaining balance and term. The peak
+ * DTI of each path goes into a primitive array, from which the percentiles are read.
+ * <p>
+ * Scenarios run in fixed-size chunks on the common fork-join pool. Each chunk draws from its own
+ * {@link SplittableRandom}, split from the seed in chunk order before any work starts, so the
+ * result depends only on the seed and not on the number of cores or the scheduling.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationStressTestService {
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int DEFAULT_SCENARIOS = 10_000;
+    private static final int DEFAULT_RESET_INTERVAL_MONTHS = 12;
+    private static final double DEFAULT_ANNUAL_VOLATILITY = 1.0;
+    private static final double[] PERCENTILES = {0.50, 0.75, 0.90, 0.95, 0.99};
+
+    private final SimulationService simulationService;
+
+    @Value("${simulation.stress-test.max-scenarios:100000}")
+    private int maxScenarios;
+
+    public Mono<SimulationStressTestResponseDTO> calculateStressTest(SimulationStressTestRequestDTO stressTest) {
+        log.info("Running stress test for customer: {}", stressTest.getBaseRequest().getCustomerId());
+        
+        // The calling thread waits for the fork-join chunks, so keep it off the event loop
+        return Mono.fromCallable(() -> computeStressTest(stressTest))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    SimulationStressTestResponseDTO computeStressTest(SimulationStressTestRequestDTO stressTest) {
+        long startTime = System.currentTimeMillis();
+        
+        SimulationRequestDTO request = stressTest.getBaseRequest();
+        if (request.getMonthlyIncome() == null || request.getMonthlyIncome().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("A positive monthly income is required for a stress test");
+        }
+        int scenarios = stressTest.getScenarios() != null ? stressTest.getScenarios() : DEFAULT_SCENARIOS;
+        if (scenarios > maxScenarios) {
+            throw new IllegalArgumentException("Stress test has " + scenarios + " scenarios, maximum is " + maxScenarios);
+        }
+        long seed = stressTest.getSeed() != null ? stressTest.getSeed() : new SplittableRandom().nextLong();
+        
+        SimulationContext context = new SimulationContext(request, simulationService);
+        RatePaths paths = new RatePaths(
+                request.getDesiredLoanAmount().doubleValue(),
+                request.getDesiredTermMonths(),
+                context.interestRate().doubleValue(),
+                context.monthlyPayment().doubleValue(),
+                stressTest.getResetIntervalMonths() != null
+                        ? stressTest.getResetIntervalMonths() : DEFAULT_RESET_INTERVAL_MONTHS,
+                stressTest.getAnnualRateVolatility() != null
+                        ? stressTest.getAnnualRateVolatility().doubleValue() : DEFAULT_ANNUAL_VOLATILITY,
+                stressTest.getAnnualRateDrift() != null ? stressTest.getAnnualRateDrift().doubleValue() : 0,
+                context.pricing().minInterestRate().doubleValue()
+        );
+        
+        int chunks = (scenarios + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            randoms[chunk] = root.split();
+        }
+        
+        double[] peakPayments = new double[scenarios];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = randoms[chunk];
+            int end = Math.min(scenarios, (chunk + 1) * CHUNK_SIZE);
+            for (int scenario = chunk * CHUNK_SIZE; scenario < end; scenario++) {
+                peakPayments[scenario] = paths.peakPayment(random);
+            }
+        });
+        Arrays.sort(peakPayments);
+        
+        // Payments and DTI are proportional, so the payment order is the DTI order
+        double income = request.getMonthlyIncome().doubleValue();
+        BigDecimal maxRatio = context.pricing().highRiskThreshold();
+        double maxPayment = maxRatio.doubleValue() * income;
+        int withinMax = upperBound(peakPayments, maxPayment);
+        
+        Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            int rank = (int) Math.ceil(percentile * scenarios) - 1;
+            percentiles.put("p" + Math.round(percentile * 100),
+                    BigDecimal.valueOf(peakPayments[Math.max(rank, 0)] / income).setScale(4, RoundingMode.HALF_UP));
+        }
+        
+        return SimulationStressTestResponseDTO.builder()
+                .customerId(request.getCustomerId())
+                .scenarios(scenarios)
+                .seed(seed)
+                .initialInterestRate(context.interestRate())
+                .initialMonthlyPayment(context.monthlyPayment())
+                .initialDebtToIncomeRatio(context.debtToIncomeRatio())
+                .debtToIncomePercentiles(percentiles)
+                .maxDebtToIncomeRatio(maxRatio)
+                .probabilityExceedingMaxDti(BigDecimal.valueOf(scenarios - withinMax)
+                        .divide(BigDecimal.valueOf(scenarios), 4, RoundingMode.HALF_UP))
+                .worstCasePayment(BigDecimal.valueOf(peakPayments[scenarios - 1]).setScale(2, RoundingMode.HALF_UP))
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * Number of leading values of the sorted array that are not above {@code limit}.
+     */
+    private static int upperBound(double[] sorted, double limit) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= limit) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Immutable path model shared by every chunk; all state of a path lives on the stack.
+     */
+    private static final class RatePaths {
+
+        private final double loanAmount;
+        private final int termMonths;
+        private final double initialRate;
+        private final double initialPayment;
+        private final int resetIntervalMonths;
+        private final double shockDrift;
+        private final double shockVolatility;
+        private final double minRate;
+        
+        RatePaths(double loanAmount, int termMonths, double initialRate, double initialPayment,
+                  int resetIntervalMonths, double annualVolatility, double annualDrift, double minRate) {
+            double years = resetIntervalMonths / 12.0;
+            this.loanAmount = loanAmount;
+            this.termMonths = termMonths;
+            this.initialRate = initialRate;
+            this.initialPayment = initialPayment;
+            this.resetIntervalMonths = resetIntervalMonths;
+            this.shockDrift = annualDrift * years;
+            this.shockVolatility = annualVolatility * Math.sqrt(years);
+            this.minRate = Math.min(minRate, initialRate);
+        }
+        
+        /**
+         * Highest payment along one random path.
+         */
+        double peakPayment(SplittableRandom random) {
+            double rate = initialRate;
+            double payment = initialPayment;
+            double peak = payment;
+            double balance = loanAmount;
+            int remaining = termMonths;
+            double monthlyRate = rate / 1200;
+            double logGrowth = Math.log1p(monthlyRate);
+            
+            while (true) {
+                int months = Math.min(resetIntervalMonths, remaining);
+                // Balance after paying `months` installments: B (1+r)^k - P ((1+r)^k - 1) / r
+                balance += Math.expm1(months * logGrowth) * (balance - payment / monthlyRate);
+                remaining -= months;
+                if (remaining == 0 || balance <= 0) {
+                    return peak;
+                }
+                
+                rate = Math.max(minRate, rate + shockDrift + shockVolatility * random.nextGaussian());
+                monthlyRate = rate / 1200;
+                logGrowth = Math.log1p(monthlyRate);
+                payment = balance * monthlyRate / -Math.expm1(-remaining * logGrowth);
+                peak = Math.max(peak, payment);
+            }
+        }
+    }
+}
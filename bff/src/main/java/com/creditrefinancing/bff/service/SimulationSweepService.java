@@ -0,0 +1,181 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.calculation.FixedPointAmortizationKernel;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingSnapshot;
+import com.creditrefinancing.bff.service.pricing.RiskLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates a term x amount grid for one customer.
+ * <p>
+ * Customer-level work (interest rate, annuity-factor row, credit-score rules) runs once per
+ * amount row. Each grid point is then a factor multiply in long cents, an integer DTI division
+ * and a status lookup: the risk level only depends on which DTI band a point falls into, so it
+ * is evaluated at most once per band and row with the same rules as a single simulation.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationSweepService {
+
+    private static final int LOW_BAND = 0;
+    private static final int ELEVATED_BAND = 1;
+    private static final int EXCEEDED_BAND = 2;
+
+    private final SimulationService simulationService;
+    private final AnnuityFactorTable annuityFactorTable;
+    private final PricingEngine pricingEngine;
+
+    @Value("${simulation.sweep.max-grid-points:2500}")
+    private int maxGridPoints;
+
+    public Mono<SimulationSweepResponseDTO> calculateSweep(SimulationSweepRequestDTO sweep) {
+        log.info("Calculating sweep for customer: {}", sweep.getBaseRequest().getCustomerId());
+        
+        return Mono.fromCallable(() -> computeSweep(sweep));
+    }
+
+    SimulationSweepResponseDTO computeSweep(SimulationSweepRequestDTO sweep) {
+        long startTime = System.currentTimeMillis();
+        
+        int[] terms = expandTerms(sweep.getTermRange());
+        BigDecimal[] amounts = expandAmounts(sweep.getAmountRange());
+        if ((long) terms.length * amounts.length > maxGridPoints) {
+            throw new IllegalArgumentException("Sweep grid has " + (long) terms.length * amounts.length
+                    + " points, maximum is " + maxGridPoints);
+        }
+        
+        SimulationRequestDTO base = sweep.getBaseRequest();
+        boolean hasIncome = base.getMonthlyIncome() != null && base.getMonthlyIncome().compareTo(BigDecimal.ZERO) > 0;
+        long incomeCents = hasIncome ? FixedPointAmortizationKernel.toCents(base.getMonthlyIncome()) : 0;
+        if (incomeCents < 0) {
+            throw new IllegalArgumentException("Monthly income must have at most 2 decimal places");
+        }
+        // One snapshot for the whole grid, so a reload cannot price rows with different rules
+        PricingSnapshot pricing = pricingEngine.snapshot();
+        long exceededBasisPoints = toRatioBasisPoints(pricing.highRiskThreshold());
+        long elevatedBasisPoints = toRatioBasisPoints(pricing.mediumRiskThreshold());
+        
+        BigDecimal[] interestRates = new BigDecimal[amounts.length];
+        double[][] monthlyPayment = new double[amounts.length][terms.length];
+        double[][] totalInterest = new double[amounts.length][terms.length];
+        double[][] debtToIncomeRatio = new double[amounts.length][terms.length];
+        String[][] status = new String[amounts.length][terms.length];
+        
+        for (int row = 0; row < amounts.length; row++) {
+            SimulationRequestDTO rowRequest = withAmount(base, amounts[row]);
+            BigDecimal interestRate = simulationService.calculateInterestRate(pricing, rowRequest);
+            AnnuityFactorTable.Row factors = annuityFactorTable.row(interestRate);
+            long loanCents = FixedPointAmortizationKernel.toCents(amounts[row]);
+            String[] statusByBand = new String[3];
+            interestRates[row] = interestRate;
+            
+            for (int column = 0; column < terms.length; column++) {
+                int term = terms[column];
+                long paymentCents = factors != null
+                        ? FixedPointAmortizationKernel.paymentCents(loanCents, factors.factor(term))
+                        : -1;
+                if (paymentCents < 0) {
+                    paymentCents = simulationService.calculateMonthlyPayment(amounts[row], interestRate, term)
+                            .movePointRight(2).longValueExact();
+                }
+                
+                long ratioBasisPoints = hasIncome ? divideHalfUp(paymentCents * 10_000L, incomeCents) : 0;
+                int band = ratioBasisPoints > exceededBasisPoints ? EXCEEDED_BAND
+                        : ratioBasisPoints > elevatedBasisPoints ? ELEVATED_BAND
+                        : LOW_BAND;
+                if (statusByBand[band] == null) {
+                    statusByBand[band] = determineStatus(pricing, rowRequest, BigDecimal.valueOf(ratioBasisPoints, 4));
+                }
+                
+                monthlyPayment[row][column] = paymentCents / 100.0;
+                totalInterest[row][column] = (paymentCents * term - loanCents) / 100.0;
+                debtToIncomeRatio[row][column] = ratioBasisPoints / 10_000.0;
+                status[row][column] = statusByBand[band];
+            }
+        }
+        
+        return SimulationSweepResponseDTO.builder()
+                .customerId(base.getCustomerId())
+                .terms(terms)
+                .amounts(amounts)
+                .interestRates(interestRates)
+                .monthlyPayment(monthlyPayment)
+                .totalInterest(totalInterest)
+                .debtToIncomeRatio(debtToIncomeRatio)
+                .status(status)
+                .processingTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    private String determineStatus(PricingSnapshot pricing, SimulationRequestDTO request, BigDecimal debtToIncomeRatio) {
+        RiskLevel riskLevel = simulationService.assessRiskLevel(pricing, request, debtToIncomeRatio, null);
+        return simulationService.determineStatus(
+                simulationService.calculateApprovalProbability(pricing, riskLevel, request.getCreditScore()));
+    }
+
+    private static int[] expandTerms(SimulationSweepRequestDTO.TermRange range) {
+        if (range.getFrom() > range.getTo()) {
+            throw new IllegalArgumentException("Term range start must not be after its end");
+        }
+        int[] terms = new int[(range.getTo() - range.getFrom()) / range.getStep() + 1];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = range.getFrom() + i * range.getStep();
+        }
+        return terms;
+    }
+
+    private BigDecimal[] expandAmounts(SimulationSweepRequestDTO.AmountRange range) {
+        if (range.getFrom().compareTo(range.getTo()) > 0) {
+            throw new IllegalArgumentException("Amount range start must not be after its end");
+        }
+        List<BigDecimal> amounts = new ArrayList<>();
+        for (BigDecimal amount = range.getFrom().setScale(2); amount.compareTo(range.getTo()) <= 0;
+             amount = amount.add(range.getStep())) {
+            if (amounts.size() >= maxGridPoints) {
+                throw new IllegalArgumentException("Amount range has more than " + maxGridPoints + " values");
+            }
+            amounts.add(amount);
+        }
+        return amounts.toArray(BigDecimal[]::new);
+    }
+
+    private static SimulationRequestDTO withAmount(SimulationRequestDTO base, BigDecimal desiredLoanAmount) {
+        return new SimulationRequestDTO(
+                base.getCustomerId(),
+                base.getCurrentLoanAmount(),
+                base.getCurrentMonthlyPayment(),
+                desiredLoanAmount,
+                base.getDesiredTermMonths(),
+                base.getLoanType(),
+                base.getMonthlyIncome(),
+                base.getCreditScore()
+        );
+    }
+
+    /**
+     * Ratio in 1e-4 units, rounded down: {@code x > ratio} holds exactly when {@code x * 10000 > result}
+     * for any x with 4 decimals.
+     */
+    private static long toRatioBasisPoints(BigDecimal ratio) {
+        return ratio.movePointRight(4).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (2 * dividend + divisor) / (2 * divisor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import java.math.BigDecimal;
+
+/**
+ * Computes the fixed monthly payment of a fully amortizing loan.
+ * <p>
+ * Every implementation must return exactly what {@link BigDecimalAmortizationKernel} returns:
+ * the monthly rate is {@code annualRate / 100 / 12} rounded HALF_UP to 6 decimals at each step,
+ * and the payment {@code P * r(1+r)^n / ((1+r)^n - 1)} is rounded HALF_UP to cents.
+ */
+public interface AmortizationKernel {
+
+    BigDecimal monthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, int termMonths);
+}
@@ -0,0 +1,69 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily generated amortization schedule. Rows are computed one at a time from the previous
+ * balance, so iterating a 360-month schedule holds a single row in memory.
+ * <p>
+ * Interest is {@code balance * monthlyRate} rounded HALF_UP to cents and principal is the rest of
+ * the payment; the last row pays off whatever balance is left so the schedule closes at zero.
+ */
+public class AmortizationSchedule implements Iterable<SimulationResponseDTO.PaymentPreview> {
+
+    private final BigDecimal loanAmount;
+    private final BigDecimal monthlyPayment;
+    private final BigDecimal monthlyRate;
+    private final int termMonths;
+
+    public AmortizationSchedule(BigDecimal loanAmount, BigDecimal monthlyPayment, BigDecimal monthlyRate, int termMonths) {
+        this.loanAmount = loanAmount;
+        this.monthlyPayment = monthlyPayment;
+        this.monthlyRate = monthlyRate;
+        this.termMonths = termMonths;
+    }
+
+    public int getTermMonths() {
+        return termMonths;
+    }
+
+    @Override
+    public Iterator<SimulationResponseDTO.PaymentPreview> iterator() {
+        return new Iterator<>() {
+            private BigDecimal remainingBalance = loanAmount;
+            private int paymentNumber = 0;
+
+            @Override
+            public boolean hasNext() {
+                return paymentNumber < termMonths;
+            }
+
+            @Override
+            public SimulationResponseDTO.PaymentPreview next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                paymentNumber++;
+                
+                BigDecimal interestAmount = remainingBalance.multiply(monthlyRate)
+                        .setScale(2, RoundingMode.HALF_UP);
+                BigDecimal principalAmount = paymentNumber == termMonths
+                        ? remainingBalance
+                        : monthlyPayment.subtract(interestAmount);
+                remainingBalance = remainingBalance.subtract(principalAmount);
+                
+                return SimulationResponseDTO.PaymentPreview.builder()
+                        .paymentNumber(paymentNumber)
+                        .principalAmount(principalAmount)
+                        .interestAmount(interestAmount)
+                        .remainingBalance(remainingBalance)
+                        .build();
+            }
+        };
+    }
+}
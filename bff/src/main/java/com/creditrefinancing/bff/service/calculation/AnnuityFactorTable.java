@@ -0,0 +1,205 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Precomputed annuity factors {@code r(1+r)^n / ((1+r)^n - 1)} keyed by annual rate in basis
+ * points and term in months, so a monthly payment is a lookup and a multiply.
+ * <p>
+ * The table is immutable once built; {@link #rebuild(Collection)} publishes a new one through a
+ * volatile field, so concurrent readers always see a complete table. Rates that are not in the
+ * table (or not a whole number of basis points) are reported as misses and the caller falls back
+ * to the {@link AmortizationKernel}.
+ */
+@Component
+@Slf4j
+public class AnnuityFactorTable {
+
+    public static final int MIN_TERM_MONTHS = 12;
+    public static final int MAX_TERM_MONTHS = 360;
+
+    private static final int TERMS = MAX_TERM_MONTHS - MIN_TERM_MONTHS + 1;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Table table = Table.EMPTY;
+
+    public AnnuityFactorTable(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("simulation.annuity.table.lookups")
+                .description("Annuity factor table lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("simulation.annuity.table.lookups")
+                .description("Annuity factor table lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("simulation.annuity.table.bytes", this, AnnuityFactorTable::footprintBytes)
+                .description("Approximate heap footprint of the annuity factor table")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("simulation.annuity.table.hit.ratio", this, AnnuityFactorTable::hitRatio)
+                .description("Share of payment calculations served from the annuity factor table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds a table for the given annual rates (in percent) and all terms from 12 to 360 months.
+     * Rates that are not a whole number of basis points are skipped.
+     */
+    public void rebuild(Collection<BigDecimal> annualRates) {
+        TreeSet<Integer> basisPoints = new TreeSet<>();
+        for (BigDecimal rate : annualRates) {
+            int bps = toBasisPoints(rate);
+            if (bps > 0) {
+                basisPoints.add(bps);
+            }
+        }
+        
+        Table rebuilt = Table.build(basisPoints);
+        this.table = rebuilt;
+        log.info("Annuity factor table rebuilt: {} rates x {} terms, ~{} bytes",
+                basisPoints.size(), TERMS, rebuilt.footprintBytes());
+    }
+
+    /**
+     * Returns the annuity factor for the rate and term, or {@code NaN} when it is not tabulated.
+     */
+    public double factor(BigDecimal annualRate, int termMonths) {
+        Table current = table;
+        int row = current.row(toBasisPoints(annualRate));
+        if (row < 0 || termMonths < MIN_TERM_MONTHS || termMonths > MAX_TERM_MONTHS) {
+            misses.increment();
+            return Double.NaN;
+        }
+        hits.increment();
+        return current.factors[row * TERMS + termMonths - MIN_TERM_MONTHS];
+    }
+
+    /**
+     * Returns the factors of one tabulated rate for every term, or {@code null} when the rate is not
+     * tabulated. The row stays valid (and consistent) even if the table is rebuilt meanwhile.
+     */
+    public Row row(BigDecimal annualRate) {
+        Table current = table;
+        int row = current.row(toBasisPoints(annualRate));
+        if (row < 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Row(current.factors, row * TERMS);
+    }
+
+    /**
+     * Returns the 6-decimal monthly rate for a tabulated annual rate, or {@code null} when it is not tabulated.
+     */
+    public BigDecimal monthlyRate(BigDecimal annualRate) {
+        Table current = table;
+        int row = current.row(toBasisPoints(annualRate));
+        return row < 0 ? null : current.monthlyRates[row];
+    }
+
+    public long footprintBytes() {
+        return table.footprintBytes();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private static int toBasisPoints(BigDecimal annualRate) {
+        int scale = annualRate.scale();
+        if (annualRate.signum() <= 0 || scale < 0 || scale > 2 || annualRate.unscaledValue().bitLength() > 20) {
+            return -1;
+        }
+        return annualRate.unscaledValue().intValue() * (scale == 0 ? 100 : scale == 1 ? 10 : 1);
+    }
+
+    /**
+     * Annuity factors of a single rate, indexed by term.
+     */
+    public static final class Row {
+
+        private final double[] factors;
+        private final int offset;
+
+        private Row(double[] factors, int offset) {
+            this.factors = factors;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the factor for the term, or {@code NaN} when the term is outside 12..360.
+         */
+        public double factor(int termMonths) {
+            if (termMonths < MIN_TERM_MONTHS || termMonths > MAX_TERM_MONTHS) {
+                return Double.NaN;
+            }
+            return factors[offset + termMonths - MIN_TERM_MONTHS];
+        }
+    }
+
+    private static final class Table {
+
+        static final Table EMPTY = new Table(0, new int[0], new double[0], new BigDecimal[0]);
+
+        final int minBasisPoints;
+        final int[] rowByBasisPoints;
+        final double[] factors;
+        final BigDecimal[] monthlyRates;
+
+        private Table(int minBasisPoints, int[] rowByBasisPoints, double[] factors, BigDecimal[] monthlyRates) {
+            this.minBasisPoints = minBasisPoints;
+            this.rowByBasisPoints = rowByBasisPoints;
+            this.factors = factors;
+            this.monthlyRates = monthlyRates;
+        }
+
+        static Table build(TreeSet<Integer> basisPoints) {
+            if (basisPoints.isEmpty()) {
+                return EMPTY;
+            }
+            
+            int min = basisPoints.first();
+            int[] rowByBasisPoints = new int[basisPoints.last() - min + 1];
+            Arrays.fill(rowByBasisPoints, -1);
+            double[] factors = new double[basisPoints.size() * TERMS];
+            BigDecimal[] monthlyRates = new BigDecimal[basisPoints.size()];
+            
+            int row = 0;
+            for (int bps : basisPoints) {
+                long monthlyRateMicros = FixedPointAmortizationKernel.monthlyRateMicros(BigDecimal.valueOf(bps, 2));
+                rowByBasisPoints[bps - min] = row;
+                monthlyRates[row] = BigDecimal.valueOf(monthlyRateMicros, 6);
+                for (int term = MIN_TERM_MONTHS; term <= MAX_TERM_MONTHS; term++) {
+                    factors[row * TERMS + term - MIN_TERM_MONTHS] =
+                            FixedPointAmortizationKernel.annuityFactor(monthlyRateMicros, term);
+                }
+                row++;
+            }
+            
+            return new Table(min, rowByBasisPoints, factors, monthlyRates);
+        }
+
+        int row(int basisPoints) {
+            int index = basisPoints - minBasisPoints;
+            return basisPoints <= 0 || index < 0 || index >= rowByBasisPoints.length ? -1 : rowByBasisPoints[index];
+        }
+
+        long footprintBytes() {
+            // Array payloads plus ~40 bytes per cached monthly-rate BigDecimal
+            return 4L * rowByBasisPoints.length + 8L * factors.length + 48L * monthlyRates.length;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Reference kernel: exact {@link BigDecimal} arithmetic. Slow for long terms because
+ * {@code (1+r)^n} is carried at full precision, but it defines the expected result.
+ */
+public class BigDecimalAmortizationKernel implements AmortizationKernel {
+
+    private static final BigDecimal ONE_HUNDRED = new BigDecimal("100");
+    private static final BigDecimal TWELVE = new BigDecimal("12");
+
+    @Override
+    public BigDecimal monthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, int termMonths) {
+        if (annualRate.compareTo(BigDecimal.ZERO) == 0) {
+            return loanAmount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        }
+        
+        // Convert annual rate to monthly rate
+        BigDecimal monthlyRate = annualRate.divide(ONE_HUNDRED, 6, RoundingMode.HALF_UP)
+                .divide(TWELVE, 6, RoundingMode.HALF_UP);
+        
+        // Calculate monthly payment using standard loan formula
+        // M = P * [r(1+r)^n] / [(1+r)^n - 1]
+        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
+        BigDecimal onePlusRPowerN = onePlusR.pow(termMonths);
+        
+        BigDecimal numerator = loanAmount.multiply(monthlyRate).multiply(onePlusRPowerN);
+        BigDecimal denominator = onePlusRPowerN.subtract(BigDecimal.ONE);
+        
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,100 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import java.math.BigDecimal;
+
+/**
+ * Fast kernel: the loan amount is taken as exact long cents, the monthly rate as exact long
+ * micro-units (same 6-decimal HALF_UP rounding as the reference), and the annuity factor is
+ * evaluated in double precision with {@code log1p}/{@code expm1}, which keeps the relative
+ * error within a few ulps for every term.
+ * <p>
+ * The payment is rounded to cents directly. When the unrounded value lies so close to a
+ * half-cent that the double error could flip HALF_UP rounding, or when an input is outside
+ * the representable fast-path domain, the call is delegated to the exact kernel, so the
+ * result always matches {@link BigDecimalAmortizationKernel} to the cent.
+ */
+public class FixedPointAmortizationKernel implements AmortizationKernel {
+
+    private static final long[] TEN_POWERS = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+    private static final double MICROS = 1_000_000d;
+
+    // Loan amounts above this many cents (1e13 = $100bn) always take the exact path
+    private static final long MAX_FAST_PATH_CENTS = 10_000_000_000_000L;
+
+    // Relative error budget of the double evaluation; orders of magnitude above the real bound
+    private static final double RELATIVE_ERROR_BOUND = 1e-12;
+
+    private final AmortizationKernel exactKernel;
+
+    public FixedPointAmortizationKernel(AmortizationKernel exactKernel) {
+        this.exactKernel = exactKernel;
+    }
+
+    @Override
+    public BigDecimal monthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, int termMonths) {
+        long loanCents = toCents(loanAmount);
+        long monthlyRateMicros = monthlyRateMicros(annualRate);
+        if (loanCents <= 0 || monthlyRateMicros <= 0 || termMonths <= 0) {
+            return exactKernel.monthlyPayment(loanAmount, annualRate, termMonths);
+        }
+
+        long paymentCents = paymentCents(loanCents, annuityFactor(monthlyRateMicros, termMonths));
+        if (paymentCents < 0) {
+            return exactKernel.monthlyPayment(loanAmount, annualRate, termMonths);
+        }
+        return BigDecimal.valueOf(paymentCents, 2);
+    }
+
+    /**
+     * Annuity factor {@code r(1+r)^n / ((1+r)^n - 1)} for a monthly rate given in micro-units.
+     */
+    public static double annuityFactor(long monthlyRateMicros, int termMonths) {
+        double r = monthlyRateMicros / MICROS;
+        double x = termMonths * Math.log1p(r);
+        return r * Math.exp(x) / Math.expm1(x);
+    }
+
+    /**
+     * Rounds {@code loanCents * factor} HALF_UP to whole cents, or returns -1 when the value is
+     * too close to a half-cent boundary to be decided safely in double precision.
+     */
+    public static long paymentCents(long loanCents, double factor) {
+        double cents = loanCents * factor;
+        double floor = Math.floor(cents);
+        double distanceToTie = Math.abs(cents - floor - 0.5);
+        if (distanceToTie <= cents * RELATIVE_ERROR_BOUND) {
+            return -1;
+        }
+        return (long) Math.floor(cents + 0.5);
+    }
+
+    /**
+     * Exact monthly rate in micro-units: {@code round(round(annualRate / 100, 6) / 12, 6)},
+     * or -1 when the rate is not positive or has more than 6 decimals.
+     */
+    public static long monthlyRateMicros(BigDecimal annualRate) {
+        int scale = annualRate.scale();
+        if (annualRate.signum() <= 0 || scale < 0 || scale > 6 || annualRate.unscaledValue().bitLength() > 40) {
+            return -1;
+        }
+        long annualPercentMicros = annualRate.unscaledValue().longValue() * TEN_POWERS[6 - scale];
+        long yearlyRateMicros = divideHalfUp(annualPercentMicros, 100);
+        return divideHalfUp(yearlyRateMicros, 12);
+    }
+
+    /**
+     * Exact amount in cents, or -1 when it has more than 2 decimals or is out of the fast-path range.
+     */
+    public static long toCents(BigDecimal amount) {
+        int scale = amount.scale();
+        if (amount.signum() <= 0 || scale < 0 || scale > 2 || amount.unscaledValue().bitLength() > 50) {
+            return -1;
+        }
+        long cents = amount.unscaledValue().longValue() * TEN_POWERS[2 - scale];
+        return cents <= MAX_FAST_PATH_CENTS ? cents : -1;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+}
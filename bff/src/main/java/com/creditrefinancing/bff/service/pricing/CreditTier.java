@@ -0,0 +1,14 @@
+package com.creditrefinancing.bff.service.pricing;
+
+/**
+ * Credit-score bands used by the pricing rules, from best to worst. {@link #UNKNOWN} applies
+ * when no score was provided and carries no adjustment.
+ */
+public enum CreditTier {
+    UNKNOWN,
+    EXCELLENT,
+    GOOD,
+    FAIR,
+    POOR,
+    SUBPRIME
+}
@@ -0,0 +1,159 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pricing rules compiled into flat arrays indexed by enum ordinals. Every interest rate and
+ * approval probability the rules can produce is computed once, with the same arithmetic and
+ * scale as applying the adjustments one by one, so a lookup returns a shared constant.
+ */
+final class DecisionTable {
+
+    private static final int TIERS = CreditTier.values().length;
+    // One extra column for loan types the rules do not know, which get no adjustment
+    private static final int LOAN_TYPES = LoanType.values().length + 1;
+    private static final int RISK_LEVELS = RiskLevel.values().length;
+
+    private final int excellentThreshold;
+    private final int goodThreshold;
+    private final int fairThreshold;
+    private final int subprimeThreshold;
+    private final BigDecimal largeLoanThreshold;
+    private final BigDecimal mediumRiskThreshold;
+    private final BigDecimal highRiskThreshold;
+    private final BigDecimal loanIncreaseThreshold;
+
+    // [tier][loan type][large loan]
+    private final BigDecimal[] interestRates = new BigDecimal[TIERS * LOAN_TYPES * 2];
+    // [risk level][tier]
+    private final BigDecimal[] approvalProbabilities = new BigDecimal[RISK_LEVELS * TIERS];
+
+    private DecisionTable(PricingRules rules) {
+        if (!(rules.getExcellentThreshold() > rules.getGoodThreshold()
+                && rules.getGoodThreshold() > rules.getFairThreshold()
+                && rules.getFairThreshold() > rules.getSubprimeThreshold())) {
+            throw new IllegalStateException("Credit score thresholds must be strictly decreasing from excellent to subprime");
+        }
+        this.excellentThreshold = rules.getExcellentThreshold();
+        this.goodThreshold = rules.getGoodThreshold();
+        this.fairThreshold = rules.getFairThreshold();
+        this.subprimeThreshold = rules.getSubprimeThreshold();
+        this.largeLoanThreshold = rules.getLargeLoanThreshold();
+        this.mediumRiskThreshold = rules.getMediumRiskThreshold();
+        this.highRiskThreshold = rules.getHighRiskThreshold();
+        this.loanIncreaseThreshold = rules.getLoanIncreaseThreshold();
+        
+        for (CreditTier tier : CreditTier.values()) {
+            for (int loanType = 0; loanType < LOAN_TYPES; loanType++) {
+                for (int largeLoan = 0; largeLoan < 2; largeLoan++) {
+                    interestRates[(tier.ordinal() * LOAN_TYPES + loanType) * 2 + largeLoan] =
+                            compileInterestRate(rules, tier, loanType, largeLoan == 1);
+                }
+            }
+            for (RiskLevel riskLevel : RiskLevel.values()) {
+                approvalProbabilities[riskLevel.ordinal() * TIERS + tier.ordinal()] =
+                        compileApprovalProbability(rules, riskLevel, tier);
+            }
+        }
+    }
+
+    static DecisionTable compile(PricingRules rules) {
+        return new DecisionTable(rules);
+    }
+
+    CreditTier creditTier(Integer creditScore) {
+        if (creditScore == null) return CreditTier.UNKNOWN;
+        if (creditScore >= excellentThreshold) return CreditTier.EXCELLENT;
+        if (creditScore >= goodThreshold) return CreditTier.GOOD;
+        if (creditScore >= fairThreshold) return CreditTier.FAIR;
+        if (creditScore >= subprimeThreshold) return CreditTier.POOR;
+        return CreditTier.SUBPRIME;
+    }
+
+    boolean isLargeLoan(BigDecimal loanAmount) {
+        return loanAmount.compareTo(largeLoanThreshold) > 0;
+    }
+
+    BigDecimal interestRate(CreditTier tier, LoanType loanType, boolean largeLoan) {
+        int loanTypeIndex = loanType == null ? LOAN_TYPES - 1 : loanType.ordinal();
+        return interestRates[(tier.ordinal() * LOAN_TYPES + loanTypeIndex) * 2 + (largeLoan ? 1 : 0)];
+    }
+
+    BigDecimal approvalProbability(RiskLevel riskLevel, CreditTier tier) {
+        return approvalProbabilities[riskLevel.ordinal() * TIERS + tier.ordinal()];
+    }
+
+    BigDecimal getLargeLoanThreshold() {
+        return largeLoanThreshold;
+    }
+
+    BigDecimal getMediumRiskThreshold() {
+        return mediumRiskThreshold;
+    }
+
+    BigDecimal getHighRiskThreshold() {
+        return highRiskThreshold;
+    }
+
+    BigDecimal getLoanIncreaseThreshold() {
+        return loanIncreaseThreshold;
+    }
+
+    /**
+     * Every distinct interest rate in the table.
+     */
+    Set<BigDecimal> interestRates() {
+        return new TreeSet<>(Arrays.asList(interestRates));
+    }
+
+    private static BigDecimal compileInterestRate(PricingRules rules, CreditTier tier, int loanType, boolean largeLoan) {
+        BigDecimal rate = rules.getBaseInterestRate();
+        
+        // Adjust rate based on credit score
+        rate = switch (tier) {
+            case EXCELLENT -> rate.subtract(rules.getExcellentDiscount());
+            case GOOD -> rate.subtract(rules.getGoodDiscount());
+            case FAIR -> rate.add(rules.getFairPenalty());
+            case POOR, SUBPRIME -> rate.add(rules.getPoorPenalty());
+            case UNKNOWN -> rate;
+        };
+        
+        // Adjust rate based on loan type
+        if (loanType < LoanType.values().length) {
+            rate = switch (LoanType.values()[loanType]) {
+                case MORTGAGE -> rate.subtract(rules.getMortgageDiscount());
+                case PERSONAL -> rate.add(rules.getPersonalPenalty());
+                case AUTO -> rate.add(rules.getAutoAdjustment());
+                case BUSINESS -> rate.add(rules.getBusinessPenalty());
+                case STUDENT -> rate.add(rules.getStudentAdjustment());
+            };
+        }
+        
+        // Larger loans get better rates
+        if (largeLoan) {
+            rate = rate.subtract(rules.getLargeLoanDiscount());
+        }
+        
+        return rate.max(rules.getMinInterestRate());
+    }
+
+    private static BigDecimal compileApprovalProbability(PricingRules rules, RiskLevel riskLevel, CreditTier tier) {
+        BigDecimal probability = switch (riskLevel) {
+            case LOW -> rules.getBaseProbability();
+            case MEDIUM -> rules.getBaseProbability().subtract(rules.getMediumRiskPenalty());
+            case HIGH -> rules.getBaseProbability().subtract(rules.getHighRiskPenalty());
+        };
+        
+        probability = switch (tier) {
+            case EXCELLENT -> probability.add(rules.getExcellentCreditBonus());
+            case GOOD -> probability.add(rules.getGoodCreditBonus());
+            case SUBPRIME -> probability.subtract(rules.getSubprimePenalty());
+            case UNKNOWN, FAIR, POOR -> probability;
+        };
+        
+        return probability.min(BigDecimal.ONE).max(BigDecimal.ZERO);
+    }
+}
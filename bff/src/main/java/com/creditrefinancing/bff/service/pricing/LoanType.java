@@ -0,0 +1,29 @@
+package com.creditrefinancing.bff.service.pricing;
+
+/**
+ * Loan types accepted by the simulation API; the ordinal indexes the pricing decision table.
+ */
+public enum LoanType {
+    PERSONAL,
+    MORTGAGE,
+    AUTO,
+    BUSINESS,
+    STUDENT;
+
+    /**
+     * Resolves the request value, or null for a type the pricing rules do not know.
+     */
+    public static LoanType of(String loanType) {
+        if (loanType == null) {
+            return null;
+        }
+        return switch (loanType) {
+            case "PERSONAL" -> PERSONAL;
+            case "MORTGAGE" -> MORTGAGE;
+            case "AUTO" -> AUTO;
+            case "BUSINESS" -> BUSINESS;
+            case "STUDENT" -> STUDENT;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the current {@link PricingSnapshot} through an atomic reference. Readers take no
+ * lock: {@link #snapshot()} is a single volatile read, and a snapshot never changes once
+ * published. {@link #update} compiles the new rules before swapping them in, so invalid rules
+ * leave the current snapshot in place, and then notifies the listeners that rebuild caches
+ * derived from the rules.
+ * <p>
+ * The evaluation methods below read the current snapshot on every call; a calculation that makes
+ * several calls takes one {@link #snapshot()} and uses it throughout.
+ */
+@Slf4j
+public class PricingEngine {
+
+    private final AtomicReference<PricingSnapshot> current;
+    private final List<Consumer<PricingSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    public PricingEngine(PricingRules rules) {
+        this.current = new AtomicReference<>(new PricingSnapshot(rules, 1, "application properties"));
+        log.info("Pricing decision table compiled: {} distinct interest rates", snapshot().interestRates().size());
+    }
+
+    public PricingSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Compiles and publishes new rules. Calculations already running keep the snapshot they took.
+     */
+    public synchronized PricingSnapshot update(PricingRules rules, String source) {
+        PricingSnapshot updated = new PricingSnapshot(rules, current.get().version() + 1, source);
+        current.set(updated);
+        log.info("Pricing snapshot {} published from {}: base rate {}, {} distinct interest rates",
+                updated.version(), source, rules.getBaseInterestRate(), updated.interestRates().size());
+        
+        for (Consumer<PricingSnapshot> listener : listeners) {
+            listener.accept(updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Registers a callback run after every {@link #update}, on the updating thread.
+     */
+    public void onUpdate(Consumer<PricingSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public BigDecimal interestRate(SimulationRequestDTO request) {
+        return snapshot().interestRate(request);
+    }
+
+    public RiskLevel riskLevel(SimulationRequestDTO request, BigDecimal debtToIncomeRatio, List<String> riskFactors) {
+        return snapshot().riskLevel(request, debtToIncomeRatio, riskFactors);
+    }
+
+    public BigDecimal approvalProbability(RiskLevel riskLevel, Integer creditScore) {
+        return snapshot().approvalProbability(riskLevel, creditScore);
+    }
+
+    public Set<BigDecimal> interestRates() {
+        return snapshot().interestRates();
+    }
+}
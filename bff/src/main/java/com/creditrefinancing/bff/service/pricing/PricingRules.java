@@ -0,0 +1,55 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Raw pricing settings, named after the {@code simulation.*} keys of the simulation service.
+ * The defaults reproduce the rules the BFF has always applied.
+ */
+@Value
+@Builder
+public class PricingRules {
+
+    @Builder.Default BigDecimal baseInterestRate = new BigDecimal("4.5");
+    @Builder.Default BigDecimal minInterestRate = new BigDecimal("2.0");
+
+    // Credit score tiers: a score belongs to the first tier whose threshold it reaches
+    @Builder.Default int excellentThreshold = 750;
+    @Builder.Default int goodThreshold = 700;
+    @Builder.Default int fairThreshold = 650;
+    @Builder.Default int subprimeThreshold = 600;
+    @Builder.Default BigDecimal excellentDiscount = new BigDecimal("0.5");
+    @Builder.Default BigDecimal goodDiscount = BigDecimal.ZERO;
+    @Builder.Default BigDecimal fairPenalty = new BigDecimal("0.75");
+    @Builder.Default BigDecimal poorPenalty = new BigDecimal("1.5");
+
+    // Loan type rate adjustments
+    @Builder.Default BigDecimal mortgageDiscount = new BigDecimal("0.25");
+    @Builder.Default BigDecimal autoAdjustment = new BigDecimal("0.5");
+    @Builder.Default BigDecimal personalPenalty = new BigDecimal("2.0");
+    @Builder.Default BigDecimal businessPenalty = new BigDecimal("1.0");
+    @Builder.Default BigDecimal studentAdjustment = BigDecimal.ZERO;
+
+    // Loans above the threshold get a better rate
+    @Builder.Default BigDecimal largeLoanThreshold = new BigDecimal("500000");
+    @Builder.Default BigDecimal largeLoanDiscount = new BigDecimal("0.25");
+
+    // Risk assessment thresholds
+    @Builder.Default BigDecimal mediumRiskThreshold = new BigDecimal("0.36");
+    @Builder.Default BigDecimal highRiskThreshold = new BigDecimal("0.43");
+    @Builder.Default BigDecimal loanIncreaseThreshold = new BigDecimal("1.5");
+
+    // Approval probability factors
+    @Builder.Default BigDecimal baseProbability = new BigDecimal("0.85");
+    @Builder.Default BigDecimal mediumRiskPenalty = new BigDecimal("0.15");
+    @Builder.Default BigDecimal highRiskPenalty = new BigDecimal("0.40");
+    @Builder.Default BigDecimal excellentCreditBonus = new BigDecimal("0.10");
+    @Builder.Default BigDecimal goodCreditBonus = BigDecimal.ZERO;
+    @Builder.Default BigDecimal subprimePenalty = new BigDecimal("0.20");
+
+    // Processing fee as a share of the loan amount
+    @Builder.Default BigDecimal processingFeeRate = new BigDecimal("0.01");
+}
@@ -0,0 +1,154 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One immutable version of the pricing rules: interest rate, risk level and approval probability
+ * of a simulation request, evaluated against a {@link DecisionTable} compiled once from the
+ * {@link PricingRules}. Rates and probabilities are shared constants; the only per-call allocation
+ * left is the loan-increase comparison.
+ * <p>
+ * A calculation takes one snapshot from the {@link PricingEngine} and uses it throughout, so a
+ * reload in the middle never mixes the rate of one version with the risk rules of another.
+ */
+public final class PricingSnapshot {
+
+    private final PricingRules rules;
+    private final DecisionTable table;
+    private final long version;
+    private final String source;
+    private final Instant loadedAt;
+
+    PricingSnapshot(PricingRules rules, long version, String source) {
+        this.rules = rules;
+        this.table = DecisionTable.compile(rules);
+        this.version = version;
+        this.source = source;
+        this.loadedAt = Instant.now();
+    }
+
+    public PricingRules rules() {
+        return rules;
+    }
+
+    /**
+     * Increases by one with every published snapshot, starting at 1.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Where the rules came from, such as the application properties or a pricing file.
+     */
+    public String source() {
+        return source;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public BigDecimal interestRate(SimulationRequestDTO request) {
+        return table.interestRate(
+                table.creditTier(request.getCreditScore()),
+                LoanType.of(request.getLoanType()),
+                table.isLargeLoan(request.getDesiredLoanAmount()));
+    }
+
+    /**
+     * Risk level of a request with the given DTI. Identified risk factors are added to
+     * {@code riskFactors} unless it is null, which lets grid evaluations skip the list.
+     */
+    public RiskLevel riskLevel(SimulationRequestDTO request, BigDecimal debtToIncomeRatio, List<String> riskFactors) {
+        RiskLevel riskLevel = RiskLevel.LOW;
+        
+        if (request.getMonthlyIncome() != null && request.getMonthlyIncome().compareTo(BigDecimal.ZERO) > 0) {
+            if (debtToIncomeRatio.compareTo(table.getHighRiskThreshold()) > 0) {
+                addRiskFactor(riskFactors, "Debt-to-income ratio exceeds recommended maximum");
+                riskLevel = RiskLevel.HIGH;
+            } else if (debtToIncomeRatio.compareTo(table.getMediumRiskThreshold()) > 0) {
+                addRiskFactor(riskFactors, "Debt-to-income ratio is elevated");
+                riskLevel = RiskLevel.MEDIUM;
+            }
+        }
+        
+        switch (table.creditTier(request.getCreditScore())) {
+            case POOR, SUBPRIME -> {
+                addRiskFactor(riskFactors, "Credit score below recommended minimum");
+                riskLevel = RiskLevel.HIGH;
+            }
+            case FAIR -> {
+                addRiskFactor(riskFactors, "Credit score requires improvement");
+                riskLevel = riskLevel.atLeast(RiskLevel.MEDIUM);
+            }
+            default -> {
+            }
+        }
+        
+        if (request.getDesiredLoanAmount().compareTo(
+                request.getCurrentLoanAmount().multiply(table.getLoanIncreaseThreshold())) > 0) {
+            addRiskFactor(riskFactors, "Significant increase in loan amount");
+            riskLevel = riskLevel.atLeast(RiskLevel.MEDIUM);
+        }
+        
+        return riskLevel;
+    }
+
+    public BigDecimal approvalProbability(RiskLevel riskLevel, Integer creditScore) {
+        return table.approvalProbability(riskLevel, table.creditTier(creditScore));
+    }
+
+    /**
+     * Loan amount above which the large-loan discount applies.
+     */
+    public BigDecimal largeLoanThreshold() {
+        return table.getLargeLoanThreshold();
+    }
+
+    /**
+     * DTI above which a request is at least medium risk.
+     */
+    public BigDecimal mediumRiskThreshold() {
+        return table.getMediumRiskThreshold();
+    }
+
+    /**
+     * DTI above which a request is high risk.
+     */
+    public BigDecimal highRiskThreshold() {
+        return table.getHighRiskThreshold();
+    }
+
+    /**
+     * Floor applied to every interest rate.
+     */
+    public BigDecimal minInterestRate() {
+        return rules.getMinInterestRate();
+    }
+
+    /**
+     * Processing fee as a share of the loan amount.
+     */
+    public BigDecimal processingFeeRate() {
+        return rules.getProcessingFeeRate();
+    }
+
+    /**
+     * Every interest rate {@link #interestRate} can return.
+     */
+    public Set<BigDecimal> interestRates() {
+        return table.interestRates();
+    }
+
+    private static void addRiskFactor(List<String> riskFactors, String riskFactor) {
+        if (riskFactors != null) {
+            riskFactors.add(riskFactor);
+        }
+    }
+}
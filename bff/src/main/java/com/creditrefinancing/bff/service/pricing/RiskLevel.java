@@ -0,0 +1,14 @@
+package com.creditrefinancing.bff.service.pricing;
+
+/**
+ * Risk levels in increasing order; the name is what the API reports.
+ */
+public enum RiskLevel {
+    LOW,
+    MEDIUM,
+    HIGH;
+
+    public RiskLevel atLeast(RiskLevel other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+}
@@ -0,0 +1,80 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Adaptive Concurrency Limit Filter Tests")
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://service/")).build();
+
+    @Test
+    @DisplayName("Should reject requests over the limit at once and admit them again when a slot frees up")
+    void shouldRejectOverLimit() {
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter("test", 2, 2, 10, meterRegistry);
+        List<Sinks.One<ClientResponse>> responses = new ArrayList<>();
+        
+        filter.filter(request, req -> pending(responses)).subscribe();
+        filter.filter(request, req -> pending(responses)).subscribe();
+        
+        assertThrows(ServiceOverloadedException.class, () -> filter.filter(request, req -> pending(responses)).block());
+        assertEquals(1.0, meterRegistry.get("concurrency.rejections").tag("name", "test").counter().count());
+        assertEquals(2.0, meterRegistry.get("concurrency.inflight").tag("name", "test").gauge().value());
+        
+        responses.get(0).tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        filter.filter(request, req -> pending(responses)).subscribe();
+        
+        assertEquals(3, responses.size());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit on server errors and grow it while the round-trip time stays flat")
+    void shouldAdaptLimit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimitFilter filter =
+                new AdaptiveConcurrencyLimitFilter("test", 20, 5, 200, meterRegistry, clock::get);
+        
+        for (int i = 0; i < 5; i++) {
+            filter.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).block();
+        }
+        int shrunk = filter.getLimit();
+        assertTrue(shrunk < 20);
+        
+        // Keep the service busy at the limit, every answer taking the same 10 ms
+        for (int round = 0; round < 10; round++) {
+            List<Sinks.One<ClientResponse>> responses = new ArrayList<>();
+            int limit = filter.getLimit();
+            for (int i = 0; i < limit; i++) {
+                filter.filter(request, req -> pending(responses)).subscribe();
+            }
+            clock.addAndGet(10_000_000);
+            responses.forEach(response -> response.tryEmitValue(ClientResponse.create(HttpStatus.OK).build()));
+        }
+        assertTrue(filter.getLimit() > shrunk);
+        assertEquals(0.0, meterRegistry.get("concurrency.inflight").tag("name", "test").gauge().value());
+    }
+
+    private Mono<ClientResponse> pending(List<Sinks.One<ClientResponse>> responses) {
+        Sinks.One<ClientResponse> response = Sinks.one();
+        responses.add(response);
+        return response.asMono();
+    }
+}
@@ -0,0 +1,66 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Request Deadline Filter Tests")
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter("Simulation Service", Duration.ofMillis(50));
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://simulation-service/")).build();
+    private final AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+    @Test
+    @DisplayName("Should pass on the time left minus the hop margin")
+    void shouldShrinkDeadline() {
+        filter.filter(request, this::answer)
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusSeconds(2)))
+                .block();
+        
+        long downstreamMillis = Long.parseLong(sent.get().headers().getFirst(RequestDeadline.HEADER));
+        assertTrue(downstreamMillis > 1500 && downstreamMillis <= 1950);
+    }
+
+    @Test
+    @DisplayName("Should not send a request whose deadline has passed and cancel one that outlives it")
+    void shouldEnforceDeadline() {
+        Exception passed = assertThrows(RuntimeException.class, () -> filter.filter(request, this::answer)
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusMillis(20)))
+                .block());
+        assertTrue(passed.getCause() instanceof DeadlineExceededException);
+        assertNull(sent.get());
+        
+        Exception timeout = assertThrows(RuntimeException.class, () -> filter.filter(request, req -> Mono.never())
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusMillis(200)))
+                .block(Duration.ofSeconds(2)));
+        assertTrue(timeout.getCause() instanceof DeadlineExceededException);
+    }
+
+    @Test
+    @DisplayName("Should leave requests without a deadline untouched")
+    void shouldPassThroughWithoutDeadline() {
+        assertEquals(HttpStatus.OK, filter.filter(request, this::answer).block().statusCode());
+        assertNull(sent.get().headers().getFirst(RequestDeadline.HEADER));
+    }
+
+    private Mono<ClientResponse> answer(ClientRequest request) {
+        sent.set(request);
+        return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+    }
+}
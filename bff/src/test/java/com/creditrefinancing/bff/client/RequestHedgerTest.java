@@ -0,0 +1,81 @@
+package com.creditrefinancing.bff.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Request Hedger Tests")
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should answer a slow call with the hedged attempt")
+    void shouldHedgeSlowCall() {
+        RequestHedger hedger = new RequestHedger("test", 10, Duration.ofMillis(20), meterRegistry);
+        warmUp(hedger);
+        
+        // The first attempt stalls, the hedge answers at once
+        String result = hedger.execute(() -> attempts.incrementAndGet() == 21
+                ? Mono.delay(Duration.ofSeconds(5)).thenReturn("first")
+                : Mono.just("hedge")).block(Duration.ofSeconds(2));
+        
+        assertEquals("hedge", result);
+        assertEquals(22, attempts.get());
+        assertEquals(1.0, count("sent"));
+    }
+
+    @Test
+    @DisplayName("Should cap hedges at the configured share of calls")
+    void shouldCapHedges() {
+        RequestHedger hedger = new RequestHedger("test", 10, Duration.ofMillis(20), meterRegistry);
+        warmUp(hedger);
+        
+        // 20 warm-up calls at 10% leave credit for two hedges; the first attempts stall, hedges answer
+        for (int i = 0; i < 4; i++) {
+            AtomicBoolean first = new AtomicBoolean(true);
+            hedger.execute(() -> first.getAndSet(false)
+                    ? Mono.delay(Duration.ofMillis(500)).thenReturn("slow")
+                    : Mono.just("hedge")).block();
+        }
+        
+        assertEquals(2.0, count("sent"));
+        assertEquals(2.0, count("denied"));
+    }
+
+    @Test
+    @DisplayName("Should never hedge when disabled")
+    void shouldNotHedgeWhenDisabled() {
+        RequestHedger hedger = new RequestHedger("test", 0, Duration.ofMillis(20), meterRegistry);
+        warmUp(hedger);
+        
+        hedger.execute(() -> {
+            attempts.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(100)).thenReturn("slow");
+        }).block();
+        
+        assertEquals(21, attempts.get());
+        assertEquals(0.0, count("sent"));
+    }
+
+    private void warmUp(RequestHedger hedger) {
+        for (int i = 0; i < 20; i++) {
+            hedger.execute(() -> {
+                attempts.incrementAndGet();
+                return Mono.just("fast");
+            }).block();
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("hedging.requests").tag("name", "test").tag("outcome", outcome).counter().count();
+    }
+}
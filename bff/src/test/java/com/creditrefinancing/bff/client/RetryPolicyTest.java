@@ -0,0 +1,92 @@
+package com.creditrefinancing.bff.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Retry Policy Tests")
+class RetryPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should stop retrying once the budget is spent and earn it back with successes")
+    void shouldLimitRetriesToBudget() {
+        RetryPolicy policy = policy(Duration.ZERO, 0.5, 2);
+        
+        assertThrows(WebClientResponseException.class, () -> failing(serverError()).transform(policy.retrying(true)).block());
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, count("budget_exhausted"));
+        
+        // Two successes earn one retry back
+        Mono.just("ok").transform(policy.retrying(true)).block();
+        Mono.just("ok").transform(policy.retrying(true)).block();
+        attempts.set(0);
+        assertThrows(WebClientResponseException.class, () -> failing(serverError()).transform(policy.retrying(true)).block());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should retry a non-idempotent call only when it never reached the service")
+    void shouldClassifyFailures() {
+        RetryPolicy policy = policy(Duration.ZERO, 0.1, 10);
+        
+        assertThrows(WebClientResponseException.class, () -> failing(serverError()).transform(policy.retrying(false)).block());
+        assertEquals(1, attempts.get());
+        
+        attempts.set(0);
+        WebClientRequestException refused = new WebClientRequestException(new ConnectException("refused"),
+                HttpMethod.POST, URI.create("http://simulation-service/simulations/calculate"), HttpHeaders.EMPTY);
+        assertThrows(WebClientRequestException.class, () -> failing(refused).transform(policy.retrying(false)).block());
+        assertEquals(4, attempts.get());
+        assertEquals(1.0, count("exhausted"));
+    }
+
+    @Test
+    @DisplayName("Should not retry when the request deadline is too close")
+    void shouldRespectDeadline() {
+        RetryPolicy policy = policy(Duration.ofMillis(500), 0.1, 10);
+        
+        assertThrows(WebClientResponseException.class, () -> failing(serverError())
+                .transform(policy.retrying(true))
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusMillis(100)))
+                .block());
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, count("deadline"));
+    }
+
+    private RetryPolicy policy(Duration minRemaining, double budgetRatio, int budgetReserve) {
+        return new RetryPolicy("test", 3, Duration.ofMillis(1), Duration.ofMillis(5), minRemaining,
+                budgetRatio, budgetReserve, meterRegistry);
+    }
+
+    private Mono<String> failing(Throwable failure) {
+        return Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(failure);
+        });
+    }
+
+    private WebClientResponseException serverError() {
+        return WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("retry.calls").tag("name", "test").tag("outcome", outcome).counter().count();
+    }
+}
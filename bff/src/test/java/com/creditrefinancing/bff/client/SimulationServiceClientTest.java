@@ -0,0 +1,185 @@
+package com.creditrefinancing.bff.client;
+
+import com.creditrefinancing.bff.config.CircuitBreakerConfiguration;
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import com.creditrefinancing.bff.service.SimulationService;
+import com.creditrefinancing.bff.service.SimulationServices;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Simulation Service Client Tests")
+class SimulationServiceClientTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicInteger calculations = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private SimulationServiceClient client;
+    private LocalDateTime expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        expiresAt = LocalDateTime.now().plusDays(30);
+        
+        // Stands in for the simulation service: every call returns the simulation as stored now
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://simulation-service")
+                .exchangeFunction(request -> {
+                    if (request.method() == HttpMethod.GET) {
+                        reads.incrementAndGet();
+                    } else if (request.method() == HttpMethod.POST) {
+                        calculations.incrementAndGet();
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"simulation_id\":\"SIM-1\",\"status\":\"CALCULATED\",\"expires_at\":\""
+                                    + expiresAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")) + "\"}")
+                            .build());
+                })
+                .build();
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build());
+        SimulationService simulationService = SimulationServices.defaultEngine();
+        RetryPolicy retryPolicy = new RetryPolicy("test", 3, Duration.ofMillis(1), Duration.ofMillis(10),
+                Duration.ZERO, 0.1, 10, meterRegistry);
+        client = new SimulationServiceClient(webClient, circuitBreaker, retryPolicy, simulationService, meterRegistry,
+                100, Duration.ofMinutes(5), Duration.ZERO, 0, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the near-cache and count hits and misses")
+    void shouldCacheRepeatedReads() {
+        SimulationResponseDTO first = client.getSimulation("SIM-1").block();
+        SimulationResponseDTO second = client.getSimulation("SIM-1").block();
+        
+        assertEquals(1, reads.get());
+        assertEquals("SIM-1", second.getSimulationId());
+        assertEquals(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "simulations").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "simulations").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should evict a simulation when its status is updated")
+    void shouldEvictOnStatusUpdate() {
+        client.getSimulation("SIM-1").block();
+        client.updateSimulationStatus("SIM-1", "ACCEPTED").block();
+        client.getSimulation("SIM-1").block();
+        
+        assertEquals(2, reads.get());
+        assertEquals(1.0, meterRegistry.get("cache.invalidations").tag("cache", "simulations").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not cache a simulation that has already expired")
+    void shouldNotCacheExpiredSimulation() {
+        expiresAt = LocalDateTime.now().minusMinutes(1);
+        
+        client.getSimulation("SIM-1").block();
+        client.getSimulation("SIM-1").block();
+        
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    @DisplayName("Should calculate locally while the breaker is open and call the service again once a probe succeeds")
+    void shouldFallBackWhileBreakerIsOpen() {
+        SimulationRequestDTO request = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+        circuitBreaker.transitionToOpenState();
+        
+        SimulationResponseDTO local = client.calculateSimulation(request).block();
+        
+        assertTrue(local.isComputedLocally());
+        assertEquals("CUST-12345", local.getCustomerId());
+        assertEquals(0, calculations.get());
+        
+        circuitBreaker.transitionToHalfOpenState();
+        SimulationResponseDTO remote = client.calculateSimulation(request).block();
+        
+        assertFalse(remote.isComputedLocally());
+        assertEquals("SIM-1", remote.getSimulationId());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should not open the breaker when callers' own deadlines are too short")
+    void shouldIgnoreCallerDeadlines() {
+        new ApplicationContextRunner()
+                // Binds "5s"-style durations as a Boot application does
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(CircuitBreakerConfiguration.class)
+                .withBean(MeterRegistry.class, () -> meterRegistry)
+                .withPropertyValues("services.simulation.circuit-breaker.sliding-window-size=5",
+                        "services.simulation.circuit-breaker.minimum-number-of-calls=5")
+                .run(context -> {
+                    CircuitBreaker breaker = context.getBean("simulationCircuitBreaker", CircuitBreaker.class);
+                    WebClient slowWebClient = WebClient.builder()
+                            .baseUrl("http://simulation-service")
+                            .filter(new RequestDeadlineFilter("Simulation Service", Duration.ofMillis(50)))
+                            .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build())
+                                    .delayElement(Duration.ofMillis(500)))
+                            .build();
+                    RetryPolicy retryPolicy = new RetryPolicy("deadlines", 3, Duration.ofMillis(1),
+                            Duration.ofMillis(10), Duration.ZERO, 0.1, 10, meterRegistry);
+                    SimulationServiceClient deadlineClient = new SimulationServiceClient(slowWebClient, breaker,
+                            retryPolicy, null, meterRegistry, 100, Duration.ofMinutes(5), Duration.ZERO, 0, Duration.ZERO);
+                    
+                    for (int i = 0; i < 10; i++) {
+                        // Cut while in flight, then never sent at all
+                        long deadlineMillis = i % 2 == 0 ? 60 : 10;
+                        RuntimeException error = assertThrows(RuntimeException.class, () -> deadlineClient
+                                .getSimulation("SIM-1")
+                                .contextWrite(ctx -> RequestDeadline.with(ctx, Instant.now().plusMillis(deadlineMillis)))
+                                .block(Duration.ofSeconds(5)));
+                        assertTrue(error.getCause() instanceof DeadlineExceededException);
+                    }
+                    
+                    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+                    assertEquals(0, breaker.getMetrics().getNumberOfFailedCalls());
+                    assertEquals(0.0, meterRegistry.get("retry.calls").tag("name", "deadlines")
+                            .tag("outcome", "retried").counter().count());
+                });
+    }
+}
@@ -0,0 +1,63 @@
+package com.creditrefinancing.bff.controller;
+
+import com.creditrefinancing.bff.config.PricingConfigReloader;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Pricing Admin Controller Tests")
+class PricingAdminControllerTest {
+
+    private final PricingConfigReloader pricingConfigReloader = mock(PricingConfigReloader.class);
+
+    private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, CodecsAutoConfiguration.class,
+                    WebFluxAutoConfiguration.class))
+            .withBean(PricingEngine.class, () -> new PricingEngine(PricingRules.builder().build()))
+            .withBean(PricingConfigReloader.class, () -> pricingConfigReloader)
+            .withUserConfiguration(PricingAdminController.class);
+
+    @Test
+    @DisplayName("Should not expose the pricing admin endpoints unless enabled")
+    void shouldBeAbsentByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(PricingAdminController.class);
+
+            WebTestClient webTestClient = WebTestClient.bindToApplicationContext(context).build();
+            webTestClient.get().uri("/admin/pricing").exchange().expectStatus().isNotFound();
+            webTestClient.post().uri("/admin/pricing/reload").exchange().expectStatus().isNotFound();
+            webTestClient.put().uri("/admin/pricing/overrides")
+                    .bodyValue(Map.of("simulation.base-interest-rate", 0.1))
+                    .exchange().expectStatus().isNotFound();
+            verify(pricingConfigReloader, never()).override(anyMap());
+        });
+    }
+
+    @Test
+    @DisplayName("Should expose the pricing admin endpoints when enabled")
+    void shouldBePresentWhenEnabled() {
+        contextRunner.withPropertyValues("simulation.pricing.admin.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(PricingAdminController.class);
+
+            WebTestClient.bindToApplicationContext(context).build()
+                    .get().uri("/admin/pricing").exchange()
+                    .expectStatus().isOk()
+                    .expectBody().jsonPath("$.version").exists();
+        });
+    }
+}
@@ -2,15 +2,25 @@ package com.creditrefinancing.bff.controller;
 
 import com.creditrefinancing.bff.dto.SimulationRequestDTO;
 import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.service.PortfolioAnalysisService;
+import com.creditrefinancing.bff.service.SimulationBatchService;
+import com.creditrefinancing.bff.service.SimulationIdempotencyStore;
 import com.creditrefinancing.bff.service.SimulationService;
+import com.creditrefinancing.bff.service.SimulationSolverService;
+import com.creditrefinancing.bff.service.SimulationStressTestService;
+import com.creditrefinancing.bff.service.SimulationSweepService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.test.web.reactive.server.HttpHandlerConnector;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
@@ -22,15 +32,37 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(SimulationController.class)
+// The auto-configured WebTestClient skips spring.webflux.base-path; the HttpHandler applies it
+@ImportAutoConfiguration(HttpHandlerAutoConfiguration.class)
 @DisplayName("Simulation Controller Tests")
 class SimulationControllerTest {
 
     @Autowired
+    private HttpHandler httpHandler;
+
     private WebTestClient webTestClient;
 
     @MockBean
     private SimulationService simulationService;
 
+    @MockBean
+    private SimulationBatchService simulationBatchService;
+
+    @MockBean
+    private SimulationSweepService simulationSweepService;
+
+    @MockBean
+    private SimulationSolverService simulationSolverService;
+
+    @MockBean
+    private SimulationStressTestService simulationStressTestService;
+
+    @MockBean
+    private PortfolioAnalysisService portfolioAnalysisService;
+
+    @MockBean
+    private SimulationIdempotencyStore simulationIdempotencyStore;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -39,6 +71,8 @@ class SimulationControllerTest {
 
     @BeforeEach
     void setUp() {
+        webTestClient = WebTestClient.bindToServer(new HttpHandlerConnector(httpHandler)).build();
+
         validRequest = new SimulationRequestDTO(
                 "CUST-12345",
                 new BigDecimal("150000.00"),
@@ -0,0 +1,114 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.client.AfterSalesServiceClient;
+import com.creditrefinancing.bff.client.FormalizationServiceClient;
+import com.creditrefinancing.bff.client.ProposalServiceClient;
+import com.creditrefinancing.bff.client.RetryPolicy;
+import com.creditrefinancing.bff.client.SimulationServiceClient;
+import com.creditrefinancing.bff.dto.CustomerDashboardDTO;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Customer Dashboard Service Tests")
+class CustomerDashboardServiceTest {
+
+    private static final Duration SLOW = Duration.ofMillis(200);
+    private static final Duration TIMEOUT = Duration.ofMillis(400);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void warmUp() {
+        // The first call pays for codec and class initialization, which would count against the timeouts
+        dashboardService(answering("[]", Duration.ZERO), answering("[]", Duration.ZERO),
+                answering("[]", Duration.ZERO), answering("[]", Duration.ZERO))
+                .getDashboard("CUST-0").block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should call every service at once and take about as long as the slowest")
+    void shouldCallServicesConcurrently() {
+        CustomerDashboardService service = dashboardService(
+                answering("[{\"simulation_id\":\"SIM-1\"}]", SLOW), answering("[{\"id\":\"P-1\"}]", SLOW),
+                answering("[]", SLOW), answering("[{\"id\":\"C-1\"},{\"id\":\"C-2\"}]", SLOW));
+        
+        CustomerDashboardDTO dashboard = service.getDashboard("CUST-1").block();
+        
+        assertTrue(dashboard.isComplete());
+        assertEquals("SIM-1", dashboard.getSimulations().getData().get(0).getSimulationId());
+        assertEquals(1, dashboard.getProposals().getData().size());
+        assertEquals(0, dashboard.getFormalizations().getData().size());
+        assertEquals(2, dashboard.getAfterSales().getData().size());
+        // One slow call, not four in a row
+        assertTrue(dashboard.getElapsedMs() < 3 * SLOW.toMillis(), "took " + dashboard.getElapsedMs() + " ms");
+    }
+
+    @Test
+    @DisplayName("Should return the other sections when one service is slow and another fails")
+    void shouldReturnPartialDashboard() {
+        CustomerDashboardService service = dashboardService(
+                answering("[]", Duration.ZERO), answering("[{\"id\":\"P-1\"}]", Duration.ZERO),
+                request -> Mono.never(), failing());
+        
+        CustomerDashboardDTO dashboard = service.getDashboard("CUST-1").block(Duration.ofSeconds(5));
+        
+        assertFalse(dashboard.isComplete());
+        assertEquals(CustomerDashboardService.OK, dashboard.getSimulations().getStatus());
+        assertEquals(CustomerDashboardService.OK, dashboard.getProposals().getStatus());
+        assertEquals(CustomerDashboardService.TIMEOUT, dashboard.getFormalizations().getStatus());
+        assertEquals(0, dashboard.getFormalizations().getData().size());
+        assertEquals(CustomerDashboardService.UNAVAILABLE, dashboard.getAfterSales().getStatus());
+        assertEquals(0, dashboard.getAfterSales().getData().size());
+        // Fixed messages, never the internal exception text
+        assertEquals(CustomerDashboardService.TIMEOUT_MESSAGE, dashboard.getFormalizations().getError());
+        assertEquals(CustomerDashboardService.UNAVAILABLE_MESSAGE, dashboard.getAfterSales().getError());
+        assertEquals(1L, meterRegistry.get("dashboard.sections").tag("section", "formalizations")
+                .tag("status", CustomerDashboardService.TIMEOUT).timer().count());
+    }
+
+    private CustomerDashboardService dashboardService(ExchangeFunction simulations, ExchangeFunction proposals,
+                                                      ExchangeFunction formalizations, ExchangeFunction afterSales) {
+        RetryPolicy retryPolicy = new RetryPolicy("test", 0, Duration.ZERO, Duration.ZERO,
+                Duration.ZERO, 0.1, 10, meterRegistry);
+        SimulationServiceClient simulationServiceClient = new SimulationServiceClient(webClient(simulations),
+                CircuitBreaker.ofDefaults("test"), retryPolicy, null, meterRegistry,
+                100, Duration.ofMinutes(5), Duration.ZERO, 0, Duration.ZERO);
+        return new CustomerDashboardService(simulationServiceClient,
+                new ProposalServiceClient(webClient(proposals)),
+                new FormalizationServiceClient(webClient(formalizations)),
+                new AfterSalesServiceClient(webClient(afterSales)),
+                meterRegistry, TIMEOUT, TIMEOUT, TIMEOUT, TIMEOUT);
+    }
+
+    private static WebClient webClient(ExchangeFunction exchange) {
+        return WebClient.builder().baseUrl("http://service").exchangeFunction(exchange).build();
+    }
+
+    private static ExchangeFunction answering(String body, Duration delay) {
+        return request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build())
+                .delayElement(delay);
+    }
+
+    private static ExchangeFunction failing() {
+        return request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
@@ -0,0 +1,136 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.PortfolioAnalysisRequestDTO;
+import com.creditrefinancing.bff.dto.PortfolioAnalysisResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Portfolio Analysis Service Tests")
+class PortfolioAnalysisServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private SimulationService simulationService;
+    private PortfolioAnalysisService portfolioAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = SimulationServices.defaultEngine();
+        
+        portfolioAnalysisService = new PortfolioAnalysisService(simulationService);
+        ReflectionTestUtils.setField(portfolioAnalysisService, "directory", directory.toString());
+        // Small chunks so that rows are spread over many mapped chunks
+        ReflectionTestUtils.setField(portfolioAnalysisService, "chunkSizeBytes", 100L);
+        ReflectionTestUtils.setField(portfolioAnalysisService, "defaultTermMonths", 240);
+    }
+
+    @Test
+    @DisplayName("Should match single simulations for every row across chunks")
+    void shouldMatchSingleSimulations() throws IOException {
+        List<SimulationRequestDTO> requests = List.of(
+                request("150000.00", "1200.50", "200000.00", 240, "MORTGAGE", "5000.00", 720),
+                request("150000.00", "1800.00", "150000.00", 240, "MORTGAGE", "8000.00", 780),
+                request("30000.00", "900.00", "30000.00", 60, "AUTO", "4000.00", 680),
+                request("20000.00", "700.00", "20000.00", 48, "PERSONAL", "2500.00", 610),
+                request("500000.00", "2500.00", "500000.00", 360, "BUSINESS", "6000.00", 550),
+                request("45000.00", "600.00", "45000.00", 120, "STUDENT", null, null)
+        );
+        StringBuilder csv = new StringBuilder(
+                "customer_id,current_loan_amount,current_monthly_payment,desired_loan_amount,"
+                        + "desired_term_months,loan_type,monthly_income,credit_score\n");
+        for (SimulationRequestDTO request : requests) {
+            csv.append(String.format("CUST-%d,%s,%s,%s,%d,%s,%s,%s\n", csv.length(),
+                    request.getCurrentLoanAmount(), request.getCurrentMonthlyPayment(),
+                    request.getDesiredLoanAmount(), request.getDesiredTermMonths(), request.getLoanType(),
+                    request.getMonthlyIncome() != null ? request.getMonthlyIncome() : "",
+                    request.getCreditScore() != null ? request.getCreditScore() : ""));
+        }
+        
+        PortfolioAnalysisResponseDTO summary = portfolioAnalysisService.analyzeFile(write(csv.toString()), 240);
+        
+        long eligible = 0;
+        long rejected = 0;
+        BigDecimal monthlySavings = BigDecimal.ZERO;
+        BigDecimal totalSavings = BigDecimal.ZERO;
+        for (SimulationRequestDTO request : requests) {
+            SimulationResponseDTO response = simulationService.computeSimulation(request);
+            if (response.getStatus().equals("REJECTED")) {
+                rejected++;
+            } else if (response.getMonthlySavings().signum() > 0) {
+                eligible++;
+                monthlySavings = monthlySavings.add(response.getMonthlySavings());
+                totalSavings = totalSavings.add(response.getTotalSavings());
+            }
+        }
+        assertTrue(summary.getChunks() > 1);
+        assertEquals(requests.size(), summary.getRows());
+        assertEquals(0, summary.getInvalidRows());
+        assertEquals(rejected, summary.getStatusCounts().get("REJECTED"));
+        assertEquals(eligible, summary.getEligible());
+        assertEquals(0, monthlySavings.compareTo(summary.getTotalMonthlySavings()));
+        assertEquals(0, totalSavings.compareTo(summary.getTotalSavings()));
+    }
+
+    @Test
+    @DisplayName("Should count invalid rows and read quoted fields, CRLF and any column order")
+    void shouldCountInvalidRows() throws IOException {
+        String csv = "\"loan_type\",\"current_monthly_payment\",\"current_loan_amount\",\"credit_score\"\r\n"
+                + "\"MORTGAGE\",\"1200.50\",\"150000.00\",720\r\n"
+                + "AUTO,900,30000,680\r\n"
+                + "\r\n"
+                + "BOAT,900.00,30000.00,680\r\n"
+                + "AUTO,900.005,30000.00,680\r\n"
+                + "AUTO,,30000.00,680\r\n"
+                + "AUTO,900.00,500.00,680\r\n"
+                + "AUTO,900.00,30000.00,900\r\n"
+                + "PERSONAL,700.00,20000.00";
+        
+        PortfolioAnalysisResponseDTO summary = portfolioAnalysisService.analyzeFile(write(csv), 60);
+        
+        assertEquals(8, summary.getRows());
+        assertEquals(5, summary.getInvalidRows());
+        assertEquals(3, summary.getStatusCounts().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    @DisplayName("Should reject files outside the portfolio directory or without required columns")
+    void shouldRejectInvalidFiles() throws IOException {
+        write("customer_id,current_loan_amount,loan_type\nCUST-1,1000.00,AUTO\n");
+        
+        assertThrows(IllegalArgumentException.class, () -> portfolioAnalysisService.analyzePortfolio(
+                new PortfolioAnalysisRequestDTO("../portfolio.csv", null)));
+        assertThrows(IllegalArgumentException.class, () -> portfolioAnalysisService.analyzePortfolio(
+                new PortfolioAnalysisRequestDTO("missing.csv", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> portfolioAnalysisService.analyzePortfolio(new PortfolioAnalysisRequestDTO("portfolio.csv", null))
+                        .block());
+    }
+
+    private Path write(String csv) throws IOException {
+        return Files.writeString(directory.resolve("portfolio.csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    private static SimulationRequestDTO request(String currentLoan, String currentPayment, String desiredLoan,
+                                                int term, String loanType, String income, Integer creditScore) {
+        return new SimulationRequestDTO("CUST-1", new BigDecimal(currentLoan), new BigDecimal(currentPayment),
+                new BigDecimal(desiredLoan), term, loanType, income != null ? new BigDecimal(income) : null,
+                creditScore);
+    }
+}
@@ -0,0 +1,112 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.client.RequestDeadline;
+import com.creditrefinancing.bff.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Request Coalescer Tests")
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should run identical concurrent calls once and share the result")
+    void shouldShareInFlightCall() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>("test", Duration.ZERO, meterRegistry);
+        Sinks.One<String> response = Sinks.one();
+
+        List<String> results = new CopyOnWriteArrayList<>();
+        coalescer.execute("key", () -> call(response.asMono())).subscribe(results::add);
+        coalescer.execute("key", () -> call(response.asMono())).subscribe(results::add);
+        response.tryEmitValue("shared");
+
+        assertEquals(List.of("shared", "shared"), results);
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count("joined"));
+    }
+
+    @Test
+    @DisplayName("Should reuse a result within the window and run again after it")
+    void shouldReuseResultWithinWindow() throws InterruptedException {
+        RequestCoalescer<String, Integer> coalescer =
+                new RequestCoalescer<>("test", Duration.ofMillis(200), meterRegistry);
+
+        assertEquals(1, coalescer.execute("key", () -> call(Mono.fromCallable(executions::get))).block());
+        assertEquals(1, coalescer.execute("key", () -> call(Mono.fromCallable(executions::get))).block());
+        Thread.sleep(400);
+        assertEquals(2, coalescer.execute("key", () -> call(Mono.fromCallable(executions::get))).block());
+        assertEquals(1.0, count("reused"));
+        assertEquals(2.0, count("executed"));
+    }
+
+    @Test
+    @DisplayName("Should not reuse a failure")
+    void shouldNotReuseFailure() {
+        RequestCoalescer<String, String> coalescer =
+                new RequestCoalescer<>("test", Duration.ofMinutes(1), meterRegistry);
+
+        assertThrows(IllegalStateException.class,
+                () -> coalescer.execute("key", () -> call(Mono.error(new IllegalStateException()))).block());
+        assertEquals("recovered", coalescer.execute("key", () -> call(Mono.just("recovered"))).block());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should hold each joiner to its own deadline, not to the first caller's")
+    void shouldApplyEachCallersDeadline() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>("test", Duration.ZERO, meterRegistry);
+        Sinks.One<String> response = Sinks.one();
+        List<Optional<Instant>> deadlinesSeen = new CopyOnWriteArrayList<>();
+        Mono<String> call = Mono.deferContextual(context -> {
+            deadlinesSeen.add(RequestDeadline.from(context));
+            return call(response.asMono());
+        });
+
+        Mono<String> shortDeadline = coalescer.execute("key", () -> call)
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusMillis(50)));
+        Mono<String> longDeadline = coalescer.execute("key", () -> call)
+                .contextWrite(context -> RequestDeadline.with(context, Instant.now().plusSeconds(5)));
+        AtomicReference<Throwable> shortError = new AtomicReference<>();
+        shortDeadline.subscribe(value -> { }, shortError::set);
+        Mono<String> longResult = longDeadline.cache();
+        longResult.subscribe(value -> { }, error -> { });
+
+        // The short caller gives up; the shared call keeps running for the long one
+        Mono.delay(Duration.ofMillis(200)).block();
+        response.tryEmitValue("shared");
+
+        assertTrue(shortError.get() instanceof DeadlineExceededException, String.valueOf(shortError.get()));
+        assertEquals("shared", longResult.block(Duration.ofSeconds(1)));
+        assertEquals(List.of(Optional.empty()), deadlinesSeen);
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count("joined"));
+    }
+
+    private <T> Mono<T> call(Mono<T> result) {
+        return Mono.defer(() -> {
+            executions.incrementAndGet();
+            return result;
+        });
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("coalescer.calls").tag("name", "test").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,118 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.BatchSimulationResultDTO;
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("Simulation Batch Service Tests")
+class SimulationBatchServiceTest {
+
+    private SimulationService simulationService;
+    private SimulationBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = SimulationServices.defaultEngine();
+
+        batchService = new SimulationBatchService(
+                simulationService, Validation.buildDefaultValidatorFactory().getValidator(), 4, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return one result per request in request order")
+    void shouldReturnResultsInRequestOrder() {
+        List<SimulationRequestDTO> requests = IntStream.range(0, 200)
+                .mapToObj(i -> request("CUST-" + i, 12 + i))
+                .toList();
+
+        List<BatchSimulationResultDTO> results = batchService.calculateBatch(Flux.fromIterable(requests))
+                .collectList()
+                .block();
+
+        assertEquals(200, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchSimulationResultDTO result = results.get(i);
+            assertEquals(i, result.getIndex());
+            assertEquals("CUST-" + i, result.getCustomerId());
+            assertEquals("CALCULATED", result.getOutcome());
+            assertEquals(simulationService.computeSimulation(requests.get(i)).getNewMonthlyPayment(),
+                    result.getSimulation().getNewMonthlyPayment());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report validation errors per item without failing the batch")
+    void shouldReportValidationErrorsPerItem() {
+        SimulationRequestDTO invalid = request("CUST-2", 400);
+        invalid.setLoanType("YACHT");
+
+        List<BatchSimulationResultDTO> results = batchService
+                .calculateBatch(Flux.just(request("CUST-1", 240), invalid, request("CUST-3", 120)))
+                .collectList()
+                .block();
+
+        assertEquals(List.of("CALCULATED", "INVALID", "CALCULATED"),
+                results.stream().map(BatchSimulationResultDTO::getOutcome).toList());
+        assertNull(results.get(1).getSimulation());
+        assertTrue(results.get(1).getFieldErrors().containsKey("desiredTermMonths"));
+        assertTrue(results.get(1).getFieldErrors().containsKey("loanType"));
+    }
+
+    @Test
+    @DisplayName("Should report a failed item with a fixed message unless the request was rejected")
+    void shouldNotExposeInternalErrors() {
+        SimulationService failingService = spy(SimulationServices.defaultEngine());
+        doThrow(new NullPointerException("Cannot invoke \"java.math.BigDecimal.multiply\" because \"rate\" is null"))
+                .when(failingService).computeSimulation(argThat(request -> "CUST-NPE".equals(request.getCustomerId())));
+        doThrow(new BusinessRuleException("Loan amount exceeds the limit"))
+                .when(failingService).computeSimulation(argThat(request -> "CUST-RULE".equals(request.getCustomerId())));
+        SimulationBatchService failingBatchService = new SimulationBatchService(
+                failingService, Validation.buildDefaultValidatorFactory().getValidator(), 2, 8);
+
+        List<BatchSimulationResultDTO> results = failingBatchService
+                .calculateBatch(Flux.just(request("CUST-NPE", 240), request("CUST-RULE", 240), request("CUST-3", 120)))
+                .collectList()
+                .block();
+        failingBatchService.shutdown();
+
+        assertEquals(List.of("FAILED", "FAILED", "CALCULATED"),
+                results.stream().map(BatchSimulationResultDTO::getOutcome).toList());
+        assertEquals(SimulationBatchService.CALCULATION_FAILED, results.get(0).getError());
+        assertEquals("Loan amount exceeds the limit", results.get(1).getError());
+    }
+
+    private SimulationRequestDTO request(String customerId, int termMonths) {
+        return new SimulationRequestDTO(
+                customerId,
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                termMonths,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+    }
+}
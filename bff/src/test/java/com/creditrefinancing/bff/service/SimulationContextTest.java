@@ -0,0 +1,62 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Simulation Context Tests")
+class SimulationContextTest {
+
+    private SimulationService simulationService;
+    private SimulationRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = spy(SimulationServices.defaultEngine());
+
+        request = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+    }
+
+    @Test
+    @DisplayName("Should compute rate, payment and risk only once per simulation")
+    void shouldComputeDerivedValuesOnce() {
+        SimulationResponseDTO response = simulationService.calculateSimulation(request).block();
+
+        verify(simulationService, times(1)).calculateInterestRate(any(), eq(request));
+        verify(simulationService, times(1)).calculateMonthlyRate(any());
+        verify(simulationService, times(1)).calculateMonthlyPayment(any(), any(), any());
+        verify(simulationService, times(1)).calculateRiskAssessment(any());
+        assertEquals(new BigDecimal("1238.51"), response.getNewMonthlyPayment());
+        assertEquals(new BigDecimal("0.2477"), response.getRiskAssessment().getDebtToIncomeRatio());
+    }
+
+    @Test
+    @DisplayName("Should report zero debt-to-income ratio without computing the payment when income is unknown")
+    void shouldSkipPaymentWhenIncomeIsUnknown() {
+        request.setMonthlyIncome(null);
+        SimulationContext context = new SimulationContext(request, simulationService);
+
+        assertEquals(BigDecimal.ZERO, context.debtToIncomeRatio());
+        verify(simulationService, times(0)).calculateMonthlyPayment(any(), any(), any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Simulation Idempotency Store Tests")
+class SimulationIdempotencyStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SimulationIdempotencyStore store =
+            new SimulationIdempotencyStore(meterRegistry, 100, Duration.ofHours(1));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should replay the first result for a repeated key")
+    void shouldReplayResult() {
+        String first = store.execute("key-1", request("150000.00"), this::calculate).block().getSimulationId();
+        String second = store.execute("key-1", request("150000"), this::calculate).block().getSimulationId();
+        
+        assertEquals(first, second);
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get("idempotency.replays").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void shouldRejectDifferentRequest() {
+        store.execute("key-1", request("150000.00"), this::calculate).block();
+        
+        assertThrows(BusinessRuleException.class,
+                () -> store.execute("key-1", request("90000.00"), this::calculate).block());
+        assertThrows(IllegalArgumentException.class,
+                () -> store.execute(" ", request("150000.00"), this::calculate).block());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should not store a failed request")
+    void shouldNotStoreFailure() {
+        assertThrows(IllegalStateException.class, () -> store.execute("key-1", request("150000.00"),
+                () -> Mono.error(new IllegalStateException())).block());
+        
+        assertEquals("SIM-1", store.execute("key-1", request("150000.00"), this::calculate).block().getSimulationId());
+    }
+
+    private Mono<SimulationResponseDTO> calculate() {
+        return Mono.fromSupplier(() -> SimulationResponseDTO.builder()
+                .simulationId("SIM-" + executions.incrementAndGet())
+                .build());
+    }
+
+    private SimulationRequestDTO request(String currentDebtAmount) {
+        return new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal(currentDebtAmount),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+    }
+}
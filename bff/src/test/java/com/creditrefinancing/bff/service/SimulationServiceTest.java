@@ -0,0 +1,117 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Simulation Service Tests")
+class SimulationServiceTest {
+
+    private PricingEngine pricingEngine;
+    private SimulationService simulationService;
+    private SimulationRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        pricingEngine = new PricingEngine(PricingRules.builder().build());
+        simulationService = SimulationServices.engine(pricingEngine);
+
+        request = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000.00"),
+                720
+        );
+    }
+
+    @Test
+    @DisplayName("Should include the processing fee in the APR and match the contract rate without a fee")
+    void shouldCalculateApr() {
+        SimulationResponseDTO simulation = simulationService.computeSimulation(request);
+
+        assertEquals(new BigDecimal("2000.00"), simulation.getProcessingFee());
+        assertEquals(new BigDecimal("4.37"), simulation.getApr());
+
+        pricingEngine.update(PricingRules.builder().processingFeeRate(BigDecimal.ZERO).build(), "test");
+        SimulationResponseDTO withoutFee = simulationService.computeSimulation(request);
+
+        assertEquals(new BigDecimal("0.00"), withoutFee.getProcessingFee());
+        assertEquals(withoutFee.getNewInterestRate(), withoutFee.getApr());
+    }
+
+    @Test
+    @DisplayName("Should share the result of identical requests until the pricing rules change")
+    void shouldCoalesceIdenticalRequests() {
+        SimulationService coalescing = SimulationServices.engine(
+                new AnnuityFactorTable(new SimpleMeterRegistry()), pricingEngine, Duration.ofMinutes(1));
+        SimulationRequestDTO rescaled = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000"),
+                new BigDecimal("1200.500"),
+                new BigDecimal("200000"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("5000"),
+                720
+        );
+
+        String simulationId = coalescing.calculateSimulation(request).block().getSimulationId();
+        assertEquals(simulationId, coalescing.calculateSimulation(rescaled).block().getSimulationId());
+
+        pricingEngine.update(PricingRules.builder().build(), "test");
+        assertNotEquals(simulationId, coalescing.calculateSimulation(request).block().getSimulationId());
+    }
+
+    @Test
+    @DisplayName("Should stream the full schedule starting with the preview rows and closing at zero")
+    void shouldStreamFullSchedule() {
+        SimulationResponseDTO simulation = simulationService.calculateSimulation(request).block();
+        List<SimulationResponseDTO.PaymentPreview> rows =
+                simulationService.calculatePaymentSchedule(request, 1, null).collectList().block();
+
+        assertEquals(240, rows.size());
+        assertEquals(simulation.getPaymentSchedulePreview(), rows.subList(0, 3));
+        assertEquals(0, rows.get(239).getRemainingBalance().signum());
+    }
+
+    @Test
+    @DisplayName("Should stream only the requested row range")
+    void shouldStreamRequestedRange() {
+        List<SimulationResponseDTO.PaymentPreview> all =
+                simulationService.calculatePaymentSchedule(request, 1, null).collectList().block();
+        List<SimulationResponseDTO.PaymentPreview> page =
+                simulationService.calculatePaymentSchedule(request, 101, 120).collectList().block();
+        List<SimulationResponseDTO.PaymentPreview> tail =
+                simulationService.calculatePaymentSchedule(request, 230, 999).collectList().block();
+
+        assertEquals(all.subList(100, 120), page);
+        assertEquals(all.subList(229, 240), tail);
+    }
+
+    @Test
+    @DisplayName("Should reject a row range outside the term")
+    void shouldRejectInvalidRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> simulationService.calculatePaymentSchedule(request, 241, null).blockLast());
+        assertThrows(IllegalArgumentException.class,
+                () -> simulationService.calculatePaymentSchedule(request, 10, 5).blockLast());
+    }
+}
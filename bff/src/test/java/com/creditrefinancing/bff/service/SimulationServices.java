@@ -0,0 +1,55 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.calculation.BigDecimalAmortizationKernel;
+import com.creditrefinancing.bff.service.calculation.FixedPointAmortizationKernel;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Simulation services wired the way the application wires them, for tests: fixed-point kernel
+ * with the BigDecimal fallback, annuity factor table already built, and no result reuse unless
+ * a reuse window is given.
+ */
+public final class SimulationServices {
+
+    private SimulationServices() {
+    }
+
+    /**
+     * A simulation service with the default pricing rules.
+     */
+    public static SimulationService defaultEngine() {
+        return engine(new PricingEngine(PricingRules.builder().build()));
+    }
+
+    /**
+     * A simulation service pricing with {@code pricingEngine}.
+     */
+    public static SimulationService engine(PricingEngine pricingEngine) {
+        return engine(new AnnuityFactorTable(new SimpleMeterRegistry()), pricingEngine);
+    }
+
+    /**
+     * A simulation service sharing {@code annuityFactorTable} and {@code pricingEngine} with the
+     * services under test.
+     */
+    public static SimulationService engine(AnnuityFactorTable annuityFactorTable, PricingEngine pricingEngine) {
+        return engine(annuityFactorTable, pricingEngine, Duration.ZERO);
+    }
+
+    /**
+     * A simulation service that reuses the result of identical requests within {@code reuseWindow}.
+     */
+    public static SimulationService engine(AnnuityFactorTable annuityFactorTable, PricingEngine pricingEngine,
+                                           Duration reuseWindow) {
+        SimulationService simulationService = new SimulationService(
+                new FixedPointAmortizationKernel(new BigDecimalAmortizationKernel()), annuityFactorTable,
+                pricingEngine, new SimpleMeterRegistry(), reuseWindow);
+        simulationService.rebuildAnnuityFactorTable();
+        return simulationService;
+    }
+}
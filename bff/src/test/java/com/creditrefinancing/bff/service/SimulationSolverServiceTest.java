@@ -0,0 +1,136 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSolveResponseDTO;
+import com.creditrefinancing.bff.exception.BusinessRuleException;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Simulation Solver Service Tests")
+class SimulationSolverServiceTest {
+
+    private static final BigDecimal MAX_DEBT_TO_INCOME_RATIO = new BigDecimal("0.43");
+    private static final BigDecimal ONE_CENT = new BigDecimal("0.01");
+
+    private SimulationService simulationService;
+    private SimulationSolverService solverService;
+
+    @BeforeEach
+    void setUp() {
+        AnnuityFactorTable annuityFactorTable = new AnnuityFactorTable(new SimpleMeterRegistry());
+        PricingEngine pricingEngine = new PricingEngine(PricingRules.builder().build());
+        simulationService = SimulationServices.engine(annuityFactorTable, pricingEngine);
+
+        solverService = new SimulationSolverService(simulationService, pricingEngine);
+    }
+
+    @Test
+    @DisplayName("Should find the largest amount whose simulated payment and DTI fit the caps")
+    void shouldFindMaxLoanAmount() {
+        for (int term : new int[]{12, 60, 120, 240, 360}) {
+            for (String cap : new String[]{"450.00", "1500.00", "2400.00", "9999.99"}) {
+                SimulationSolveRequestDTO request = solveRequest(null, term, new BigDecimal(cap));
+                SimulationSolveResponseDTO solution = solverService.computeMaxLoanAmount(request);
+
+                String point = term + " months under " + cap;
+                SimulationResponseDTO atSolution = simulate(solution.getLoanAmount(), term);
+                SimulationResponseDTO oneCentMore = simulate(solution.getLoanAmount().add(ONE_CENT), term);
+                assertEquals(atSolution.getNewMonthlyPayment(), solution.getMonthlyPayment(), point);
+                assertEquals(atSolution.getNewInterestRate(), solution.getInterestRate(), point);
+                assertTrue(fitsCaps(atSolution, request.getMaxMonthlyPayment()), point);
+                assertTrue(!fitsCaps(oneCentMore, request.getMaxMonthlyPayment()), point);
+                assertTrue(solution.getEvaluations() <= 6, point + " took " + solution.getEvaluations());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should cross into the large-loan bracket when its discount makes a larger amount affordable")
+    void shouldCrossLargeLoanThreshold() {
+        SimulationSolveResponseDTO solution = solverService.computeMaxLoanAmount(
+                solveRequest(null, 360, new BigDecimal("2400.00")));
+
+        assertTrue(solution.getLoanAmount().compareTo(new BigDecimal("500000.00")) > 0);
+        assertEquals(new BigDecimal("4.00"), solution.getInterestRate());
+        assertEquals(simulate(solution.getLoanAmount(), 360).getNewMonthlyPayment(), solution.getMonthlyPayment());
+    }
+
+    @Test
+    @DisplayName("Should find the shortest term whose simulated DTI stays under the maximum")
+    void shouldFindMinTerm() {
+        for (String amount : new String[]{"1000.00", "25000.00", "200000.00", "499999.99", "600000.00"}) {
+            SimulationSolveRequestDTO request = solveRequest(new BigDecimal(amount), null, null);
+            SimulationSolveResponseDTO solution = solverService.computeMinTerm(request);
+
+            String point = amount + " in " + solution.getTermMonths() + " months";
+            SimulationResponseDTO atSolution = simulate(solution.getLoanAmount(), solution.getTermMonths());
+            assertEquals(atSolution.getNewMonthlyPayment(), solution.getMonthlyPayment(), point);
+            assertEquals(atSolution.getRiskAssessment().getDebtToIncomeRatio(), solution.getDebtToIncomeRatio(), point);
+            assertTrue(fitsCaps(atSolution, null), point);
+            if (solution.getTermMonths() > AnnuityFactorTable.MIN_TERM_MONTHS) {
+                assertTrue(!fitsCaps(simulate(solution.getLoanAmount(), solution.getTermMonths() - 1), null), point);
+            }
+            assertTrue(solution.getEvaluations() <= 4, point + " took " + solution.getEvaluations());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing inputs and report caps no loan can meet")
+    void shouldRejectUnsolvableRequests() {
+        SimulationSolveRequestDTO withoutCap = solveRequest(null, 240, null);
+        withoutCap.setMonthlyIncome(null);
+
+        assertThrows(IllegalArgumentException.class, () -> solverService.computeMaxLoanAmount(withoutCap));
+        assertThrows(IllegalArgumentException.class,
+                () -> solverService.computeMinTerm(solveRequest(null, 240, null)));
+        assertThrows(BusinessRuleException.class,
+                () -> solverService.computeMaxLoanAmount(solveRequest(null, 12, new BigDecimal("50.00"))));
+        assertThrows(BusinessRuleException.class,
+                () -> solverService.computeMinTerm(solveRequest(new BigDecimal("5000000.00"), null, null)));
+    }
+
+    private boolean fitsCaps(SimulationResponseDTO simulation, BigDecimal maxMonthlyPayment) {
+        return (maxMonthlyPayment == null || simulation.getNewMonthlyPayment().compareTo(maxMonthlyPayment) <= 0)
+                && simulation.getRiskAssessment().getDebtToIncomeRatio().compareTo(MAX_DEBT_TO_INCOME_RATIO) <= 0;
+    }
+
+    private SimulationResponseDTO simulate(BigDecimal desiredLoanAmount, int termMonths) {
+        return simulationService.computeSimulation(new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                desiredLoanAmount,
+                termMonths,
+                "MORTGAGE",
+                new BigDecimal("8000.00"),
+                720
+        ));
+    }
+
+    private static SimulationSolveRequestDTO solveRequest(BigDecimal desiredLoanAmount, Integer termMonths,
+                                                          BigDecimal maxMonthlyPayment) {
+        return new SimulationSolveRequestDTO(
+                "CUST-12345",
+                "MORTGAGE",
+                720,
+                new BigDecimal("8000.00"),
+                desiredLoanAmount,
+                termMonths,
+                maxMonthlyPayment,
+                null
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationStressTestResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Simulation Stress Test Service Tests")
+class SimulationStressTestServiceTest {
+
+    private SimulationStressTestService stressTestService;
+
+    @BeforeEach
+    void setUp() {
+        AnnuityFactorTable annuityFactorTable = new AnnuityFactorTable(new SimpleMeterRegistry());
+        PricingEngine pricingEngine = new PricingEngine(PricingRules.builder().build());
+        SimulationService simulationService = SimulationServices.engine(annuityFactorTable, pricingEngine);
+
+        stressTestService = new SimulationStressTestService(simulationService);
+        ReflectionTestUtils.setField(stressTestService, "maxScenarios", 100_000);
+    }
+
+    @Test
+    @DisplayName("Should give the same result for the same seed and a different one for another seed")
+    void shouldBeDeterministicPerSeed() {
+        SimulationStressTestResponseDTO first = stressTestService.computeStressTest(stressTest(10_000, 42L, "1.5"));
+        SimulationStressTestResponseDTO again = stressTestService.computeStressTest(stressTest(10_000, 42L, "1.5"));
+        SimulationStressTestResponseDTO other = stressTestService.computeStressTest(stressTest(10_000, 7L, "1.5"));
+
+        assertEquals(first.getDebtToIncomePercentiles(), again.getDebtToIncomePercentiles());
+        assertEquals(first.getProbabilityExceedingMaxDti(), again.getProbabilityExceedingMaxDti());
+        assertEquals(first.getWorstCasePayment(), again.getWorstCasePayment());
+        assertNotEquals(first.getWorstCasePayment(), other.getWorstCasePayment());
+    }
+
+    @Test
+    @DisplayName("Should keep the simulated payment on every path when rates do not move")
+    void shouldKeepPaymentWithoutShocks() {
+        SimulationStressTestResponseDTO result = stressTestService.computeStressTest(stressTest(1_000, 1L, "0"));
+
+        assertEquals(result.getInitialDebtToIncomeRatio(), result.getDebtToIncomePercentiles().get("p50"));
+        assertEquals(result.getInitialDebtToIncomeRatio(), result.getDebtToIncomePercentiles().get("p99"));
+        assertEquals(result.getInitialMonthlyPayment(), result.getWorstCasePayment());
+        assertEquals(0, result.getProbabilityExceedingMaxDti().signum());
+    }
+
+    @Test
+    @DisplayName("Should order percentiles and raise the exceedance probability with volatility")
+    void shouldWidenWithVolatility() {
+        SimulationStressTestResponseDTO calm = stressTestService.computeStressTest(stressTest(10_000, 3L, "0.5"));
+        SimulationStressTestResponseDTO turbulent = stressTestService.computeStressTest(stressTest(10_000, 3L, "3.0"));
+
+        BigDecimal previous = BigDecimal.ZERO;
+        for (BigDecimal percentile : turbulent.getDebtToIncomePercentiles().values()) {
+            assertTrue(percentile.compareTo(previous) >= 0);
+            assertTrue(percentile.compareTo(turbulent.getInitialDebtToIncomeRatio()) >= 0);
+            previous = percentile;
+        }
+        assertTrue(turbulent.getProbabilityExceedingMaxDti().compareTo(calm.getProbabilityExceedingMaxDti()) > 0);
+        assertTrue(turbulent.getWorstCasePayment().compareTo(calm.getWorstCasePayment()) > 0);
+    }
+
+    @Test
+    @DisplayName("Should reject requests without income or with too many scenarios")
+    void shouldRejectInvalidRequests() {
+        SimulationStressTestRequestDTO withoutIncome = stressTest(100, 1L, "1.0");
+        withoutIncome.getBaseRequest().setMonthlyIncome(null);
+
+        assertThrows(IllegalArgumentException.class, () -> stressTestService.computeStressTest(withoutIncome));
+        assertThrows(IllegalArgumentException.class,
+                () -> stressTestService.computeStressTest(stressTest(100_001, 1L, "1.0")));
+    }
+
+    private static SimulationStressTestRequestDTO stressTest(int scenarios, Long seed, String annualRateVolatility) {
+        SimulationRequestDTO base = new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                new BigDecimal("3500.00"),
+                720
+        );
+        return new SimulationStressTestRequestDTO(
+                base, scenarios, seed, 12, new BigDecimal(annualRateVolatility), BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,107 @@
+package com.creditrefinancing.bff.service;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationResponseDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepRequestDTO;
+import com.creditrefinancing.bff.dto.SimulationSweepResponseDTO;
+import com.creditrefinancing.bff.service.calculation.AnnuityFactorTable;
+import com.creditrefinancing.bff.service.pricing.PricingEngine;
+import com.creditrefinancing.bff.service.pricing.PricingRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Simulation Sweep Service Tests")
+class SimulationSweepServiceTest {
+
+    private SimulationService simulationService;
+    private SimulationSweepService sweepService;
+
+    @BeforeEach
+    void setUp() {
+        AnnuityFactorTable annuityFactorTable = new AnnuityFactorTable(new SimpleMeterRegistry());
+        PricingEngine pricingEngine = new PricingEngine(PricingRules.builder().build());
+        simulationService = SimulationServices.engine(annuityFactorTable, pricingEngine);
+
+        sweepService = new SimulationSweepService(simulationService, annuityFactorTable, pricingEngine);
+        ReflectionTestUtils.setField(sweepService, "maxGridPoints", 2500);
+    }
+
+    @Test
+    @DisplayName("Should match single simulations at every grid point across DTI bands and rate brackets")
+    void shouldMatchSingleSimulations() {
+        SimulationRequestDTO base = baseRequest(new BigDecimal("4000.00"), 720);
+
+        assertMatchesSingleSimulations(sweep(base, 12, 360, 29, "20000.00", "780000.00", "47500.00"));
+    }
+
+    @Test
+    @DisplayName("Should match single simulations without income or credit score")
+    void shouldMatchSingleSimulationsWithoutIncome() {
+        SimulationRequestDTO base = baseRequest(null, null);
+
+        assertMatchesSingleSimulations(sweep(base, 60, 120, 12, "1000.00", "1000.05", "0.01"));
+    }
+
+    @Test
+    @DisplayName("Should reject inverted ranges and oversized grids")
+    void shouldRejectInvalidGrids() {
+        SimulationRequestDTO base = baseRequest(new BigDecimal("4000.00"), 720);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> sweepService.computeSweep(sweep(base, 120, 60, 12, "1000.00", "2000.00", "100.00")));
+        assertThrows(IllegalArgumentException.class,
+                () -> sweepService.computeSweep(sweep(base, 12, 360, 1, "1000.00", "9000.00", "1000.00")));
+    }
+
+    private void assertMatchesSingleSimulations(SimulationSweepRequestDTO sweep) {
+        SimulationSweepResponseDTO grid = sweepService.computeSweep(sweep);
+
+        for (int row = 0; row < grid.getAmounts().length; row++) {
+            for (int column = 0; column < grid.getTerms().length; column++) {
+                SimulationRequestDTO single = baseRequest(
+                        sweep.getBaseRequest().getMonthlyIncome(), sweep.getBaseRequest().getCreditScore());
+                single.setDesiredLoanAmount(grid.getAmounts()[row]);
+                single.setDesiredTermMonths(grid.getTerms()[column]);
+                SimulationResponseDTO expected = simulationService.computeSimulation(single);
+
+                String point = grid.getAmounts()[row] + " x " + grid.getTerms()[column];
+                assertEquals(expected.getNewInterestRate(), grid.getInterestRates()[row], point);
+                assertEquals(expected.getNewMonthlyPayment().doubleValue(), grid.getMonthlyPayment()[row][column], point);
+                assertEquals(expected.getTotalInterest().doubleValue(), grid.getTotalInterest()[row][column], point);
+                assertEquals(expected.getRiskAssessment().getDebtToIncomeRatio().doubleValue(),
+                        grid.getDebtToIncomeRatio()[row][column], point);
+                assertEquals(expected.getStatus(), grid.getStatus()[row][column], point);
+            }
+        }
+    }
+
+    private static SimulationRequestDTO baseRequest(BigDecimal monthlyIncome, Integer creditScore) {
+        return new SimulationRequestDTO(
+                "CUST-12345",
+                new BigDecimal("150000.00"),
+                new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"),
+                240,
+                "MORTGAGE",
+                monthlyIncome,
+                creditScore
+        );
+    }
+
+    private static SimulationSweepRequestDTO sweep(SimulationRequestDTO base, int termFrom, int termTo, int termStep,
+                                                   String amountFrom, String amountTo, String amountStep) {
+        return new SimulationSweepRequestDTO(
+                base,
+                new SimulationSweepRequestDTO.TermRange(termFrom, termTo, termStep),
+                new SimulationSweepRequestDTO.AmountRange(
+                        new BigDecimal(amountFrom), new BigDecimal(amountTo), new BigDecimal(amountStep)));
+    }
+}
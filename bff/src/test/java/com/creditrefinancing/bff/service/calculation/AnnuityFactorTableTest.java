@@ -0,0 +1,69 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Annuity Factor Table Tests")
+class AnnuityFactorTableTest {
+
+    private final BigDecimalAmortizationKernel exactKernel = new BigDecimalAmortizationKernel();
+    private SimpleMeterRegistry meterRegistry;
+    private AnnuityFactorTable table;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        table = new AnnuityFactorTable(meterRegistry);
+        table.rebuild(List.of(new BigDecimal("4.25"), new BigDecimal("2.0"), new BigDecimal("6.5")));
+    }
+
+    @Test
+    @DisplayName("Should produce the BigDecimal payment from a lookup and a multiply")
+    void shouldMatchExactKernelForTabulatedRates() {
+        for (String rate : new String[] {"4.25", "2.00", "6.50"}) {
+            for (int term = AnnuityFactorTable.MIN_TERM_MONTHS; term <= AnnuityFactorTable.MAX_TERM_MONTHS; term++) {
+                BigDecimal annualRate = new BigDecimal(rate);
+                BigDecimal loanAmount = new BigDecimal("237451.37");
+
+                long cents = FixedPointAmortizationKernel.paymentCents(
+                        FixedPointAmortizationKernel.toCents(loanAmount), table.factor(annualRate, term));
+
+                assertEquals(exactKernel.monthlyPayment(loanAmount, annualRate, term), BigDecimal.valueOf(cents, 2));
+            }
+        }
+        assertEquals(new BigDecimal("0.003542"), table.monthlyRate(new BigDecimal("4.25")));
+    }
+
+    @Test
+    @DisplayName("Should report misses for rates and terms outside the table")
+    void shouldReportMisses() {
+        assertTrue(Double.isNaN(table.factor(new BigDecimal("4.30"), 240)));
+        assertTrue(Double.isNaN(table.factor(new BigDecimal("4.255"), 240)));
+        assertTrue(Double.isNaN(table.factor(new BigDecimal("4.25"), 361)));
+        assertNull(table.monthlyRate(new BigDecimal("5.00")));
+        table.factor(new BigDecimal("4.25"), 240);
+
+        assertEquals(0.25, table.hitRatio(), 1e-9);
+        assertEquals(3.0, meterRegistry.get("simulation.annuity.table.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should replace the table and report its footprint on rebuild")
+    void shouldReplaceTableOnRebuild() {
+        long footprint = table.footprintBytes();
+        table.rebuild(List.of(new BigDecimal("4.30")));
+
+        assertTrue(Double.isNaN(table.factor(new BigDecimal("4.25"), 240)));
+        assertTrue(table.footprintBytes() < footprint);
+        assertEquals(table.footprintBytes(), meterRegistry.get("simulation.annuity.table.bytes").gauge().value());
+    }
+}
@@ -0,0 +1,67 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("APR Solver Tests")
+class AprSolverTest {
+
+    @Test
+    @DisplayName("Should match a bisection reference for random loans, rates and fees")
+    void shouldMatchBisection() {
+        SplittableRandom random = new SplittableRandom(20240115L);
+
+        for (int i = 0; i < 10_000; i++) {
+            double loanAmount = random.nextLong(1_000_00L, 10_000_000_00L) / 100.0;
+            double monthlyRate = random.nextLong(1, 3001) / 120_000.0; // 0.01% .. 30.00% a year
+            int termMonths = random.nextInt(12, 361);
+            double feeShare = random.nextInt(0, 501) / 10_000.0; // 0% .. 5%
+            double payment = loanAmount * FixedPointAmortizationKernel.annuityFactor(
+                    Math.round(monthlyRate * 1_000_000), termMonths);
+            double netAmount = loanAmount * (1 - feeShare);
+
+            double expected = bisect(netAmount, payment, termMonths);
+            double actual = AprSolver.monthlyRate(netAmount, payment, termMonths, monthlyRate);
+
+            assertEquals(expected, actual, expected * 1e-9,
+                    loanAmount + " at " + monthlyRate + " over " + termMonths + " with fee " + feeShare);
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover from an initial guess beyond the root")
+    void shouldRecoverFromHighGuess() {
+        double payment = 200_000 * FixedPointAmortizationKernel.annuityFactor(3_542, 240);
+
+        assertEquals(bisect(198_000, payment, 240), AprSolver.monthlyRate(198_000, payment, 240, 0.05), 1e-15);
+        assertEquals(bisect(198_000, payment, 240), AprSolver.monthlyRate(198_000, payment, 240, 0), 1e-15);
+    }
+
+    @Test
+    @DisplayName("Should return NaN when the payments do not exceed the net amount")
+    void shouldRejectNonPositiveRates() {
+        assertTrue(Double.isNaN(AprSolver.monthlyRate(12_000, 1_000, 12, 0.004)));
+        assertTrue(Double.isNaN(AprSolver.monthlyRate(0, 1_000, 12, 0.004)));
+        assertTrue(Double.isNaN(AprSolver.monthlyRate(-500, 1_000, 12, 0.004)));
+    }
+
+    private static double bisect(double netAmount, double payment, int termMonths) {
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < 200; i++) {
+            double mid = (low + high) / 2;
+            double presentValue = payment * -Math.expm1(-termMonths * Math.log1p(mid)) / mid;
+            if (presentValue > netAmount) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return (low + high) / 2;
+    }
+}
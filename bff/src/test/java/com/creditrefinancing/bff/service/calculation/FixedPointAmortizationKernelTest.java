@@ -0,0 +1,87 @@
+package com.creditrefinancing.bff.service.calculation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Fixed-point Amortization Kernel Tests")
+class FixedPointAmortizationKernelTest {
+
+    private static final long MIN_LOAN_CENTS = 1_000_00L;
+    private static final long MAX_LOAN_CENTS = 10_000_000_00L;
+
+    private final BigDecimalAmortizationKernel exactKernel = new BigDecimalAmortizationKernel();
+    private final FixedPointAmortizationKernel fastKernel = new FixedPointAmortizationKernel(exactKernel);
+
+    @Test
+    @DisplayName("Should match BigDecimal kernel for random inputs across the validated domain")
+    void shouldMatchExactKernelForRandomInputs() {
+        SplittableRandom random = new SplittableRandom(20240115L);
+
+        for (int i = 0; i < 50_000; i++) {
+            BigDecimal loanAmount = BigDecimal.valueOf(random.nextLong(MIN_LOAN_CENTS, MAX_LOAN_CENTS + 1), 2);
+            BigDecimal annualRate = BigDecimal.valueOf(random.nextLong(1, 3001), 2); // 0.01% .. 30.00%
+            int termMonths = random.nextInt(12, 361);
+
+            assertSamePayment(loanAmount, annualRate, termMonths);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match BigDecimal kernel at domain boundaries for every term")
+    void shouldMatchExactKernelAtDomainBoundaries() {
+        String[] amounts = {"1000.00", "1000.01", "9999999.99", "10000000.00", "500000.00", "500000.01"};
+        String[] rates = {"2.0", "2.00", "3.25", "3.5", "4.0", "4.5", "5.25", "6.5", "8.0", "12.75"};
+
+        for (String amount : amounts) {
+            for (String rate : rates) {
+                for (int termMonths = 12; termMonths <= 360; termMonths++) {
+                    assertSamePayment(new BigDecimal(amount), new BigDecimal(rate), termMonths);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match BigDecimal kernel for whole-dollar and unscaled amounts")
+    void shouldMatchExactKernelForDifferentScales() {
+        SplittableRandom random = new SplittableRandom(42L);
+
+        for (int i = 0; i < 5_000; i++) {
+            BigDecimal loanAmount = BigDecimal.valueOf(random.nextLong(1_000L, 10_000_001L));
+            BigDecimal annualRate = BigDecimal.valueOf(random.nextLong(20, 1_300), 1);
+
+            assertSamePayment(loanAmount, annualRate, random.nextInt(12, 361));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the BigDecimal kernel outside the fast-path domain")
+    void shouldFallBackOutsideFastPathDomain() {
+        assertSamePayment(new BigDecimal("200000.00"), BigDecimal.ZERO, 240);
+        assertSamePayment(new BigDecimal("200000.00"), new BigDecimal("4.1234567"), 240);
+        assertSamePayment(new BigDecimal("200000.005"), new BigDecimal("4.5"), 240);
+        assertSamePayment(new BigDecimal("2E+5"), new BigDecimal("4.5"), 240);
+    }
+
+    @Test
+    @DisplayName("Should derive the monthly rate with the same rounding as the BigDecimal path")
+    void shouldDeriveMonthlyRateLikeBigDecimalPath() {
+        assertEquals(3_542L, FixedPointAmortizationKernel.monthlyRateMicros(new BigDecimal("4.25")));
+        assertEquals(3_750L, FixedPointAmortizationKernel.monthlyRateMicros(new BigDecimal("4.5")));
+        assertEquals(1_667L, FixedPointAmortizationKernel.monthlyRateMicros(new BigDecimal("2.0")));
+        assertEquals(-1L, FixedPointAmortizationKernel.monthlyRateMicros(BigDecimal.ZERO));
+    }
+
+    private void assertSamePayment(BigDecimal loanAmount, BigDecimal annualRate, int termMonths) {
+        BigDecimal expected = exactKernel.monthlyPayment(loanAmount, annualRate, termMonths);
+        BigDecimal actual = fastKernel.monthlyPayment(loanAmount, annualRate, termMonths);
+
+        assertEquals(expected, actual,
+                () -> "loan=" + loanAmount + " rate=" + annualRate + " term=" + termMonths);
+    }
+}
@@ -0,0 +1,195 @@
+package com.creditrefinancing.bff.service.pricing;
+
+import com.creditrefinancing.bff.dto.SimulationRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Pricing Engine Tests")
+class PricingEngineTest {
+
+    private static final Integer[] CREDIT_SCORES = {null, 300, 599, 600, 649, 650, 699, 700, 749, 750, 850};
+    private static final String[] LOAN_TYPES = {"PERSONAL", "MORTGAGE", "AUTO", "BUSINESS", "STUDENT"};
+    private static final String[] LOAN_AMOUNTS = {"1000.00", "225000.01", "500000.00", "500000.01", "10000000.00"};
+    private static final String[] DEBT_TO_INCOME_RATIOS = {"0.0000", "0.3600", "0.3601", "0.4300", "0.4301", "1.2000"};
+
+    private final PricingEngine pricingEngine = new PricingEngine(PricingRules.builder().build());
+
+    @Test
+    @DisplayName("Should reproduce the original rate, risk and approval rules with the default settings")
+    void shouldMatchOriginalRules() {
+        for (Integer creditScore : CREDIT_SCORES) {
+            for (String loanType : LOAN_TYPES) {
+                for (String loanAmount : LOAN_AMOUNTS) {
+                    for (String monthlyIncome : new String[]{null, "5000.00"}) {
+                        SimulationRequestDTO request = new SimulationRequestDTO(
+                                "CUST-12345",
+                                new BigDecimal("150000.00"),
+                                new BigDecimal("1200.50"),
+                                new BigDecimal(loanAmount),
+                                240,
+                                loanType,
+                                monthlyIncome == null ? null : new BigDecimal(monthlyIncome),
+                                creditScore
+                        );
+                        String point = creditScore + "/" + loanType + "/" + loanAmount + "/" + monthlyIncome;
+                        assertEquals(originalInterestRate(request), pricingEngine.interestRate(request), point);
+                        
+                        for (String ratio : DEBT_TO_INCOME_RATIOS) {
+                            List<String> expectedFactors = new ArrayList<>();
+                            List<String> riskFactors = new ArrayList<>();
+                            String expectedLevel = originalRiskLevel(request, new BigDecimal(ratio), expectedFactors);
+                            RiskLevel riskLevel = pricingEngine.riskLevel(request, new BigDecimal(ratio), riskFactors);
+                            
+                            assertEquals(expectedLevel, riskLevel.name(), point + "/" + ratio);
+                            assertEquals(expectedFactors, riskFactors, point + "/" + ratio);
+                            assertEquals(originalApprovalProbability(expectedLevel, creditScore),
+                                    pricingEngine.approvalProbability(riskLevel, creditScore), point + "/" + ratio);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply configured adjustments and list every reachable rate")
+    void shouldApplyConfiguredRules() {
+        PricingEngine configured = new PricingEngine(PricingRules.builder()
+                .goodDiscount(new BigDecimal("0.25"))
+                .personalPenalty(new BigDecimal("1.5"))
+                .minInterestRate(new BigDecimal("3.0"))
+                .build());
+        SimulationRequestDTO request = new SimulationRequestDTO(
+                "CUST-12345", new BigDecimal("150000.00"), new BigDecimal("1200.50"),
+                new BigDecimal("20000.00"), 60, "PERSONAL", null, 720);
+
+        assertEquals(new BigDecimal("5.75"), configured.interestRate(request));
+        request.setLoanType("MORTGAGE");
+        request.setDesiredLoanAmount(new BigDecimal("900000.00"));
+        request.setCreditScore(800);
+        assertEquals(new BigDecimal("3.50"), configured.interestRate(request));
+        assertTrue(configured.interestRates().containsAll(Arrays.asList(
+                new BigDecimal("5.75"), new BigDecimal("3.50"))));
+    }
+
+    @Test
+    @DisplayName("Should reject credit score thresholds out of order")
+    void shouldRejectUnorderedThresholds() {
+        assertThrows(IllegalStateException.class,
+                () -> new PricingEngine(PricingRules.builder().goodThreshold(760).build()));
+    }
+
+    @Test
+    @DisplayName("Should publish a new snapshot, notify listeners and leave the old snapshot unchanged")
+    void shouldSwapSnapshotOnUpdate() {
+        PricingEngine engine = new PricingEngine(PricingRules.builder().build());
+        List<PricingSnapshot> published = new ArrayList<>();
+        engine.onUpdate(published::add);
+        SimulationRequestDTO request = new SimulationRequestDTO(
+                "CUST-12345", new BigDecimal("150000.00"), new BigDecimal("1200.50"),
+                new BigDecimal("200000.00"), 240, "MORTGAGE", null, 720);
+        PricingSnapshot before = engine.snapshot();
+
+        PricingSnapshot after = engine.update(PricingRules.builder()
+                .baseInterestRate(new BigDecimal("5.5"))
+                .highRiskThreshold(new BigDecimal("0.40"))
+                .build(), "test");
+
+        assertEquals(List.of(after), published);
+        assertEquals(after, engine.snapshot());
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(new BigDecimal("4.25"), before.interestRate(request));
+        assertEquals(new BigDecimal("0.43"), before.highRiskThreshold());
+        assertEquals(new BigDecimal("5.25"), after.interestRate(request));
+        assertEquals(new BigDecimal("0.40"), after.highRiskThreshold());
+    }
+
+    @Test
+    @DisplayName("Should keep the current snapshot when updated rules do not compile")
+    void shouldKeepSnapshotOnInvalidUpdate() {
+        PricingEngine engine = new PricingEngine(PricingRules.builder().build());
+        PricingSnapshot before = engine.snapshot();
+
+        assertThrows(IllegalStateException.class,
+                () -> engine.update(PricingRules.builder().goodThreshold(760).build(), "test"));
+        assertEquals(before, engine.snapshot());
+    }
+
+    // The hard-coded rules the decision table replaced
+
+    private static BigDecimal originalInterestRate(SimulationRequestDTO request) {
+        BigDecimal rate = new BigDecimal("4.5");
+        if (request.getCreditScore() != null) {
+            if (request.getCreditScore() >= 750) {
+                rate = rate.subtract(new BigDecimal("0.5"));
+            } else if (request.getCreditScore() < 650) {
+                rate = rate.add(new BigDecimal("1.5"));
+            } else if (request.getCreditScore() < 700) {
+                rate = rate.add(new BigDecimal("0.75"));
+            }
+        }
+        switch (request.getLoanType()) {
+            case "MORTGAGE" -> rate = rate.subtract(new BigDecimal("0.25"));
+            case "PERSONAL" -> rate = rate.add(new BigDecimal("2.0"));
+            case "AUTO" -> rate = rate.add(new BigDecimal("0.5"));
+            case "BUSINESS" -> rate = rate.add(new BigDecimal("1.0"));
+        }
+        if (request.getDesiredLoanAmount().compareTo(new BigDecimal("500000")) > 0) {
+            rate = rate.subtract(new BigDecimal("0.25"));
+        }
+        return rate.max(new BigDecimal("2.0"));
+    }
+
+    private static String originalRiskLevel(SimulationRequestDTO request, BigDecimal debtToIncomeRatio,
+                                            List<String> riskFactors) {
+        String riskLevel = "LOW";
+        if (request.getMonthlyIncome() != null && request.getMonthlyIncome().compareTo(BigDecimal.ZERO) > 0) {
+            if (debtToIncomeRatio.compareTo(new BigDecimal("0.43")) > 0) {
+                riskFactors.add("Debt-to-income ratio exceeds recommended maximum");
+                riskLevel = "HIGH";
+            } else if (debtToIncomeRatio.compareTo(new BigDecimal("0.36")) > 0) {
+                riskFactors.add("Debt-to-income ratio is elevated");
+                riskLevel = "MEDIUM";
+            }
+        }
+        if (request.getCreditScore() != null) {
+            if (request.getCreditScore() < 650) {
+                riskFactors.add("Credit score below recommended minimum");
+                riskLevel = "HIGH";
+            } else if (request.getCreditScore() < 700) {
+                riskFactors.add("Credit score requires improvement");
+                if (!"HIGH".equals(riskLevel)) riskLevel = "MEDIUM";
+            }
+        }
+        if (request.getDesiredLoanAmount().compareTo(request.getCurrentLoanAmount().multiply(new BigDecimal("1.5"))) > 0) {
+            riskFactors.add("Significant increase in loan amount");
+            if (!"HIGH".equals(riskLevel)) riskLevel = "MEDIUM";
+        }
+        return riskLevel;
+    }
+
+    private static BigDecimal originalApprovalProbability(String riskLevel, Integer creditScore) {
+        BigDecimal probability = new BigDecimal("0.85");
+        switch (riskLevel) {
+            case "HIGH" -> probability = new BigDecimal("0.45");
+            case "MEDIUM" -> probability = new BigDecimal("0.70");
+        }
+        if (creditScore != null) {
+            if (creditScore >= 750) {
+                probability = probability.add(new BigDecimal("0.10"));
+            } else if (creditScore < 600) {
+                probability = probability.subtract(new BigDecimal("0.20"));
+            }
+        }
+        return probability.min(BigDecimal.ONE).max(BigDecimal.ZERO);
+    }
+}
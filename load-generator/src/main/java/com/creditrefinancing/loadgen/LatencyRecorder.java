@@ -0,0 +1,106 @@
+package com.creditrefinancing.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records request latencies from any thread into two HdrHistograms, in microseconds:
+ * <ul>
+ *   <li><b>corrected</b> - measured from when the request <i>should</i> have started. In open-loop
+ *   mode that is its slot in the arrival schedule, so time spent waiting behind a slow request
+ *   counts against the server (no coordinated omission). In closed-loop mode requests have no
+ *   schedule, so when an intended rate is known the histogram back-fills the requests a stalled
+ *   worker failed to send ({@link Histogram#recordValueWithExpectedInterval}).</li>
+ *   <li><b>uncorrected</b> - measured from when the request was actually sent; what a naive
+ *   client-side timer would report.</li>
+ * </ul>
+ * An open-loop request dropped because too many were outstanding was never answered, so it goes
+ * into the corrected histogram as if answered when the run ended ({@link #recordDropped}); leaving
+ * it out would hide the worst latencies of an overloaded server.
+ */
+public final class LatencyRecorder {
+
+    public enum Outcome {
+        SUCCESS,
+        CLIENT_ERROR,
+        SERVER_ERROR,
+        TIMEOUT,
+        CONNECTION_ERROR,
+        /** Not sent because too many requests were already outstanding; only in the corrected histogram. */
+        DROPPED;
+
+        static Outcome ofStatus(int status) {
+            if (status >= 500) return SERVER_ERROR;
+            if (status >= 400) return CLIENT_ERROR;
+            return SUCCESS;
+        }
+    }
+
+    /** Histograms and outcome counts recorded since the previous call to {@link #interval()}. */
+    public record Interval(Histogram corrected, Histogram uncorrected, long[] outcomes) {
+    }
+
+    private final Recorder corrected = new Recorder(3);
+    private final Recorder uncorrected = new Recorder(3);
+    private final long expectedIntervalMicros;
+    private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+    private long[] droppedStarts = new long[1024];
+    private int droppedCount;
+
+    /**
+     * @param expectedIntervalMicros interval at which each closed-loop worker was meant to send,
+     *                               or 0 when requests follow a schedule (open loop) or no rate is known
+     */
+    public LatencyRecorder(long expectedIntervalMicros) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    public void record(long intendedStartNanos, long actualStartNanos, long endNanos, Outcome outcome) {
+        outcomes[outcome.ordinal()].increment();
+        if (outcome == Outcome.DROPPED) {
+            addDropped(intendedStartNanos);
+            return;
+        }
+        
+        uncorrected.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - actualStartNanos));
+        long responseTime = TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos);
+        if (expectedIntervalMicros > 0) {
+            corrected.recordValueWithExpectedInterval(responseTime, expectedIntervalMicros);
+        } else {
+            corrected.recordValue(responseTime);
+        }
+    }
+
+    /**
+     * Records every request dropped so far in the corrected histogram, at its intended start to
+     * {@code endNanos}: the least it would have taken, since it was still unanswered when the run ended.
+     */
+    public synchronized void recordDropped(long endNanos) {
+        for (int i = 0; i < droppedCount; i++) {
+            corrected.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - droppedStarts[i]));
+        }
+        droppedCount = 0;
+    }
+
+    private synchronized void addDropped(long intendedStartNanos) {
+        if (droppedCount == droppedStarts.length) {
+            droppedStarts = Arrays.copyOf(droppedStarts, droppedCount * 2);
+        }
+        droppedStarts[droppedCount++] = intendedStartNanos;
+    }
+
+    public Interval interval() {
+        long[] counts = new long[outcomes.length];
+        for (int i = 0; i < outcomes.length; i++) {
+            counts[i] = outcomes[i].sumThenReset();
+        }
+        return new Interval(corrected.getIntervalHistogram(), uncorrected.getIntervalHistogram(), counts);
+    }
+}
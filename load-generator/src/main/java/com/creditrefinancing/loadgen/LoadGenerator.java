@@ -0,0 +1,243 @@
+package com.creditrefinancing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the BFF with a request mix and reports latency percentiles.
+ * <p>
+ * Open loop: a single thread starts request {@code i} at {@code start + i / rate}, never waiting
+ * for responses, so a server stall shows up as queued requests with growing latency rather than
+ * as a quiet client. Closed loop: {@code concurrency} workers each send back to back, which is
+ * what most benchmarking tools do and what the uncorrected numbers describe.
+ */
+@Slf4j
+public final class LoadGenerator {
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoadGeneratorOptions options;
+    private final RequestMix mix;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final LatencyRecorder recorder;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadGenerator(LoadGeneratorOptions options, RequestMix mix) {
+        this.options = options;
+        this.mix = mix;
+        this.connectionProvider = ConnectionProvider.builder("load-generator")
+                .maxConnections(options.getConcurrency())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000);
+        this.webClient = WebClient.builder()
+                .baseUrl(options.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        
+        long expectedIntervalMicros = options.getMode() == LoadGeneratorOptions.Mode.CLOSED && options.getRate() > 0
+                ? (long) (options.getConcurrency() * 1_000_000 / options.getRate())
+                : 0;
+        this.recorder = new LatencyRecorder(expectedIntervalMicros);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorOptions options;
+        try {
+            options = LoadGeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadGeneratorOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        ObjectMapper objectMapper = new ObjectMapper();
+        RequestMix mix = RequestMix.load(options.getMix(), objectMapper);
+        LoadReport report = new LoadGenerator(options, mix).run();
+        report.write(options.getOut(), objectMapper);
+        
+        Histogram latency = report.corrected();
+        long dropped = report.count(LatencyRecorder.Outcome.DROPPED);
+        log.info("Done: {} requests at {} req/s, p50={} ms p99={} ms p99.9={} ms max={} ms, errors={}, dropped={}",
+                latency.getTotalCount(), String.format("%.1f", report.throughput()),
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0, latency.getMaxValue() / 1000.0,
+                report.count(LatencyRecorder.Outcome.CLIENT_ERROR) + report.count(LatencyRecorder.Outcome.SERVER_ERROR)
+                        + report.count(LatencyRecorder.Outcome.TIMEOUT) + report.count(LatencyRecorder.Outcome.CONNECTION_ERROR),
+                dropped);
+        if (dropped > 0) {
+            log.warn("{} requests were dropped over --max-in-flight={} and count in the percentiles as answered "
+                    + "at the end of the run; the server could not keep up with the target rate",
+                    dropped, options.getMaxInFlight());
+        }
+        log.info("Report written to {}", options.getOut().toAbsolutePath().resolve("report.html"));
+    }
+
+    LoadReport run() throws InterruptedException {
+        log.info("{}-loop run against {}: {} mix entries, warmup {}s, duration {}s",
+                options.getMode(), options.getUrl(), mix.size(),
+                options.getWarmup().toSeconds(), options.getDuration().toSeconds());
+        
+        prime();
+        
+        LoadReport report = new LoadReport(options);
+        long start = System.nanoTime();
+        long measureStart = start + options.getWarmup().toNanos();
+        long end = measureStart + options.getDuration().toNanos();
+        
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Anything recorded before measuring starts is warmup and discarded
+        reporter.scheduleAtFixedRate(() -> collect(report, measureStart),
+                measureStart - System.nanoTime(), REPORT_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        
+        try {
+            if (options.getMode() == LoadGeneratorOptions.Mode.OPEN) {
+                runOpenLoop(start, measureStart, end);
+            } else {
+                runClosedLoop(measureStart, end);
+            }
+            awaitInFlight();
+            recorder.recordDropped(System.nanoTime());
+        } finally {
+            reporter.shutdown();
+            reporter.awaitTermination(5, TimeUnit.SECONDS);
+            connectionProvider.dispose();
+        }
+        collect(report, measureStart);
+        return report;
+    }
+
+    /**
+     * Sends each mix entry once, one at a time, before the clock starts, so client start-up
+     * (class loading, first connection) is not charged to the schedule, and an unreachable
+     * BFF fails the run immediately.
+     */
+    private void prime() {
+        for (int i = 0; i < mix.size(); i++) {
+            LatencyRecorder.Outcome outcome = send(mix.entry(i)).block();
+            if (outcome == LatencyRecorder.Outcome.CONNECTION_ERROR || outcome == LatencyRecorder.Outcome.TIMEOUT) {
+                throw new IllegalStateException("Could not reach " + options.getUrl() + ": " + outcome);
+            }
+            if (outcome != LatencyRecorder.Outcome.SUCCESS) {
+                log.warn("Mix entry '{}' returned {}", mix.entry(i).name(), outcome);
+            }
+        }
+    }
+
+    private void runOpenLoop(long start, long measureStart, long end) {
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+        double periodNanos = 1e9 / options.getRate();
+        
+        for (long i = 0; ; i++) {
+            long intendedStart = start + (long) (i * periodNanos);
+            if (intendedStart >= end) {
+                break;
+            }
+            waitUntil(intendedStart);
+            
+            RequestMix.Entry entry = mix.pick(random.nextDouble());
+            boolean measured = intendedStart >= measureStart;
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                if (measured) {
+                    recorder.record(intendedStart, intendedStart, intendedStart, LatencyRecorder.Outcome.DROPPED);
+                }
+                continue;
+            }
+            
+            inFlight.incrementAndGet();
+            long actualStart = System.nanoTime();
+            send(entry).subscribe(outcome -> {
+                if (measured) {
+                    recorder.record(intendedStart, actualStart, System.nanoTime(), outcome);
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+    }
+
+    private void runClosedLoop(long measureStart, long end) {
+        Flux.range(0, options.getConcurrency())
+                .flatMap(worker -> {
+                    SplittableRandom random = new SplittableRandom(options.getSeed() + worker);
+                    return Mono.defer(() -> {
+                                long start = System.nanoTime();
+                                return send(mix.pick(random.nextDouble()))
+                                        .doOnNext(outcome -> {
+                                            if (start >= measureStart) {
+                                                recorder.record(start, start, System.nanoTime(), outcome);
+                                            }
+                                        });
+                            })
+                            .repeat(() -> System.nanoTime() < end)
+                            .then();
+                }, options.getConcurrency())
+                .blockLast();
+    }
+
+    private Mono<LatencyRecorder.Outcome> send(RequestMix.Entry entry) {
+        return webClient.post()
+                .uri(entry.path())
+                .bodyValue(entry.body())
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(LatencyRecorder.Outcome.ofStatus(response.statusCode().value())))
+                .timeout(options.getTimeout())
+                .onErrorResume(TimeoutException.class, e -> Mono.just(LatencyRecorder.Outcome.TIMEOUT))
+                .onErrorResume(e -> Mono.just(LatencyRecorder.Outcome.CONNECTION_ERROR));
+    }
+
+    private void collect(LoadReport report, long measureStart) {
+        LatencyRecorder.Interval interval = recorder.interval();
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+        report.add(interval, elapsedSeconds);
+        
+        Histogram latency = interval.corrected();
+        log.info("t={}s requests={} p50={} ms p99={} ms max={} ms in-flight={}",
+                String.format("%.0f", elapsedSeconds), latency.getTotalCount(),
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                latency.getMaxValue() / 1000.0, inFlight.get());
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + options.getTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
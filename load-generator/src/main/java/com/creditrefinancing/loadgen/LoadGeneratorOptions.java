@@ -0,0 +1,101 @@
+package com.creditrefinancing.loadgen;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Command-line options, given as {@code --name=value}.
+ */
+@Value
+@Builder
+public class LoadGeneratorOptions {
+
+    public enum Mode {
+        /** Requests start on a fixed schedule, whether or not earlier ones have completed. */
+        OPEN,
+        /** A fixed number of workers, each sending its next request when the previous one completes. */
+        CLOSED
+    }
+
+    static final String USAGE = """
+            Usage: java -jar load-generator.jar [--name=value ...]
+              --url=http://localhost:8080/api   BFF base URL
+              --mode=open|closed                open: constant arrival rate; closed: fixed concurrency (default open)
+              --rate=200                        open: requests per second to start
+                                                closed: intended requests per second, used for coordinated-omission
+                                                correction (0 = no correction)
+              --concurrency=32                  closed: number of workers; open: connection pool size
+              --max-in-flight=10000             open: outstanding requests before new ones are counted as dropped
+              --duration=60s                    measured run length (ms, s, m)
+              --warmup=10s                      load applied before measuring starts
+              --timeout=10s                     per-request timeout
+              --mix=mix.json                    request mix file (default: built-in mix of /simulation/calculate requests)
+              --seed=42                         seed for picking requests from the mix
+              --out=load-report                 directory for report.json, report.html and .hgrm files
+            """;
+
+    @Builder.Default String url = "http://localhost:8080/api";
+    @Builder.Default Mode mode = Mode.OPEN;
+    @Builder.Default double rate = 200;
+    @Builder.Default int concurrency = 32;
+    @Builder.Default int maxInFlight = 10_000;
+    @Builder.Default Duration duration = Duration.ofSeconds(60);
+    @Builder.Default Duration warmup = Duration.ofSeconds(10);
+    @Builder.Default Duration timeout = Duration.ofSeconds(10);
+    Path mix;
+    @Builder.Default long seed = 42;
+    @Builder.Default Path out = Path.of("load-report");
+
+    public static LoadGeneratorOptions parse(String[] args) {
+        LoadGeneratorOptionsBuilder options = builder();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "url" -> options.url(value);
+                case "mode" -> options.mode(Mode.valueOf(value.toUpperCase(Locale.ROOT)));
+                case "rate" -> options.rate(Double.parseDouble(value));
+                case "concurrency" -> options.concurrency(Integer.parseInt(value));
+                case "max-in-flight" -> options.maxInFlight(Integer.parseInt(value));
+                case "duration" -> options.duration(parseDuration(value));
+                case "warmup" -> options.warmup(parseDuration(value));
+                case "timeout" -> options.timeout(parseDuration(value));
+                case "mix" -> options.mix(Path.of(value));
+                case "seed" -> options.seed(Long.parseLong(value));
+                case "out" -> options.out(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        
+        LoadGeneratorOptions parsed = options.build();
+        if (parsed.getMode() == Mode.OPEN && parsed.getRate() <= 0) {
+            throw new IllegalArgumentException("--rate must be positive in open-loop mode");
+        }
+        if (parsed.getConcurrency() < 1 || parsed.getMaxInFlight() < 1) {
+            throw new IllegalArgumentException("--concurrency and --max-in-flight must be at least 1");
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses {@code 500ms}, {@code 30s}, {@code 2m}, or a plain number of seconds.
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        } else if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        } else if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,357 @@
+package com.creditrefinancing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Accumulates per-second {@link LatencyRecorder.Interval}s of the measured part of a run and
+ * writes {@code report.json}, a self-contained {@code report.html} and one HdrHistogram
+ * percentile distribution ({@code .hgrm}) per histogram.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 75, 90, 99, 99.9, 99.99};
+    private static final String[] PERCENTILE_DECADES = {"0%", "90%", "99%", "99.9%", "99.99%", "99.999%"};
+
+    private record TimelinePoint(double second, long requests, double p50Millis, double p99Millis, double maxMillis,
+                                 long errors) {
+    }
+
+    private final LoadGeneratorOptions options;
+    private final Instant startedAt = Instant.now();
+    private final Histogram corrected = new Histogram(3);
+    private final Histogram uncorrected = new Histogram(3);
+    private final long[] outcomes = new long[LatencyRecorder.Outcome.values().length];
+    private final List<TimelinePoint> timeline = new ArrayList<>();
+    private double elapsedSeconds;
+
+    public LoadReport(LoadGeneratorOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Adds an interval ending {@code elapsedSeconds} after measuring started.
+     */
+    public void add(LatencyRecorder.Interval interval, double elapsedSeconds) {
+        corrected.add(interval.corrected());
+        uncorrected.add(interval.uncorrected());
+        long errors = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] += interval.outcomes()[i];
+            if (i != LatencyRecorder.Outcome.SUCCESS.ordinal()) {
+                errors += interval.outcomes()[i];
+            }
+        }
+        this.elapsedSeconds = elapsedSeconds;
+        timeline.add(new TimelinePoint(elapsedSeconds, interval.corrected().getTotalCount(),
+                millis(interval.corrected().getValueAtPercentile(50)),
+                millis(interval.corrected().getValueAtPercentile(99)),
+                millis(interval.corrected().getMaxValue()), errors));
+    }
+
+    public Histogram corrected() {
+        return corrected;
+    }
+
+    /**
+     * Completed requests per second of the measured duration; requests still completing after
+     * the duration ended were started within it. Dropped requests, and the ones back-filled in
+     * closed loop, are in the corrected histogram but were never sent, so they are not counted.
+     */
+    public double throughput() {
+        return uncorrected.getTotalCount() / (options.getDuration().toMillis() / 1000.0);
+    }
+
+    public long count(LatencyRecorder.Outcome outcome) {
+        return outcomes[outcome.ordinal()];
+    }
+
+    public void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), toJson());
+        Files.writeString(directory.resolve("report.html"), toHtml());
+        writePercentileDistribution(corrected, directory.resolve("latency-corrected.hgrm"));
+        writePercentileDistribution(uncorrected, directory.resolve("latency-uncorrected.hgrm"));
+    }
+
+    Map<String, Object> toJson() {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("started_at", startedAt.toString());
+        run.put("url", options.getUrl());
+        run.put("mode", options.getMode().name().toLowerCase(Locale.ROOT));
+        run.put("target_rate", options.getRate());
+        run.put("concurrency", options.getConcurrency());
+        run.put("duration_seconds", options.getDuration().toMillis() / 1000.0);
+        run.put("warmup_seconds", options.getWarmup().toMillis() / 1000.0);
+        run.put("mix", options.getMix() == null ? "built-in" : options.getMix().toString());
+        
+        Map<String, Object> outcomeCounts = new LinkedHashMap<>();
+        for (LatencyRecorder.Outcome outcome : LatencyRecorder.Outcome.values()) {
+            outcomeCounts.put(outcome.name().toLowerCase(Locale.ROOT), outcomes[outcome.ordinal()]);
+        }
+        
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("run", run);
+        json.put("requests", corrected.getTotalCount());
+        json.put("dropped", count(LatencyRecorder.Outcome.DROPPED));
+        json.put("achieved_rate", throughput());
+        json.put("outcomes", outcomeCounts);
+        json.put("latency_ms", pair(summary(corrected), summary(uncorrected)));
+        json.put("timeline", timeline);
+        // Full-resolution histograms, for merging runs or re-plotting with HdrHistogram tools
+        json.put("histograms", pair(encode(corrected), encode(uncorrected)));
+        return json;
+    }
+
+    private static Map<String, Object> pair(Object corrected, Object uncorrected) {
+        Map<String, Object> pair = new LinkedHashMap<>();
+        pair.put("corrected", corrected);
+        pair.put("uncorrected", uncorrected);
+        return pair;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("mean", histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / 1000.0);
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + formatPercentile(percentile), millis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("max", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private String toHtml() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load report</title><style>")
+                .append("body{font-family:sans-serif;margin:2em;color:#222}table{border-collapse:collapse;margin:1em 0}")
+                .append("td,th{border:1px solid #ccc;padding:4px 10px;text-align:right}th{background:#f4f4f4}")
+                .append(".note{color:#666;font-size:90%}</style></head><body>\n");
+        html.append("<h1>Load report</h1>\n<p>")
+                .append(escape(options.getMode().name().toLowerCase(Locale.ROOT))).append("-loop run against ")
+                .append(escape(options.getUrl())).append(", started ").append(startedAt)
+                .append(String.format(Locale.ROOT, ". %d requests measured over %.1f s (%.1f req/s",
+                        corrected.getTotalCount(), options.getDuration().toMillis() / 1000.0, throughput()));
+        if (options.getRate() > 0) {
+            html.append(String.format(Locale.ROOT, ", target %.1f req/s", options.getRate()));
+        }
+        html.append(").</p>\n");
+        if (count(LatencyRecorder.Outcome.DROPPED) > 0) {
+            html.append(String.format(Locale.ROOT, "<p><b>%d requests were dropped</b> over --max-in-flight=%d; "
+                    + "the corrected latency counts them as answered at the end of the run.</p>\n",
+                    count(LatencyRecorder.Outcome.DROPPED), options.getMaxInFlight()));
+        }
+        
+        html.append("<h2>Outcomes</h2>\n<table><tr>");
+        for (LatencyRecorder.Outcome outcome : LatencyRecorder.Outcome.values()) {
+            html.append("<th>").append(outcome.name().toLowerCase(Locale.ROOT)).append("</th>");
+        }
+        html.append("</tr><tr>");
+        for (long count : outcomes) {
+            html.append("<td>").append(count).append("</td>");
+        }
+        html.append("</tr></table>\n");
+        
+        html.append("<h2>Latency (ms)</h2>\n<table><tr><th></th><th>mean</th>");
+        for (double percentile : PERCENTILES) {
+            html.append("<th>p").append(formatPercentile(percentile)).append("</th>");
+        }
+        html.append("<th>max</th></tr>\n");
+        appendLatencyRow(html, "corrected", corrected);
+        appendLatencyRow(html, "uncorrected", uncorrected);
+        html.append("</table>\n<p class=\"note\">Corrected latency is measured from each request's intended start, ")
+                .append("so it includes time spent queued behind slow requests (coordinated-omission correction). ")
+                .append("Dropped requests are included as if answered at the end of the run. ")
+                .append("Uncorrected latency is measured from the actual send.</p>\n");
+        
+        html.append("<h2>Percentile distribution</h2>\n").append(percentileChart());
+        html.append("<h2>Timeline</h2>\n").append(timelineChart());
+        html.append("</body></html>\n");
+        return html.toString();
+    }
+
+    private static void appendLatencyRow(StringBuilder html, String name, Histogram histogram) {
+        html.append("<tr><th>").append(name).append("</th>")
+                .append(String.format(Locale.ROOT, "<td>%.3f</td>",
+                        histogram.getTotalCount() == 0 ? 0 : histogram.getMean() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            html.append(String.format(Locale.ROOT, "<td>%.3f</td>", millis(histogram.getValueAtPercentile(percentile))));
+        }
+        html.append(String.format(Locale.ROOT, "<td>%.3f</td></tr>\n", millis(histogram.getMaxValue())));
+    }
+
+    // Latency against percentile on the usual HdrHistogram log scale: x = log10(1 / (1 - p))
+    private String percentileChart() {
+        double maxMillis = Math.max(millis(corrected.getMaxValue()), 0.001);
+        Chart chart = new Chart(5, maxMillis);
+        StringBuilder svg = chart.open();
+        for (int decade = 0; decade < PERCENTILE_DECADES.length; decade++) {
+            svg.append(chart.xTick(decade, PERCENTILE_DECADES[decade]));
+        }
+        svg.append(chart.yTicks("ms"));
+        svg.append(chart.polyline(percentilePoints(corrected), "#c0392b"));
+        svg.append(chart.polyline(percentilePoints(uncorrected), "#2980b9"));
+        svg.append(chart.legend("corrected", "#c0392b", 0)).append(chart.legend("uncorrected", "#2980b9", 1));
+        return svg.append("</svg>\n").toString();
+    }
+
+    private static List<double[]> percentilePoints(Histogram histogram) {
+        List<double[]> points = new ArrayList<>();
+        if (histogram.getTotalCount() == 0) {
+            return points;
+        }
+        for (HistogramIterationValue value : histogram.percentiles(5)) {
+            double percentile = value.getPercentileLevelIteratedTo() / 100.0;
+            if (percentile >= 0.99999) {
+                break;
+            }
+            points.add(new double[]{Math.log10(1 / (1 - percentile)), millis(value.getValueIteratedTo())});
+        }
+        points.add(new double[]{5, millis(histogram.getMaxValue())});
+        return points;
+    }
+
+    private String timelineChart() {
+        if (timeline.isEmpty()) {
+            return "<p>No intervals recorded.</p>\n";
+        }
+        double maxMillis = 0.001;
+        for (TimelinePoint point : timeline) {
+            maxMillis = Math.max(maxMillis, point.p99Millis());
+        }
+        Chart chart = new Chart(Math.max(elapsedSeconds, 1), maxMillis);
+        StringBuilder svg = chart.open();
+        for (int tick = 0; tick <= 5; tick++) {
+            double second = Math.max(elapsedSeconds, 1) * tick / 5;
+            svg.append(chart.xTick(second, String.format(Locale.ROOT, "%.0fs", second)));
+        }
+        svg.append(chart.yTicks("ms"));
+        List<double[]> p50 = new ArrayList<>();
+        List<double[]> p99 = new ArrayList<>();
+        for (TimelinePoint point : timeline) {
+            p50.add(new double[]{point.second(), point.p50Millis()});
+            p99.add(new double[]{point.second(), point.p99Millis()});
+        }
+        svg.append(chart.polyline(p99, "#c0392b")).append(chart.polyline(p50, "#27ae60"));
+        svg.append(chart.legend("p99 (corrected)", "#c0392b", 0)).append(chart.legend("p50 (corrected)", "#27ae60", 1));
+        svg.append("</svg>\n");
+        
+        svg.append("<table><tr><th>second</th><th>requests</th><th>errors</th><th>p50 ms</th><th>p99 ms</th><th>max ms</th></tr>\n");
+        for (TimelinePoint point : timeline) {
+            svg.append(String.format(Locale.ROOT,
+                    "<tr><td>%.1f</td><td>%d</td><td>%d</td><td>%.3f</td><td>%.3f</td><td>%.3f</td></tr>\n",
+                    point.second(), point.requests(), point.errors(), point.p50Millis(), point.p99Millis(), point.maxMillis()));
+        }
+        return svg.append("</table>\n").toString();
+    }
+
+    /** Minimal SVG line chart with a linear y axis starting at zero. */
+    private static final class Chart {
+        private static final int WIDTH = 720;
+        private static final int HEIGHT = 320;
+        private static final int LEFT = 60;
+        private static final int BOTTOM = 30;
+        private static final int TOP = 10;
+
+        private final double maxX;
+        private final double maxY;
+
+        Chart(double maxX, double maxY) {
+            this.maxX = maxX;
+            this.maxY = maxY * 1.05;
+        }
+
+        StringBuilder open() {
+            return new StringBuilder(String.format(Locale.ROOT,
+                    "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-size=\"11\">"
+                            + "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"none\" stroke=\"#999\"/>\n",
+                    WIDTH, HEIGHT, LEFT, TOP, WIDTH - LEFT - 10, HEIGHT - TOP - BOTTOM));
+        }
+
+        double x(double value) {
+            return LEFT + (WIDTH - LEFT - 10) * value / maxX;
+        }
+
+        double y(double value) {
+            return HEIGHT - BOTTOM - (HEIGHT - TOP - BOTTOM) * value / maxY;
+        }
+
+        String xTick(double value, String label) {
+            return String.format(Locale.ROOT,
+                    "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#eee\"/>"
+                            + "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%s</text>\n",
+                    x(value), TOP, x(value), HEIGHT - BOTTOM, x(value), HEIGHT - BOTTOM + 15, label);
+        }
+
+        String yTicks(String unit) {
+            StringBuilder ticks = new StringBuilder();
+            for (int tick = 0; tick <= 4; tick++) {
+                double value = maxY * tick / 4;
+                ticks.append(String.format(Locale.ROOT,
+                        "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#eee\"/>"
+                                + "<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%.2f %s</text>\n",
+                        LEFT, y(value), WIDTH - 10, y(value), LEFT - 4, y(value) + 4, value, unit));
+            }
+            return ticks.toString();
+        }
+
+        String polyline(List<double[]> points, String color) {
+            StringBuilder polyline = new StringBuilder("<polyline fill=\"none\" stroke-width=\"2\" stroke=\"")
+                    .append(color).append("\" points=\"");
+            for (double[] point : points) {
+                polyline.append(String.format(Locale.ROOT, "%.1f,%.1f ", x(point[0]), y(point[1])));
+            }
+            return polyline.append("\"/>\n").toString();
+        }
+
+        String legend(String label, String color, int row) {
+            return String.format(Locale.ROOT,
+                    "<rect x=\"%d\" y=\"%d\" width=\"12\" height=\"3\" fill=\"%s\"/><text x=\"%d\" y=\"%d\">%s</text>\n",
+                    LEFT + 10, TOP + 14 + row * 16, color, LEFT + 28, TOP + 18 + row * 16, label);
+        }
+    }
+
+    private static void writePercentileDistribution(Histogram histogram, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            // Values are recorded in microseconds; scale so the file reads in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,90 @@
+package com.creditrefinancing.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Weighted set of requests to send. A mix file is a JSON array of
+ * {@code {"name": ..., "weight": ..., "path": ..., "body": {...}}}; {@code path} defaults to
+ * {@code /simulation/calculate}. Bodies are serialized once up front so picking a request costs a
+ * binary search and nothing else.
+ */
+public final class RequestMix {
+
+    static final String DEFAULT_PATH = "/simulation/calculate";
+    private static final String DEFAULT_MIX = "/default-mix.json";
+
+    public record Entry(String name, String path, byte[] body) {
+    }
+
+    private final Entry[] entries;
+    private final double[] cumulativeWeights;
+
+    RequestMix(List<Entry> entries, List<Double> weights) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("Request mix is empty");
+        }
+        this.entries = entries.toArray(Entry[]::new);
+        this.cumulativeWeights = new double[weights.size()];
+        double total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            if (!(weights.get(i) > 0)) {
+                throw new IllegalArgumentException("Weight of '" + entries.get(i).name() + "' must be positive");
+            }
+            total += weights.get(i);
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            cumulativeWeights[i] /= total;
+        }
+    }
+
+    public static RequestMix load(Path file, ObjectMapper objectMapper) throws IOException {
+        if (file == null) {
+            try (InputStream in = RequestMix.class.getResourceAsStream(DEFAULT_MIX)) {
+                return parse(objectMapper.readTree(in), objectMapper);
+            }
+        }
+        return parse(objectMapper.readTree(Files.readAllBytes(file)), objectMapper);
+    }
+
+    static RequestMix parse(JsonNode mix, ObjectMapper objectMapper) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (JsonNode entry : mix) {
+            String name = entry.path("name").asText("request-" + entries.size());
+            if (!entry.hasNonNull("body")) {
+                throw new IllegalArgumentException("Mix entry '" + name + "' has no body");
+            }
+            entries.add(new Entry(name, entry.path("path").asText(DEFAULT_PATH),
+                    objectMapper.writeValueAsBytes(entry.get("body"))));
+            weights.add(entry.path("weight").asDouble(1));
+        }
+        return new RequestMix(entries, weights);
+    }
+
+    /**
+     * Entry for a uniform random number in [0, 1).
+     */
+    public Entry pick(double uniform) {
+        int index = Arrays.binarySearch(cumulativeWeights, uniform);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return entries[Math.min(index, entries.length - 1)];
+    }
+
+    public Entry entry(int index) {
+        return entries[index];
+    }
+
+    public int size() {
+        return entries.length;
+    }
+}
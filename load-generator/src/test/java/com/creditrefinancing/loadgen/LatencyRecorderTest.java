@@ -0,0 +1,78 @@
+package com.creditrefinancing.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Latency Recorder Tests")
+class LatencyRecorderTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should measure corrected latency from the intended start and uncorrected from the send")
+    void shouldMeasureFromIntendedStart() {
+        LatencyRecorder recorder = new LatencyRecorder(0);
+
+        // Scheduled at 0, sent 40 ms late because the generator was stalled, answered 10 ms later
+        recorder.record(0, 40 * MS, 50 * MS, LatencyRecorder.Outcome.SUCCESS);
+        LatencyRecorder.Interval interval = recorder.interval();
+
+        assertEquals(50_000, interval.corrected().getMaxValue(), 50);
+        assertEquals(10_000, interval.uncorrected().getMaxValue(), 10);
+        assertEquals(1, interval.outcomes()[LatencyRecorder.Outcome.SUCCESS.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("Should back-fill requests a stalled closed-loop worker failed to send")
+    void shouldBackFillClosedLoopStalls() {
+        LatencyRecorder recorder = new LatencyRecorder(10_000);
+
+        // One 100 ms response where the worker meant to send every 10 ms
+        recorder.record(0, 0, 100 * MS, LatencyRecorder.Outcome.SUCCESS);
+        LatencyRecorder.Interval interval = recorder.interval();
+
+        assertEquals(10, interval.corrected().getTotalCount());
+        assertEquals(1, interval.uncorrected().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Should count dropped requests and reset between intervals")
+    void shouldCountDroppedRequests() {
+        LatencyRecorder recorder = new LatencyRecorder(0);
+
+        recorder.record(0, 0, 0, LatencyRecorder.Outcome.DROPPED);
+        recorder.record(0, 0, 5 * MS, LatencyRecorder.Outcome.SERVER_ERROR);
+        LatencyRecorder.Interval first = recorder.interval();
+        LatencyRecorder.Interval second = recorder.interval();
+
+        assertEquals(1, first.outcomes()[LatencyRecorder.Outcome.DROPPED.ordinal()]);
+        assertEquals(1, first.outcomes()[LatencyRecorder.Outcome.SERVER_ERROR.ordinal()]);
+        assertEquals(0, second.corrected().getTotalCount());
+        assertEquals(0, second.outcomes()[LatencyRecorder.Outcome.DROPPED.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("Should record dropped requests as answered at the end of the run in the corrected histogram only")
+    void shouldRecordDroppedRequestsAtEndOfRun() {
+        LatencyRecorder recorder = new LatencyRecorder(0);
+
+        // Two requests dropped at 100 ms and 250 ms into a run that ended at 1 s
+        recorder.record(100 * MS, 100 * MS, 100 * MS, LatencyRecorder.Outcome.DROPPED);
+        recorder.record(250 * MS, 250 * MS, 250 * MS, LatencyRecorder.Outcome.DROPPED);
+        recorder.record(0, 0, 5 * MS, LatencyRecorder.Outcome.SUCCESS);
+        assertEquals(1, recorder.interval().corrected().getTotalCount());
+
+        recorder.recordDropped(1000 * MS);
+        recorder.recordDropped(2000 * MS);
+        LatencyRecorder.Interval interval = recorder.interval();
+
+        assertEquals(2, interval.corrected().getTotalCount());
+        assertEquals(750_000, interval.corrected().getMinValue(), 750);
+        assertEquals(900_000, interval.corrected().getMaxValue(), 900);
+        assertEquals(0, interval.uncorrected().getTotalCount());
+    }
+}
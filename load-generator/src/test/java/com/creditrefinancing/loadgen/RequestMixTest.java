@@ -0,0 +1,45 @@
+package com.creditrefinancing.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Request Mix Tests")
+class RequestMixTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should pick entries in proportion to their weights")
+    void shouldPickByWeight() throws Exception {
+        RequestMix mix = RequestMix.parse(objectMapper.readTree("""
+                [{"name": "a", "weight": 3, "body": {"x": 1}},
+                 {"name": "b", "weight": 1, "path": "/simulation/sweep", "body": {"x": 2}}]
+                """), objectMapper);
+
+        SplittableRandom random = new SplittableRandom(1);
+        int picksOfA = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (mix.pick(random.nextDouble()).name().equals("a")) {
+                picksOfA++;
+            }
+        }
+
+        assertEquals(75_000, picksOfA, 1_000);
+        assertEquals(RequestMix.DEFAULT_PATH, mix.pick(0).path());
+        assertEquals("/simulation/sweep", mix.pick(0.99).path());
+    }
+
+    @Test
+    @DisplayName("Should load the built-in mix and reject entries without a body")
+    void shouldLoadBuiltInMix() throws Exception {
+        assertEquals(5, RequestMix.load(null, objectMapper).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestMix.parse(objectMapper.readTree("[{\"name\": \"a\"}]"), objectMapper));
+    }
+}
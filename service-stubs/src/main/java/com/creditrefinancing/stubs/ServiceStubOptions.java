@@ -0,0 +1,120 @@
+package com.creditrefinancing.stubs;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, given as {@code --name=value}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class ServiceStubOptions {
+
+    static final String USAGE = """
+            Usage: java -jar service-stubs.jar [--name=value ...]
+              --services=simulation,proposal,formalization,after-sales
+                                       services to stub (default all; leave out simulation to use the real one)
+              --base-port=8081         simulation on base-port, proposal +1, formalization +2, after-sales +3
+              --min-latency=20ms       each answer is delayed uniformly between min and max (ms, s, m)
+              --max-latency=150ms
+              --failure-rate=0         fraction of requests answered 503 (0-1)
+              --service.<name>.min-latency, --service.<name>.max-latency, --service.<name>.failure-rate
+                                       the same for one service, e.g. --service.after-sales.max-latency=5s
+            """;
+
+    @Builder.Default Set<StubService> services = EnumSet.allOf(StubService.class);
+    @Builder.Default int basePort = 8081;
+    @Builder.Default Duration minLatency = Duration.ofMillis(20);
+    @Builder.Default Duration maxLatency = Duration.ofMillis(150);
+    @Builder.Default double failureRate = 0;
+    @Builder.Default Map<StubService, Behaviour> overrides = new EnumMap<>(StubService.class);
+
+    /**
+     * How one service answers.
+     */
+    public record Behaviour(Duration minLatency, Duration maxLatency, double failureRate) {}
+
+    public Behaviour behaviour(StubService service) {
+        return overrides.getOrDefault(service, new Behaviour(minLatency, maxLatency, failureRate));
+    }
+
+    public static ServiceStubOptions parse(String[] args) {
+        ServiceStubOptionsBuilder options = builder();
+        Map<StubService, String[]> perService = new EnumMap<>(StubService.class);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (name.startsWith("service.")) {
+                int dot = name.lastIndexOf('.');
+                if (dot < "service.".length()) {
+                    throw new IllegalArgumentException("Expected --service.<name>.<setting>=value but got '" + arg + "'");
+                }
+                StubService service = StubService.fromName(name.substring("service.".length(), dot));
+                String[] settings = perService.computeIfAbsent(service, ignored -> new String[3]);
+                switch (name.substring(dot + 1)) {
+                    case "min-latency" -> settings[0] = value;
+                    case "max-latency" -> settings[1] = value;
+                    case "failure-rate" -> settings[2] = value;
+                    default -> throw new IllegalArgumentException("Unknown option --" + name);
+                }
+                continue;
+            }
+            switch (name) {
+                case "services" -> options.services(EnumSet.copyOf(Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .map(StubService::fromName)
+                        .toList()));
+                case "base-port" -> options.basePort(Integer.parseInt(value));
+                case "min-latency" -> options.minLatency(parseDuration(value));
+                case "max-latency" -> options.maxLatency(parseDuration(value));
+                case "failure-rate" -> options.failureRate(Double.parseDouble(value));
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        
+        // Per-service settings fall back to the global ones, whatever the order they were given in
+        ServiceStubOptions global = options.build();
+        Map<StubService, Behaviour> overrides = new EnumMap<>(StubService.class);
+        perService.forEach((service, settings) -> overrides.put(service, new Behaviour(
+                settings[0] != null ? parseDuration(settings[0]) : global.getMinLatency(),
+                settings[1] != null ? parseDuration(settings[1]) : global.getMaxLatency(),
+                settings[2] != null ? Double.parseDouble(settings[2]) : global.getFailureRate())));
+        ServiceStubOptions parsed = global.toBuilder().overrides(overrides).build();
+        
+        for (StubService service : parsed.getServices()) {
+            Behaviour behaviour = parsed.behaviour(service);
+            if (behaviour.minLatency().compareTo(behaviour.maxLatency()) > 0) {
+                throw new IllegalArgumentException("min-latency is above max-latency for " + service.serviceName());
+            }
+            if (behaviour.failureRate() < 0 || behaviour.failureRate() > 1) {
+                throw new IllegalArgumentException("failure-rate must be between 0 and 1 for " + service.serviceName());
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses {@code 500ms}, {@code 30s}, {@code 2m}, or a plain number of milliseconds.
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        } else if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        } else if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+}
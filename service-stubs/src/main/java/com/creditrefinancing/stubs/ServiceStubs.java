@@ -0,0 +1,99 @@
+package com.creditrefinancing.stubs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stands in for the downstream services that do not exist yet, so the BFF can be run and
+ * load-tested end to end on one machine. Each stubbed service listens on its own port and
+ * answers after a random delay, failing a configurable share of requests with 503; giving one
+ * service a long delay or a high failure rate shows how the BFF copes with a slow or broken
+ * dependency.
+ */
+@Slf4j
+public final class ServiceStubs {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ServiceStubs() {
+    }
+
+    public static void main(String[] args) {
+        ServiceStubOptions options;
+        try {
+            options = ServiceStubOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ServiceStubOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        List<DisposableServer> servers = new ArrayList<>();
+        for (StubService service : options.getServices()) {
+            ServiceStubOptions.Behaviour behaviour = options.behaviour(service);
+            DisposableServer server = start(service, service.port(options.getBasePort()), behaviour);
+            servers.add(server);
+            log.info("Stubbing {} on http://localhost:{}{}?customer_id=... ({}-{} ms, {}% failures)",
+                    service.serviceName(), server.port(), service.path(), behaviour.minLatency().toMillis(),
+                    behaviour.maxLatency().toMillis(), behaviour.failureRate() * 100);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> servers.forEach(DisposableServer::disposeNow)));
+        
+        Mono.when(servers.stream().map(DisposableServer::onDispose).toList()).block();
+    }
+
+    /**
+     * Starts the stub of {@code service}; port 0 picks a free one.
+     */
+    static DisposableServer start(StubService service, int port, ServiceStubOptions.Behaviour behaviour) {
+        return HttpServer.create()
+                .port(port)
+                .route(routes -> routes
+                        .get("/health", (request, response) -> response.sendString(Mono.just("UP")))
+                        .get(service.path(), (request, response) -> answer(service, behaviour, request, response)))
+                .bindNow();
+    }
+
+    private static Publisher<Void> answer(StubService service, ServiceStubOptions.Behaviour behaviour,
+                                          HttpServerRequest request, HttpServerResponse response) {
+        List<String> customerIds = new QueryStringDecoder(request.uri()).parameters().get("customer_id");
+        if (customerIds == null || customerIds.isEmpty()) {
+            return response.status(HttpResponseStatus.BAD_REQUEST).sendString(Mono.just("customer_id is required"));
+        }
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long minNanos = behaviour.minLatency().toNanos();
+        long maxNanos = behaviour.maxLatency().toNanos();
+        Duration delay = Duration.ofNanos(maxNanos > minNanos ? random.nextLong(minNanos, maxNanos + 1) : minNanos);
+        if (random.nextDouble() < behaviour.failureRate()) {
+            return Mono.delay(delay).then(response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send());
+        }
+        
+        String body;
+        try {
+            body = OBJECT_MAPPER.writeValueAsString(service.records(customerIds.get(0)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        return Mono.delay(delay).then(response
+                .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendString(Mono.just(body))
+                .then());
+    }
+}
@@ -0,0 +1,124 @@
+package com.creditrefinancing.stubs;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * The downstream services that can be stubbed, each on {@code base port + offset} so the
+ * defaults line up with the BFF's {@code services.*.base-url}. Every service answers
+ * {@code GET <path>?customer_id=...} with a JSON array of made-up records, the same ones for the
+ * same customer, and {@code GET /health}.
+ */
+public enum StubService {
+
+    SIMULATION(0, "/simulations") {
+        @Override
+        ObjectNode record(String customerId, int index, SplittableRandom random) {
+            BigDecimal amount = amount(random, 20_000, 400_000);
+            return JsonNodeFactory.instance.objectNode()
+                    .put("simulation_id", "SIM-" + id(customerId, index))
+                    .put("customer_id", customerId)
+                    .put("status", pick(random, "CALCULATED", "APPROVED", "EXPIRED"))
+                    .put("new_loan_amount", amount)
+                    .put("new_interest_rate", BigDecimal.valueOf(random.nextInt(250, 1200), 2))
+                    .put("new_monthly_payment", amount.divide(BigDecimal.valueOf(120), 2, RoundingMode.HALF_UP))
+                    .put("expires_at", LocalDateTime.now().plusDays(30).format(TIMESTAMP));
+        }
+    },
+    PROPOSAL(1, "/proposals") {
+        @Override
+        ObjectNode record(String customerId, int index, SplittableRandom random) {
+            return JsonNodeFactory.instance.objectNode()
+                    .put("proposal_id", "PRP-" + id(customerId, index))
+                    .put("customer_id", customerId)
+                    .put("status", pick(random, "DRAFT", "SUBMITTED", "ACCEPTED", "DECLINED"))
+                    .put("amount", amount(random, 20_000, 400_000));
+        }
+    },
+    FORMALIZATION(2, "/formalizations") {
+        @Override
+        ObjectNode record(String customerId, int index, SplittableRandom random) {
+            return JsonNodeFactory.instance.objectNode()
+                    .put("formalization_id", "FRM-" + id(customerId, index))
+                    .put("customer_id", customerId)
+                    .put("status", pick(random, "AWAITING_SIGNATURE", "SIGNED", "REGISTERED"));
+        }
+    },
+    AFTER_SALES(3, "/contracts") {
+        @Override
+        ObjectNode record(String customerId, int index, SplittableRandom random) {
+            return JsonNodeFactory.instance.objectNode()
+                    .put("contract_id", "CTR-" + id(customerId, index))
+                    .put("customer_id", customerId)
+                    .put("status", pick(random, "ACTIVE", "IN_ARREARS", "SETTLED"))
+                    .put("outstanding_balance", amount(random, 0, 300_000));
+        }
+    };
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int MAX_RECORDS = 4;
+
+    private final int portOffset;
+    private final String path;
+
+    StubService(int portOffset, String path) {
+        this.portOffset = portOffset;
+        this.path = path;
+    }
+
+    public int port(int basePort) {
+        return basePort + portOffset;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public String serviceName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * The customer's records: zero to {@value #MAX_RECORDS} of them, depending only on the customer id.
+     */
+    public ArrayNode records(String customerId) {
+        SplittableRandom random = new SplittableRandom(customerId.hashCode() * 31L + ordinal());
+        ArrayNode records = JsonNodeFactory.instance.arrayNode();
+        int count = random.nextInt(MAX_RECORDS + 1);
+        for (int i = 0; i < count; i++) {
+            records.add(record(customerId, i, random));
+        }
+        return records;
+    }
+
+    abstract ObjectNode record(String customerId, int index, SplittableRandom random);
+
+    public static StubService fromName(String name) {
+        for (StubService service : values()) {
+            if (service.serviceName().equals(name)) {
+                return service;
+            }
+        }
+        throw new IllegalArgumentException("Unknown service '" + name + "'");
+    }
+
+    private static String id(String customerId, int index) {
+        return Integer.toHexString(customerId.hashCode()).toUpperCase(Locale.ROOT) + "-" + (index + 1);
+    }
+
+    private static BigDecimal amount(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(random.nextLong(min * 100L, max * 100L), 2);
+    }
+
+    private static String pick(SplittableRandom random, String... values) {
+        return values[random.nextInt(values.length)];
+    }
+}
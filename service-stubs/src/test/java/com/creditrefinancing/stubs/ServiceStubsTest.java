@@ -0,0 +1,73 @@
+package com.creditrefinancing.stubs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Service Stubs Tests")
+class ServiceStubsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should answer with the same records for the same customer after the configured delay")
+    void shouldAnswerWithCustomerRecords() throws Exception {
+        DisposableServer server = ServiceStubs.start(StubService.PROPOSAL, 0,
+                new ServiceStubOptions.Behaviour(Duration.ofMillis(100), Duration.ofMillis(100), 0));
+        try {
+            long start = System.nanoTime();
+            String first = get(server, "/proposals?customer_id=CUST-1");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            String second = get(server, "/proposals?customer_id=CUST-1");
+
+            JsonNode proposals = objectMapper.readTree(first);
+            assertTrue(proposals.isArray());
+            proposals.forEach(proposal -> assertEquals("CUST-1", proposal.get("customer_id").asText()));
+            assertEquals(first, second);
+            assertTrue(elapsedMillis >= 100, "answered after " + elapsedMillis + " ms");
+            assertEquals(400, status(server, "/proposals"));
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail requests at the configured rate and parse per-service options")
+    void shouldFailAtConfiguredRate() {
+        DisposableServer server = ServiceStubs.start(StubService.AFTER_SALES, 0,
+                new ServiceStubOptions.Behaviour(Duration.ZERO, Duration.ZERO, 1));
+        try {
+            assertEquals(503, status(server, "/contracts?customer_id=CUST-1"));
+        } finally {
+            server.disposeNow();
+        }
+
+        ServiceStubOptions options = ServiceStubOptions.parse(new String[] {
+                "--services=proposal,after-sales", "--service.after-sales.max-latency=5s", "--min-latency=10ms"});
+        assertEquals(2, options.getServices().size());
+        assertEquals(Duration.ofSeconds(5), options.behaviour(StubService.AFTER_SALES).maxLatency());
+        assertEquals(Duration.ofMillis(10), options.behaviour(StubService.AFTER_SALES).minLatency());
+        assertEquals(Duration.ofMillis(150), options.behaviour(StubService.PROPOSAL).maxLatency());
+        assertThrows(IllegalArgumentException.class,
+                () -> ServiceStubOptions.parse(new String[] {"--min-latency=1s", "--max-latency=10ms"}));
+    }
+
+    private static String get(DisposableServer server, String uri) {
+        return HttpClient.create().port(server.port()).get().uri(uri)
+                .responseContent().aggregate().asString().block(Duration.ofSeconds(5));
+    }
+
+    private static int status(DisposableServer server, String uri) {
+        return HttpClient.create().port(server.port()).get().uri(uri)
+                .response().block(Duration.ofSeconds(5)).status().code();
+    }
+}